@@ -0,0 +1,100 @@
+package cellsociety.benchmark;
+
+import cellsociety.config.SimulationConfig;
+import cellsociety.model.Grid;
+import cellsociety.model.cell.CellFactory;
+import cellsociety.model.edge.EdgeStrategyFactory;
+import cellsociety.model.edge.EdgeStrategyFactory.EdgeStrategyType;
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.SimulationMetaData;
+import cellsociety.model.xml.GridException;
+import cellsociety.model.xml.InvalidStateException;
+import cellsociety.model.xml.XMLHandler;
+import java.io.IOException;
+import java.util.Map;
+import java.util.SplittableRandom;
+import javax.xml.parsers.ParserConfigurationException;
+import org.xml.sax.SAXException;
+
+/**
+ * Creates the grids and simulations stepped by the benchmarks. Every simulation takes its
+ * parameters from a representative configuration file of its type, and every grid starts from
+ * random states drawn with a fixed seed.
+ * <p>
+ * The benchmarks time every step on its own and take a fixed number of warmup and measured steps,
+ * so with these seeds every run steps each grid through the same states and results can be
+ * compared across releases.
+ *
+ * @author Owen Jennings
+ */
+final class BenchmarkGrids {
+
+  static final long SEED = 308;
+  private static final String SIMULATIONS_DIRECTORY = "src/main/resources/simulations/";
+  private static final Map<String, String> CONFIGURATION_FILES = Map.ofEntries(
+      Map.entry("Darwin", "Darwin/Ecosystem.xml"),
+      Map.entry("FallingSand", "Falling Sand/SandPile.xml"),
+      Map.entry("ForagingAnts", "ExampleXMLs/ForagingAntsExample.xml"),
+      Map.entry("GameOfLife", "ExampleXMLs/GameOfLifeExample.xml"),
+      Map.entry("LangtonsLoops", "Langtons Loops/LangtonsLoopsSmall.xml"),
+      Map.entry("Percolation", "ExampleXMLs/PercolationExample.xml"),
+      Map.entry("RockPaperScissors", "ExampleXMLs/RockPaperScissorsExample.xml"),
+      Map.entry("RuleTable", "Rule Tables/LangtonsLoopsTable.xml"),
+      Map.entry("Segregation", "ExampleXMLs/SegregationExample.xml"),
+      Map.entry("SpreadingOfFire", "ExampleXMLs/SpreadingOfFireExample.xml"),
+      Map.entry("Sugarscape", "ExampleXMLs/SugarscapeExample.xml"),
+      Map.entry("WaTorWorld", "ExampleXMLs/WaTorWorldExample.xml"));
+
+  private BenchmarkGrids() {
+  }
+
+  /**
+   * Create a seeded simulation of the provided type with the parameters of its configuration file.
+   *
+   * @param simulationType The type of the simulation
+   * @param neighborType   The neighbor type to use, or null for the one of the configuration file
+   * @return The simulation
+   * @throws IllegalArgumentException If the type has no configuration file
+   */
+  static Simulation createSimulation(String simulationType, String neighborType)
+      throws SAXException, IOException, ParserConfigurationException, GridException,
+      InvalidStateException, ReflectiveOperationException, InvalidParameterException {
+    String configurationFile = CONFIGURATION_FILES.get(simulationType);
+    if (configurationFile == null) {
+      throw new IllegalArgumentException(
+          String.format("No benchmark configuration for simulation %s.", simulationType));
+    }
+    XMLHandler xmlHandler = new XMLHandler(SIMULATIONS_DIRECTORY + configurationFile);
+    SimulationMetaData metaData = xmlHandler.getSimData();
+    if (neighborType != null) {
+      metaData = new SimulationMetaData(metaData.type(), metaData.name(), metaData.author(),
+          metaData.description(), neighborType, metaData.layers());
+    }
+    Simulation simulation = SimulationConfig.getNewSimulation(simulationType, metaData,
+        xmlHandler.getParams());
+    simulation.random().setSeed(SEED);
+    return simulation;
+  }
+
+  /**
+   * Create a square grid of random states of the provided simulation.
+   *
+   * @param simulation The simulation whose states and cells fill the grid
+   * @param size       The number of rows and columns of the grid
+   * @param edgeType   The edge strategy of the grid
+   * @return The grid
+   */
+  static Grid createGrid(Simulation simulation, int size, EdgeStrategyType edgeType) {
+    Grid grid = new Grid(size, size, EdgeStrategyFactory.createEdgeStrategy(edgeType));
+    SplittableRandom random = new SplittableRandom(SEED);
+    int numStates = simulation.rules().getNumberStates();
+    CellFactory cellFactory = SimulationConfig.getCellFactory(simulation.data().type());
+    for (int row = 0; row < size; row++) {
+      for (int col = 0; col < size; col++) {
+        grid.addCell(cellFactory.createCell(row, col, random.nextInt(numStates)));
+      }
+    }
+    return grid;
+  }
+}
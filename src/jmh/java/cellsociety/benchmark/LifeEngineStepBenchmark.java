@@ -0,0 +1,86 @@
+package cellsociety.benchmark;
+
+import cellsociety.model.Grid;
+import cellsociety.model.edge.EdgeStrategyFactory.EdgeStrategyType;
+import cellsociety.model.engine.BitPackedLifeEngine;
+import cellsociety.model.engine.HashLifeEngine;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.rules.GameOfLifeRules;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one Game of Life step of a random grid made by each engine a batch run can step Game of
+ * Life with, so the grid update and the dedicated engines can be compared. Grids have fixed edges,
+ * the only edge strategy every engine supports.
+ * <p>
+ * The grid update and the bit-packed engine step through the same states. HashLife steps an
+ * unbounded plane rather than fixed edges, and random states touch the edges from the first step,
+ * so its cells grow past the grid and its states diverge from the others within a few steps. Its
+ * timings compare the cost of a step on a grid of the same size, not of the same step.
+ *
+ * @author Owen Jennings
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class LifeEngineStepBenchmark {
+
+  @Param({"GRID", "BIT_PACKED", "HASH_LIFE"})
+  String engine;
+
+  @Param({"100", "500", "2000"})
+  int size;
+
+  private Grid myGrid;
+  private Simulation mySimulation;
+  private BitPackedLifeEngine myBitPackedEngine;
+  private HashLifeEngine myHashLifeEngine;
+
+  /**
+   * Create the simulation, fill its grid with random states and load the engine.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    mySimulation = BenchmarkGrids.createSimulation("GameOfLife", null);
+    myGrid = BenchmarkGrids.createGrid(mySimulation, size, EdgeStrategyType.FIXED);
+    GameOfLifeRules rules = (GameOfLifeRules) mySimulation.rules();
+    if (engine.equals("BIT_PACKED")) {
+      myBitPackedEngine = new BitPackedLifeEngine(myGrid, rules);
+    } else if (engine.equals("HASH_LIFE")) {
+      myHashLifeEngine = new HashLifeEngine(myGrid, rules);
+    }
+  }
+
+  /**
+   * Step the grid once with the engine.
+   *
+   * @return A result of the step, so the step is not optimized away
+   */
+  @Benchmark
+  public long step() {
+    if (myHashLifeEngine != null) {
+      myHashLifeEngine.step(0);
+      return myHashLifeEngine.getPopulation();
+    }
+    if (myBitPackedEngine != null) {
+      myBitPackedEngine.step();
+      return myBitPackedEngine.getChangedCells();
+    }
+    return myGrid.updateGrid(mySimulation).size();
+  }
+}
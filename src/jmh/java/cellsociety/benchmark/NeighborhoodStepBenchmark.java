@@ -0,0 +1,68 @@
+package cellsociety.benchmark;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.CellUpdate;
+import cellsociety.model.edge.EdgeStrategyFactory.EdgeStrategyType;
+import cellsociety.model.simulation.Simulation;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one step of Game of Life with every neighbor type and every edge strategy on square
+ * grids of several sizes, so the cost of finding neighbors can be compared apart from the cost of
+ * the rules.
+ *
+ * @author Owen Jennings
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class NeighborhoodStepBenchmark {
+
+  @Param({"Moore", "VonNeumann", "HexagonMoore", "HexagonVonNeumann", "TriangleMoore",
+      "TriangleVonNeumann"})
+  String neighbors;
+
+  @Param({"FIXED", "TOROIDAL", "MIRROR"})
+  EdgeStrategyType edges;
+
+  @Param({"100", "500", "2000"})
+  int size;
+
+  private Grid myGrid;
+  private Simulation mySimulation;
+
+  /**
+   * Create a Game of Life simulation with the neighbors and fill its grid with random states.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    mySimulation = BenchmarkGrids.createSimulation("GameOfLife", neighbors);
+    myGrid = BenchmarkGrids.createGrid(mySimulation, size, edges);
+  }
+
+  /**
+   * Step the grid once.
+   *
+   * @return The cell updates of the step, so the step is not optimized away
+   */
+  @Benchmark
+  public List<CellUpdate> step() {
+    return myGrid.updateGrid(mySimulation);
+  }
+}
@@ -0,0 +1,83 @@
+package cellsociety.benchmark;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.CellUpdate;
+import cellsociety.model.edge.EdgeStrategyFactory.EdgeStrategyType;
+import cellsociety.model.simulation.Simulation;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one step of the rules that support parallel updates on pools of several sizes, so the
+ * scaling of parallel stripes can be read off one run. A pool of one thread still steps through
+ * the parallel stripes, so it shows their overhead over a sequential step.
+ * <p>
+ * Only evaluating the next states is parallel, so the step time does not shrink below the time
+ * spent applying them on the calling thread.
+ *
+ * @author Owen Jennings
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParallelStepBenchmark {
+
+  @Param({"GameOfLife", "LangtonsLoops", "RockPaperScissors", "SpreadingOfFire"})
+  String simulation;
+
+  @Param({"500", "2000"})
+  int size;
+
+  @Param({"1", "2", "4", "8"})
+  int threads;
+
+  private Grid myGrid;
+  private Simulation mySimulation;
+  private ForkJoinPool myPool;
+
+  /**
+   * Create the simulation, fill its grid with random states and create the pool.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    mySimulation = BenchmarkGrids.createSimulation(simulation, null);
+    myGrid = BenchmarkGrids.createGrid(mySimulation, size, EdgeStrategyType.TOROIDAL);
+    myPool = new ForkJoinPool(threads);
+    myGrid.setParallelUpdate(myPool);
+  }
+
+  /**
+   * Shut down the pool of the trial.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    myPool.shutdown();
+  }
+
+  /**
+   * Step the grid once.
+   *
+   * @return The cell updates of the step, so the step is not optimized away
+   */
+  @Benchmark
+  public List<CellUpdate> step() {
+    return myGrid.updateGrid(mySimulation);
+  }
+}
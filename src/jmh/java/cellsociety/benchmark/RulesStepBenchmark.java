@@ -0,0 +1,71 @@
+package cellsociety.benchmark;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.CellUpdate;
+import cellsociety.model.edge.EdgeStrategyFactory.EdgeStrategyType;
+import cellsociety.model.simulation.Simulation;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one step of every simulation rules class on square grids of several sizes, using the
+ * neighbors of each simulation's configuration file and toroidal edges. Each grid is stepped by
+ * evaluating every cell and from a frontier of changed cells, which only differ for rules that
+ * support frontier updates.
+ *
+ * @author Owen Jennings
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RulesStepBenchmark {
+
+  @Param({"Darwin", "FallingSand", "ForagingAnts", "GameOfLife", "LangtonsLoops", "Percolation",
+      "RockPaperScissors", "RuleTable", "Segregation", "SpreadingOfFire", "Sugarscape",
+      "WaTorWorld"})
+  String simulation;
+
+  @Param({"100", "500", "2000"})
+  int size;
+
+  @Param({"FULL", "FRONTIER"})
+  String update;
+
+  private Grid myGrid;
+  private Simulation mySimulation;
+
+  /**
+   * Create the simulation and fill its grid with random states.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    mySimulation = BenchmarkGrids.createSimulation(simulation, null);
+    myGrid = BenchmarkGrids.createGrid(mySimulation, size, EdgeStrategyType.TOROIDAL);
+    myGrid.setFrontierUpdate(update.equals("FRONTIER"));
+  }
+
+  /**
+   * Step the grid once.
+   *
+   * @return The cell updates of the step, so the step is not optimized away
+   */
+  @Benchmark
+  public List<CellUpdate> step() {
+    return myGrid.updateGrid(mySimulation);
+  }
+}
@@ -9,7 +9,7 @@ import org.apache.logging.log4j.Logger;
 
 import cellsociety.controller.PreferencesController;
 import cellsociety.model.edge.EdgeStrategyFactory.EdgeStrategyType;
-import cellsociety.utility.FileUtility;
+import cellsociety.model.storage.CellStorageFactory.CellStorageType;
 import cellsociety.view.grid.GridViewFactory.CellShapeType;
 
 /**
@@ -39,16 +39,21 @@ public class MainConfig {
   public static final double INITIAL_STEP_SPEED = 0.5;
   public static final double STEP_SPEED = 1 / Double.parseDouble(
       PreferencesController.getPreference("animationSpeed", String.valueOf(INITIAL_STEP_SPEED)));
+  public static final int MAX_GENERATIONS_PER_FRAME = 100;
+  public static final int GENERATIONS_PER_FRAME = Integer.parseInt(
+      PreferencesController.getPreference("generationsPerFrame", "1"));
   public static final int MAX_GRID_NUM_ROWS = 150;
   public static final int MAX_GRID_NUM_COLS = 150;
   public static final int MIN_GRID_NUM_ROWS = 5;
   public static final int MIN_GRID_NUM_COLS = 5;
+  // larger rectangle grids are drawn as pixels rather than one node per cell
+  public static final int MAX_SHAPE_GRID_CELLS = MAX_GRID_NUM_ROWS * MAX_GRID_NUM_COLS;
   public static final int SIDEBAR_WIDTH = WIDTH - GRID_WIDTH - (3 * MARGIN);
   public static final CellShapeType DEFAULT_CELL_SHAPE = CellShapeType.RECTANGLE;
   public static final EdgeStrategyType DEFAULT_EDGE_STRATEGY = EdgeStrategyType.FIXED;
+  public static final CellStorageType DEFAULT_STORAGE_TYPE = CellStorageType.MAP;
   public static final Logger LOGGER = LogManager.getLogger(); // The logger for this program
   private static final ResourceBundle myCellColors = ResourceBundle.getBundle(COLOR_CONFIG_FILE);
-  private static final String LANGUAGES_PATH = "src/main/resources/cellsociety/languages/";
 
   /**
    * Get the message string from the config file for the provided key.
@@ -101,7 +106,7 @@ public class MainConfig {
    * @return A list of strings representing the languages.
    */
   public static List<String> fetchLanguages() {
-    return FileUtility.getFileNamesInDirectory(LANGUAGES_PATH, ".properties");
+    return RegistryConfig.LANGUAGES;
   }
 
   /**
@@ -0,0 +1,29 @@
+package cellsociety.config;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ResourceBundle;
+
+/**
+ * The simulations, neighbor types, languages and themes of the program. They are listed in an
+ * index that is packaged with the program, so they are known at startup without scanning source
+ * folders, and the program runs the same from a jar as from a checkout.
+ *
+ * @author Owen Jennings
+ */
+public class RegistryConfig {
+
+  public static final String REGISTRY_FILE = "cellsociety.Registry";
+  private static final ResourceBundle myRegistry = ResourceBundle.getBundle(REGISTRY_FILE);
+  public static final List<String> SIMULATIONS = getNames("SIMULATIONS");
+  public static final List<String> NEIGHBOR_TYPES = getNames("NEIGHBORS");
+  public static final List<String> LANGUAGES = getNames("LANGUAGES");
+  public static final List<String> THEMES = getNames("THEMES");
+
+  private static List<String> getNames(String key) {
+    return Arrays.stream(myRegistry.getString(key).split(","))
+        .map(String::trim)
+        .filter(name -> !name.isEmpty())
+        .toList();
+  }
+}
@@ -1,6 +1,13 @@
 package cellsociety.config;
 
 import java.awt.geom.Point2D;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -8,10 +15,13 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static cellsociety.config.MainConfig.LOGGER;
 import static cellsociety.config.MainConfig.getMessage;
 import cellsociety.model.cell.Cell;
+import cellsociety.model.cell.CellFactory;
 import cellsociety.model.cell.DefaultCell;
 import cellsociety.model.simulation.GetNeighbors;
 import cellsociety.model.simulation.InvalidParameterException;
@@ -20,9 +30,9 @@ import cellsociety.model.simulation.Simulation;
 import cellsociety.model.simulation.SimulationCreationException;
 import cellsociety.model.simulation.SimulationMetaData;
 import cellsociety.model.simulation.SimulationRules;
-import cellsociety.utility.FileUtility;
 import cellsociety.view.config.StateDisplayConfig;
 import cellsociety.view.config.StateInfo;
+import cellsociety.view.config.StateRegistry;
 
 /**
  * Store all information pertaining to simulations.
@@ -34,19 +44,27 @@ public class SimulationConfig {
   private static final String SIMULATION_RULES_PACKAGE = "cellsociety.model.simulation.rules.";
   public static final String
       INSTRUCTIONS_FILE_PATH = "cellsociety.darwin instructions.DInstructions";
-  public static final String
-      SIMULATION_RULES_RELATIVE_PATH = "src/main/java/cellsociety/model/simulation/rules/";
   private static final ResourceBundle
       myInstructions = ResourceBundle.getBundle(INSTRUCTIONS_FILE_PATH);
+  private static final String CELL_PACKAGE = "cellsociety.model.cell.";
+  private static final CellFactory DEFAULT_CELL_FACTORY =
+      (row, col, state) -> new DefaultCell(state, new Point2D.Double(row, col));
+  private static final MethodType CELL_CONSTRUCTOR_TYPE =
+      MethodType.methodType(void.class, int.class, Point2D.class);
+  private static final MethodType CREATE_CELL_TYPE =
+      MethodType.methodType(Cell.class, int.class, Point2D.class);
+  private static final Map<String, CellFactory> CELL_FACTORIES = new ConcurrentHashMap<>();
+  private static final Map<String, Constructor<?>> RULES_CONSTRUCTORS = new ConcurrentHashMap<>();
+  private static final Map<String, Constructor<?>> NEIGHBORS_CONSTRUCTORS =
+      new ConcurrentHashMap<>();
 
 
   /**
-   * List of all the simulation names Note: The simulation rules must follow the naming convention
-   * NameRules.java, to be included. Additionally, the rules file must be located in the correct
-   * rules package.
+   * List of all the simulation names, as registered in the registry index. Note: The simulation
+   * rules must follow the naming convention NameRules.java and be located in the rules package.
    */
-  public static final String[] SIMULATIONS = FileUtility.getFileNamesInDirectory(
-      SIMULATION_RULES_RELATIVE_PATH, "Rules.java").toArray(new String[0]);
+  public static final String[] SIMULATIONS = RegistryConfig.SIMULATIONS.toArray(new String[0]);
+  private static final Set<String> SIMULATION_NAMES = Set.copyOf(RegistryConfig.SIMULATIONS);
 
   /**
    * Get the list of required parameters for a given simulation name/typed Calls the static method
@@ -81,18 +99,26 @@ public class SimulationConfig {
    * exist
    */
   public static Cell getNewCell(int row, int col, int state, String simulationName) {
-    validateSimulation(simulationName);
-    String className = String.format("cellsociety.model.cell.%sCell", simulationName);
-    try {
-      Class<?> cellClass = Class.forName(className);
-      return (Cell) cellClass.getConstructor(int.class, Point2D.class)
-          .newInstance(state, new Point2D.Double(row, col));
-    } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException |
-             IllegalAccessException | InvocationTargetException e) {
-      // If specialized cell type does not exist for a simulation or an error occurs
-      // while trying to get specialized cell, fallback to default cell type
-      return new DefaultCell(state, new Point2D.Double(row, col));
+    return getCellFactory(simulationName).createCell(row, col, state);
+  }
+
+  /**
+   * Get the factory that creates the cells of a simulation type. The cell type is resolved the
+   * first time a simulation type is queried, so callers that create many cells should keep the
+   * factory instead of calling getNewCell for every cell.
+   *
+   * @param simulationName name/type of simulation to create cells for
+   * @return A factory of the specialized cell type of the simulation, or of default cells if the
+   * simulation has none
+   */
+  public static CellFactory getCellFactory(String simulationName) {
+    CellFactory cellFactory = CELL_FACTORIES.get(simulationName);
+    if (cellFactory == null) {
+      validateSimulation(simulationName);
+      cellFactory = CELL_FACTORIES.computeIfAbsent(simulationName,
+          SimulationConfig::createCellFactory);
     }
+    return cellFactory;
   }
 
   /**
@@ -128,18 +154,12 @@ public class SimulationConfig {
    * @return The state info for the simulation and display name you are querying for
    */
   public static StateInfo getStateInfoFromDisplayName(Simulation simulation, String name) {
-    int numStates = simulation.rules().getNumberStates();
-    // check all possible state info for all languages until you
-    // find the state info with a display name matching the provided name
-    for (String language : MainConfig.fetchLanguages()) {
-      for (int i = 0; i < numStates; i++) {
-        StateInfo currentStateInfo = StateDisplayConfig.getStateInfo(simulation, i, language);
-        if (currentStateInfo.displayName().equalsIgnoreCase(name)) {
-          return currentStateInfo;
-        }
-      }
+    StateRegistry registry = StateDisplayConfig.getStateRegistry(simulation);
+    int state = registry.getState(name);
+    if (state == StateRegistry.NO_STATE) {
+      return null;
     }
-    return null;
+    return registry.getStateInfo(state);
   }
 
   /**
@@ -174,16 +194,53 @@ public class SimulationConfig {
       InstantiationException,
       IllegalAccessException {
     validateSimulation(simulationName);
-    String className = String.format("cellsociety.model.simulation.rules.%s%s", simulationName,
-        "Rules");
-    SimulationRules simulationRules;
-    simulationRules = (SimulationRules) Class.forName(className)
-        .getConstructor(Map.class, GetNeighbors.class).newInstance(parameters, myGetNeighbors);
-    return simulationRules;
+    Constructor<?> constructor = RULES_CONSTRUCTORS.get(simulationName);
+    if (constructor == null) {
+      String className = String.format("%s%sRules", SIMULATION_RULES_PACKAGE, simulationName);
+      constructor = Class.forName(className).getConstructor(Map.class, GetNeighbors.class);
+      RULES_CONSTRUCTORS.put(simulationName, constructor);
+    }
+    return (SimulationRules) constructor.newInstance(parameters, myGetNeighbors);
+  }
+
+  private static CellFactory createCellFactory(String simulationName) {
+    Class<?> cellClass;
+    try {
+      cellClass = Class.forName(String.format("%s%sCell", CELL_PACKAGE, simulationName));
+    } catch (ClassNotFoundException e) {
+      return DEFAULT_CELL_FACTORY; // most simulations have no specialized cell type
+    }
+    if (!Cell.class.isAssignableFrom(cellClass)) {
+      LOGGER.warn("{} is not a cell, so {} uses default cells", cellClass, simulationName);
+      return DEFAULT_CELL_FACTORY;
+    }
+    try {
+      CellConstructor constructor = createCellConstructor(cellClass);
+      return (row, col, state) -> constructor.create(state, new Point2D.Double(row, col));
+    } catch (ReflectiveOperationException | LambdaConversionException e) {
+      LOGGER.warn("Cannot construct {}, so {} uses default cells: {}", cellClass, simulationName,
+          e.getMessage());
+      return DEFAULT_CELL_FACTORY;
+    }
+  }
+
+  // the constructor is bound into a lambda, so creating a cell is a direct constructor call
+  private static CellConstructor createCellConstructor(Class<?> cellClass)
+      throws ReflectiveOperationException, LambdaConversionException {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    MethodHandle constructor = lookup.findConstructor(cellClass, CELL_CONSTRUCTOR_TYPE);
+    CallSite callSite = LambdaMetafactory.metafactory(lookup, "create",
+        MethodType.methodType(CellConstructor.class), CREATE_CELL_TYPE, constructor,
+        constructor.type());
+    try {
+      return (CellConstructor) callSite.getTarget().invokeExact();
+    } catch (Throwable e) { // the call site only returns the lambda it was linked to
+      throw new IllegalStateException("Unable to create constructor of " + cellClass, e);
+    }
   }
 
   private static void validateSimulation(String simulationName) {
-    if (!List.of(SIMULATIONS).contains(simulationName)) {
+    if (!SIMULATION_NAMES.contains(simulationName)) {
       throw new IllegalArgumentException(
           String.format(getMessage("INVALID_SIMULATION_TYPE_ERROR"), simulationName));
     }
@@ -193,15 +250,18 @@ public class SimulationConfig {
     checkValidNeighborConfiguration(neighborType, layers);
     String className = String.format("cellsociety.model.simulation.neighbors.%s%s", neighborType,
         "Neighbors");
-    return getNeighborsFromClassNameString(layers, className);
+    return getNeighborsFromClassNameString(neighborType, layers, className);
   }
 
-  private static GetNeighbors getNeighborsFromClassNameString(int layers, String className) {
-    GetNeighbors getNeighbors;
+  private static GetNeighbors getNeighborsFromClassNameString(String neighborType, int layers,
+      String className) {
     try {
-      Class<?> neighborClass = Class.forName(className);
-      getNeighbors = (GetNeighbors) neighborClass.getConstructor(int.class).newInstance(layers);
-      return getNeighbors;
+      Constructor<?> constructor = NEIGHBORS_CONSTRUCTORS.get(neighborType);
+      if (constructor == null) {
+        constructor = Class.forName(className).getConstructor(int.class);
+        NEIGHBORS_CONSTRUCTORS.put(neighborType, constructor);
+      }
+      return (GetNeighbors) constructor.newInstance(layers);
     } catch (ClassNotFoundException | NoSuchMethodException e) {
       LOGGER.warn(e.getMessage());
       throw new IllegalArgumentException(String.format("Invalid neighbor configuration: %s", e));
@@ -217,4 +277,10 @@ public class SimulationConfig {
     }
   }
 
+  // the constructor every specialized cell type declares
+  @FunctionalInterface
+  private interface CellConstructor {
+
+    Cell create(int state, Point2D location);
+  }
 }
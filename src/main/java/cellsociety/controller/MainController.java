@@ -15,6 +15,7 @@ import org.xml.sax.SAXException;
 
 import static cellsociety.config.MainConfig.DEFAULT_CELL_SHAPE;
 import static cellsociety.config.MainConfig.DEFAULT_EDGE_STRATEGY;
+import static cellsociety.config.MainConfig.GENERATIONS_PER_FRAME;
 import static cellsociety.config.MainConfig.GRID_HEIGHT;
 import static cellsociety.config.MainConfig.GRID_WIDTH;
 import static cellsociety.config.MainConfig.LOGGER;
@@ -25,9 +26,15 @@ import static cellsociety.config.MainConfig.getMessage;
 import cellsociety.config.SimulationConfig;
 import cellsociety.model.Grid;
 import cellsociety.model.cell.Cell;
+import cellsociety.model.cell.CellFactory;
 import cellsociety.model.cell.CellUpdate;
 import cellsociety.model.edge.EdgeStrategyFactory;
 import cellsociety.model.edge.EdgeStrategyFactory.EdgeStrategyType;
+import cellsociety.model.engine.CycleDetector;
+import cellsociety.model.engine.FrameSlot;
+import cellsociety.model.engine.SimulationFrame;
+import cellsociety.model.engine.SimulationWorker;
+import cellsociety.model.engine.StepHistory;
 import cellsociety.model.simulation.InvalidParameterException;
 import cellsociety.model.simulation.Parameter;
 import cellsociety.model.simulation.Simulation;
@@ -45,15 +52,13 @@ import cellsociety.view.components.AlertField;
 import cellsociety.view.config.FileChooserConfig;
 import cellsociety.view.config.StateDisplayConfig;
 import cellsociety.view.config.StateInfo;
+import cellsociety.view.config.StateRegistry;
 import cellsociety.view.grid.GridViewFactory.CellShapeType;
-import javafx.animation.Animation.Status;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import javafx.animation.AnimationTimer;
 import javafx.geometry.Pos;
 import javafx.scene.Group;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 
 /**
  * A class to handle the main interactions between the model and view classes.
@@ -73,10 +78,21 @@ public class MainController {
   private CellShapeType myCellShapeType = DEFAULT_CELL_SHAPE;
   private EdgeStrategyType myEdgeStrategyType = DEFAULT_EDGE_STRATEGY;
   private final VBox myMainViewContainer = new VBox();
-  private final Timeline mySimulationAnimation = new Timeline();
+  private final FrameSlot myFrameSlot = new FrameSlot();
+  private SimulationWorker mySimulationWorker;
+  private double mySecondsPerStep = STEP_SPEED;
+  private int myGenerationsPerFrame = GENERATIONS_PER_FRAME;
+  private final AnimationTimer myFrameRenderer = new AnimationTimer() {
+    @Override
+    public void handle(long now) {
+      renderLatestFrame();
+    }
+  };
   private boolean isEditing = false;
   private boolean gridLinesEnabled = Boolean.parseBoolean(
       PreferencesController.getPreference("gridLines", "true"));
+  private boolean isRecordingHistory = Boolean.parseBoolean(
+      PreferencesController.getPreference("recordHistory", "false"));
 
   private final ThemeController myThemeController;
   private int myIterationCount;
@@ -140,8 +156,8 @@ public class MainController {
    * Start the simulation animation if it is not already running.
    */
   public void startAnimation() {
-    if (mySimulationAnimation.getStatus() != Status.RUNNING) {
-      mySimulationAnimation.play();
+    if (!isPlaying()) {
+      mySimulationWorker.start(mySecondsPerStep);
     }
   }
 
@@ -149,8 +165,8 @@ public class MainController {
    * Stop the simulation animation if it is currently running.
    */
   public void stopAnimation() {
-    if (mySimulationAnimation.getStatus() == Status.RUNNING) {
-      mySimulationAnimation.stop();
+    if (isPlaying()) {
+      mySimulationWorker.stop();
     }
   }
 
@@ -180,6 +196,49 @@ public class MainController {
     step();
   }
 
+  /**
+   * Move the simulation back one step, if the previous step is still retained by the history. If
+   * the simulation animation is currently running, stop the animation first.
+   */
+  public void handleStepBack() {
+    stopAnimation();
+    if (mySimulationWorker.getStep() > getFirstRetainedStep()) {
+      moveToStep(mySimulationWorker.getStep() - 1);
+    }
+  }
+
+  /**
+   * Move the simulation to a step retained by the history, stopping the animation. Steps outside
+   * of the retained steps are moved to the closest retained step.
+   *
+   * @param step the step to move the simulation to
+   */
+  public void moveToStep(long step) {
+    stopAnimation();
+    long retainedStep = Math.max(getFirstRetainedStep(), Math.min(getLastRetainedStep(), step));
+    mySimulationWorker.moveTo(retainedStep);
+    renderLatestFrame();
+  }
+
+  /**
+   * Get the oldest step the simulation can be moved back to.
+   *
+   * @return the first retained step
+   */
+  public long getFirstRetainedStep() {
+    return mySimulationWorker.getFirstRetainedStep();
+  }
+
+  /**
+   * Get the newest step the simulation can be moved to, which is after the current step if the
+   * simulation was moved back.
+   *
+   * @return the last retained step
+   */
+  public long getLastRetainedStep() {
+    return mySimulationWorker.getLastRetainedStep();
+  }
+
   /**
    * Update the animation to have a new speed.
    *
@@ -189,24 +248,36 @@ public class MainController {
    */
   public void updateAnimationSpeed(double speed, boolean start) {
     PreferencesController.setPreference("animationSpeed", String.valueOf(speed));
-    mySimulationAnimation.stop();
-    mySimulationAnimation.getKeyFrames().clear();
-    mySimulationAnimation.getKeyFrames()
-        .add(new KeyFrame(Duration.seconds(speed), e -> {
-          try {
-            step();  // step function
-          } catch (ClassCastException ev) {
-            throw new IllegalStateException("Unexpected type encountered during step execution",
-                ev);
-          } catch (IllegalStateException ev) {
-            throw new IllegalStateException("Invalid state detected during step execution", ev);
-          }
-        }));
+    stopAnimation();
+    mySecondsPerStep = speed;
     if (!isEditing && start) {
-      mySimulationAnimation.play();
+      startAnimation();
+    }
+  }
+
+  /**
+   * Update the number of generations the simulation advances between two rendered frames. Only
+   * the latest change of each cell is rendered, so higher values step large grids faster.
+   *
+   * @param generations the number of generations per frame, at least 1
+   */
+  public void updateGenerationsPerFrame(int generations) {
+    PreferencesController.setPreference("generationsPerFrame", String.valueOf(generations));
+    myGenerationsPerFrame = generations;
+    if (mySimulationWorker != null) {
+      mySimulationWorker.setGenerationsPerFrame(generations);
     }
   }
 
+  /**
+   * Get the number of generations the simulation advances between two rendered frames.
+   *
+   * @return the number of generations per frame
+   */
+  public int getGenerationsPerFrame() {
+    return myGenerationsPerFrame;
+  }
+
   /**
    * Set whether the user is editing the simulation.
    *
@@ -222,7 +293,7 @@ public class MainController {
    * @return true if the animation is playing, false otherwise
    */
   public boolean isPlaying() {
-    return mySimulationAnimation.getStatus() == Status.RUNNING;
+    return mySimulationWorker != null && mySimulationWorker.isRunning();
   }
 
   /**
@@ -250,6 +321,7 @@ public class MainController {
     }
 
     initializeGridWithCells();
+    createSimulationWorker();
     createNewMainViewAndUpdateViewContainer();
   }
 
@@ -270,7 +342,7 @@ public class MainController {
       myGrid.updateCell(
           SimulationConfig.getNewCell(row, column, nextState, mySimulation.data().type()));
       mySimulationView.setColor(row, column,
-          StateDisplayConfig.getStateInfo(mySimulation, nextState).color());
+          StateDisplayConfig.getStateRegistry(mySimulation).getColor(nextState));
     }
   }
 
@@ -293,8 +365,8 @@ public class MainController {
    * XMLWriter.
    */
   public void handleSavingToFile() {
-    XMLWriter.saveSimulationToXML(mySimulation, myGrid, myCellShapeType, myEdgeStrategyType,
-        myStage);
+    runWithAnimationPaused(() -> XMLWriter.saveSimulationToXML(mySimulation, myGrid,
+        myCellShapeType, myEdgeStrategyType, myStage));
   }
 
   /**
@@ -304,6 +376,7 @@ public class MainController {
    */
   public void updateSimulation(Simulation simulation) {
     mySimulation = simulation;
+    createSimulationWorker();
     createNewMainViewAndUpdateViewContainer();
     createOrUpdateSidebar();
     createOrUpdateBottomBar();
@@ -343,6 +416,31 @@ public class MainController {
     mySimulationView.setGridLines(selected);
   }
 
+  /**
+   * Set whether every generation of the simulation is recorded, so it can be stepped back and
+   * scrubbed. Recording costs time on every generation, so it is off unless the user enables it.
+   *
+   * @param record Whether to record the generations of the simulation
+   */
+  public void setHistoryRecording(boolean record) {
+    PreferencesController.setPreference("recordHistory", String.valueOf(record));
+    isRecordingHistory = record;
+    if (mySimulationWorker != null) {
+      mySimulationWorker.setHistory(createHistory());
+      long step = mySimulationWorker.getStep();
+      mySidebarView.updateHistory(getFirstRetainedStep(), getLastRetainedStep(), step);
+    }
+  }
+
+  /**
+   * Check whether every generation of the simulation is recorded.
+   *
+   * @return true if generations are recorded for stepping back and scrubbing
+   */
+  public boolean isRecordingHistory() {
+    return isRecordingHistory;
+  }
+
   /**
    * Get current grid number of rows.
    *
@@ -369,30 +467,15 @@ public class MainController {
    * @param value The CellShapeType to update to
    */
   public void updateGridShape(CellShapeType value) {
-    List<CellUpdate> currentStates = new ArrayList<>();
-    for (Iterator<Cell> it = myGrid.getCellIterator(); it.hasNext(); ) {
-      Cell cell = it.next();
-      currentStates.add(new CellUpdate(cell.getLocation(), cell));
-    }
-    mySimulationView.updateGridShape(currentStates, value);
-    myCellShapeType = value;
-  }
-
-  /**
-   * Compute the count of each state present in the current simulation grid.
-   *
-   * @return A map where the string represents the state's name and an int value for the count
-   */
-  public Map<StateInfo, Integer> computeStateCounts() {
-    Map<StateInfo, Integer> stateCounts = new HashMap<>();
-    for (int row = 0; row < myGrid.getRows(); row++) {
-      for (int col = 0; col < myGrid.getCols(); col++) {
-        int state = myGrid.getCell(row, col).getState();
-        StateInfo key = StateDisplayConfig.getStateInfo(mySimulation, state);
-        stateCounts.put(key, stateCounts.getOrDefault(key, 0) + 1);
+    runWithAnimationPaused(() -> {
+      List<CellUpdate> currentStates = new ArrayList<>();
+      for (Iterator<Cell> it = myGrid.getCellIterator(); it.hasNext(); ) {
+        Cell cell = it.next();
+        currentStates.add(new CellUpdate(cell.getLocation(), cell));
       }
-    }
-    return stateCounts;
+      mySimulationView.updateGridShape(currentStates, value);
+      myCellShapeType = value;
+    });
   }
 
   /**
@@ -405,11 +488,11 @@ public class MainController {
   }
 
   private void initializeGridWithCells() {
+    CellFactory cellFactory = SimulationConfig.getCellFactory(mySimulation.data().type());
     for (int i = 0; i < myGrid.getRows(); i++) {
       for (int j = 0; j < myGrid.getCols(); j++) {
         int initialState = 0;
-        String simulationType = mySimulation.data().type();
-        Cell cell = SimulationConfig.getNewCell(i, j, initialState, simulationType);
+        Cell cell = cellFactory.createCell(i, j, initialState);
         myGrid.addCell(cell);
       }
     }
@@ -489,26 +572,88 @@ public class MainController {
   }
 
   private void initializeSimulationAnimation() {
-    mySimulationAnimation.setCycleCount(Timeline.INDEFINITE);
-    mySimulationAnimation.getKeyFrames()
-        .add(new KeyFrame(Duration.seconds(STEP_SPEED), e -> {
-          try {
-            step();  // step function
-          } catch (ClassCastException ev) {
-            throw new IllegalStateException("Unexpected type encountered during step execution",
-                ev);
-          } catch (IllegalStateException ev) {
-            throw new IllegalStateException("Invalid state detected during step execution", ev);
-          }
-        }));
+    myFrameRenderer.start();
   }
 
   private void step() {
-    myIterationCount++;
+    mySimulationWorker.step();
+    renderLatestFrame();
+  }
+
+  // the worker publishes a frame after every step, and only the latest one is displayed
+  private void renderLatestFrame() {
+    showRepeatPauseIfPaused();
+    SimulationFrame frame = myFrameSlot.take();
+    if (frame == null) {
+      return;
+    }
+    myIterationCount = (int) frame.getStep();
     myBottomBarView.updateIterationCounter(myIterationCount);
-    mySimulationView.step(myGrid, mySimulation);
-    Map<StateInfo, Integer> stateCounts = computeStateCounts();
-    myBottomBarView.updateStateChangeChart(stateCounts);
+    mySimulationView.renderFrame(frame);
+    myBottomBarView.updateStateChangeChart(getStateCounts(frame));
+    if (mySidebarView != null) {
+      mySidebarView.updateHistory(getFirstRetainedStep(), getLastRetainedStep(), frame.getStep());
+    }
+  }
+
+  // the worker pauses itself when the grid freezes or starts to oscillate
+  private void showRepeatPauseIfPaused() {
+    int repeatPeriod =
+        (mySimulationWorker == null) ? 0 : mySimulationWorker.takeRepeatPausePeriod();
+    if (repeatPeriod == 0) {
+      return;
+    }
+    mySidebarView.update();
+    if (repeatPeriod == 1) {
+      mySidebarView.flashMessage(getMessage("STILL_LIFE_PAUSE"));
+    } else {
+      mySidebarView.flashMessage(String.format(getMessage("OSCILLATOR_PAUSE"), repeatPeriod));
+    }
+  }
+
+  private Map<StateInfo, Integer> getStateCounts(SimulationFrame frame) {
+    Map<StateInfo, Integer> stateCounts = new HashMap<>();
+    StateRegistry registry = StateDisplayConfig.getStateRegistry(mySimulation);
+    for (Map.Entry<Integer, Integer> stateCount : frame.getStateCounts().entrySet()) {
+      stateCounts.merge(registry.getStateInfo(stateCount.getKey()), stateCount.getValue(),
+          Integer::sum);
+    }
+    return stateCounts;
+  }
+
+  private void createSimulationWorker() {
+    boolean wasPlaying = isPlaying();
+    if (mySimulationWorker != null) {
+      mySimulationWorker.shutdown();
+    }
+    myFrameSlot.take(); // discard a frame of the previous grid that was never displayed
+    myGrid.setCycleDetection(CycleDetector.DEFAULT_HISTORY_SIZE);
+    mySimulationWorker = new SimulationWorker(myGrid, mySimulation, myFrameSlot,
+        myIterationCount);
+    mySimulationWorker.setGenerationsPerFrame(myGenerationsPerFrame);
+    mySimulationWorker.setPauseOnRepeat(true);
+    mySimulationWorker.setHistory(createHistory());
+    if (wasPlaying) {
+      startAnimation();
+    }
+  }
+
+  private StepHistory createHistory() {
+    if (!isRecordingHistory) {
+      return null;
+    }
+    return new StepHistory(myGrid.getRows(), myGrid.getCols(),
+        StepHistory.DEFAULT_KEYFRAME_INTERVAL, StepHistory.DEFAULT_MAX_BYTES);
+  }
+
+  // while the worker runs it is the only thread that may touch the grid, so pause it first
+  private void runWithAnimationPaused(Runnable action) {
+    boolean wasPlaying = isPlaying();
+    stopAnimation();
+    action.run();
+    if (wasPlaying) {
+      startAnimation();
+    }
   }
 
   private void createMainContainerAndView() {
@@ -530,7 +675,8 @@ public class MainController {
    */
   public void updateGridEdgeType(EdgeStrategyType edgeStrategyType) {
     myEdgeStrategyType = edgeStrategyType;
-    myGrid.setEdgeStrategy(EdgeStrategyFactory.createEdgeStrategy(edgeStrategyType));
+    runWithAnimationPaused(() -> myGrid.setEdgeStrategy(
+        EdgeStrategyFactory.createEdgeStrategy(edgeStrategyType)));
   }
 
   /**
@@ -0,0 +1,25 @@
+package cellsociety.headless;
+
+/**
+ * A record to store the outcome of a headless batch run.
+ *
+ * @param steps        The number of steps that were run
+ * @param cellUpdates  The number of cell evaluations, which is the number of cells in the grid for
+ *                     every step
+ * @param changedCells The total number of cell updates returned by the grid over all steps
+ * @param elapsedNanos The time spent stepping the grid, excluding writing statistics
+ * @author Owen Jennings
+ */
+public record BatchResult(long steps, long cellUpdates, long changedCells, long elapsedNanos) {
+
+  private static final double NANOS_PER_SECOND = 1e9;
+
+  /**
+   * Get the throughput of the run.
+   *
+   * @return The number of cell updates per second of stepping
+   */
+  public double getCellUpdatesPerSecond() {
+    return (elapsedNanos == 0) ? 0 : cellUpdates * NANOS_PER_SECOND / elapsedNanos;
+  }
+}
@@ -0,0 +1,346 @@
+package cellsociety.headless;
+
+import static cellsociety.config.MainConfig.LOGGER;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.CellUpdate;
+import cellsociety.model.engine.BitPackedLifeEngine;
+import cellsociety.model.engine.CycleDetector;
+import cellsociety.model.engine.HashLifeEngine;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.rules.GameOfLifeRules;
+import cellsociety.model.xml.GridException;
+import cellsociety.model.xml.InvalidStateException;
+import cellsociety.model.xml.XMLHandler;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import javax.xml.parsers.ParserConfigurationException;
+import org.xml.sax.SAXException;
+
+/**
+ * Steps a simulation without a user interface, as fast as the grid can be updated. By default every
+ * step is made with Grid.updateGrid, so a batch run produces the same states as the application
+ * would. A supported Game of Life grid can instead be stepped by a dedicated engine, which only
+ * writes its states back to the grid once the run ends. The bit-packed engine produces the same
+ * states as the grid. The HashLife engine simulates an unbounded plane, so it only matches the
+ * grid while the pattern stays clear of the grid's edges, and a run fails once a jump leaves alive
+ * cells outside the grid. The runner writes a CSV file of per-step statistics and a CSV file of the
+ * final states to an output directory.
+ * <p>
+ * Run from the command line with:
+ * {@code <xml file> <steps> <output directory> [seed] [--until-repeat] [--frontier]
+ * [--parallel[=<threads>]] [--bit-packed | --hashlife]}, where --until-repeat ends the run once the
+ * grid freezes or starts to oscillate, --frontier steps supported rules from a frontier of changed
+ * cells, --parallel evaluates supported rules in stripes of rows on the common pool or on a pool of
+ * the provided number of threads, --bit-packed steps the grid with the bit-packed engine and
+ * --hashlife advances it with the HashLife engine.
+ *
+ * @author Owen Jennings
+ */
+public class BatchRunner {
+
+  public static final String STATISTICS_FILE = "statistics.csv";
+  public static final String FINAL_STATES_FILE = "finalStates.csv";
+  private static final String SEPARATOR = ",";
+  private static final long UNKNOWN_CHANGED_CELLS = -1;
+  private static final String USAGE = "Usage: BatchRunner <xml file> <steps> <output directory> "
+      + "[seed] [--until-repeat] [--frontier] [--parallel[=<threads>]] "
+      + "[--bit-packed | --hashlife]";
+  private final Grid myGrid;
+  private final Simulation mySimulation;
+  private StopCondition myStopCondition = StopCondition.NEVER;
+  private Engine myEngine = Engine.GRID;
+
+  /**
+   * This enum stores the engines a batch run can step its grid with.
+   */
+  public enum Engine {
+    GRID, BIT_PACKED, HASH_LIFE
+  }
+
+  /**
+   * Create a runner that steps the provided grid with the provided simulation.
+   *
+   * @param grid       The grid to step
+   * @param simulation The simulation to step the grid with
+   */
+  public BatchRunner(Grid grid, Simulation simulation) {
+    myGrid = grid;
+    mySimulation = simulation;
+  }
+
+  /**
+   * Create a runner for the grid and simulation stored in an XML configuration file.
+   *
+   * @param xmlFilePath The path of the XML file to load
+   * @return A runner for the loaded grid and simulation
+   */
+  public static BatchRunner fromXml(String xmlFilePath)
+      throws SAXException, IOException, ParserConfigurationException, GridException,
+      InvalidStateException {
+    XMLHandler xmlHandler = new XMLHandler(xmlFilePath);
+    return new BatchRunner(xmlHandler.getGrid(), xmlHandler.getSim());
+  }
+
+  /**
+   * Set the condition that ends a run before its number of steps.
+   *
+   * @param stopCondition The condition checked after every step
+   */
+  public void setStopCondition(StopCondition stopCondition) {
+    myStopCondition = stopCondition;
+  }
+
+  /**
+   * Set the engine that steps the grid. Stop conditions are checked on the grid after every step,
+   * so they can only end runs stepped by the grid itself.
+   *
+   * @param engine The engine of every following run
+   * @throws IllegalArgumentException If the engine cannot step the grid and simulation of this
+   *                                  runner
+   * @see BitPackedLifeEngine#isSupported(Grid, Simulation)
+   * @see HashLifeEngine#isSupported(Grid, Simulation)
+   */
+  public void setEngine(Engine engine) {
+    boolean isSupported = switch (engine) {
+      case GRID -> true;
+      case BIT_PACKED -> BitPackedLifeEngine.isSupported(myGrid, mySimulation);
+      case HASH_LIFE -> HashLifeEngine.isSupported(myGrid, mySimulation);
+    };
+    if (!isSupported) {
+      throw new IllegalArgumentException(String.format(
+          "The %s engine cannot step a %s simulation on this grid.", engine,
+          mySimulation.data().type()));
+    }
+    myEngine = engine;
+  }
+
+  /**
+   * Step the grid the provided number of times, or until the stop condition holds, writing the
+   * statistics of every step and the final states to the output directory. Each row of the
+   * statistics file holds the step, the number of cell updates of the step, the nanoseconds spent
+   * updating the grid and the number of cells in each state after the step. Row 0 holds the
+   * initial state counts.
+   * <p>
+   * The HashLife engine advances the grid in jumps of a power of two generations, so its
+   * statistics hold one row per jump, numbered by the generation it reached, with an empty number
+   * of cell updates. The changed cells of its result are the cells changed by the whole run. The
+   * run fails once a jump ends with alive cells outside the grid, since the fixed edges of the
+   * grid would not have let them exist. Activity that leaves the grid and dies out again within
+   * one jump is not detected.
+   *
+   * @param numSteps        The maximum number of steps to run
+   * @param outputDirectory The directory to write the statistics and final states to, which is
+   *                        created if it does not exist
+   * @return The outcome of the run
+   * @throws IOException              If the output files cannot be written
+   * @throws IllegalArgumentException If a stop condition is set for a run that is not stepped by
+   *                                  the grid
+   * @throws IllegalStateException    If a HashLife run reaches the edges of the grid
+   */
+  public BatchResult run(int numSteps, Path outputDirectory) throws IOException {
+    if (myEngine != Engine.GRID && myStopCondition != StopCondition.NEVER) {
+      throw new IllegalArgumentException(
+          String.format("Stop conditions cannot end runs of the %s engine.", myEngine));
+    }
+    Files.createDirectories(outputDirectory);
+    BatchResult result;
+    try (BufferedWriter writer = Files.newBufferedWriter(
+        outputDirectory.resolve(STATISTICS_FILE))) {
+      writeStatisticsHeader(writer);
+      writeStatistics(writer, 0, 0, 0, countStates());
+      result = switch (myEngine) {
+        case GRID -> runGrid(numSteps, writer);
+        case BIT_PACKED -> runBitPacked(numSteps, writer);
+        case HASH_LIFE -> runHashLife(numSteps, writer);
+      };
+    }
+    writeFinalStates(outputDirectory.resolve(FINAL_STATES_FILE));
+    return result;
+  }
+
+  /**
+   * Get the grid stepped by this runner.
+   *
+   * @return The grid of this runner
+   */
+  public Grid getGrid() {
+    return myGrid;
+  }
+
+  /**
+   * Run a simulation from the command line and log its throughput.
+   *
+   * @param args The XML file, the number of steps, the output directory, an optional seed and
+   *             optional flags
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length < 3 || args.length > 8) {
+      LOGGER.error(USAGE);
+      return;
+    }
+    BatchRunner runner = fromXml(args[0]);
+    int poolThreads = 0;
+    for (int i = 3; i < args.length; i++) {
+      if (args[i].equals("--until-repeat")) {
+        runner.myGrid.setCycleDetection(CycleDetector.DEFAULT_HISTORY_SIZE);
+        runner.setStopCondition(StopCondition.whenRepeating());
+      } else if (args[i].equals("--frontier")) {
+        runner.myGrid.setFrontierUpdate(true);
+      } else if (args[i].equals("--parallel")) {
+        runner.myGrid.setParallelUpdate(ForkJoinPool.commonPool());
+      } else if (args[i].startsWith("--parallel=")) {
+        poolThreads = Integer.parseInt(args[i].substring("--parallel=".length()));
+        if (poolThreads < 1) {
+          throw new IllegalArgumentException("A parallel pool needs at least one thread.");
+        }
+      } else if (args[i].equals("--bit-packed")) {
+        runner.setEngine(Engine.BIT_PACKED);
+      } else if (args[i].equals("--hashlife")) {
+        runner.setEngine(Engine.HASH_LIFE);
+      } else if (args[i].startsWith("--")) {
+        LOGGER.error("Unknown option {}. {}", args[i], USAGE);
+        return;
+      } else {
+        runner.mySimulation.random().setSeed(Long.parseLong(args[i]));
+      }
+    }
+    ForkJoinPool pool = (poolThreads > 0) ? new ForkJoinPool(poolThreads) : null;
+    if (pool != null) {
+      runner.myGrid.setParallelUpdate(pool);
+    }
+    try {
+      BatchResult result = runner.run(Integer.parseInt(args[1]), Path.of(args[2]));
+      LOGGER.info(String.format("%d steps, %d cell updates in %.3f s (%.0f cell updates per "
+              + "second)", result.steps(), result.cellUpdates(), result.elapsedNanos() / 1e9,
+          result.getCellUpdatesPerSecond()));
+    } finally {
+      if (pool != null) {
+        pool.shutdown();
+      }
+    }
+  }
+
+  private BatchResult runGrid(int numSteps, BufferedWriter writer) throws IOException {
+    long changedCells = 0;
+    long elapsedNanos = 0;
+    int steps = 0;
+    boolean stopped = false;
+    while (steps < numSteps && !stopped) {
+      long startTime = System.nanoTime();
+      List<CellUpdate> cellUpdates = myGrid.updateGrid(mySimulation);
+      long stepNanos = System.nanoTime() - startTime;
+      elapsedNanos += stepNanos;
+      changedCells += cellUpdates.size();
+      steps++;
+      writeStatistics(writer, steps, cellUpdates.size(), stepNanos, countStates());
+      stopped = myStopCondition.shouldStop(myGrid, cellUpdates);
+    }
+    return new BatchResult(steps, steps * getCellsPerStep(), changedCells, elapsedNanos);
+  }
+
+  // the engine holds the states during the run, so state counts are taken from its population
+  private BatchResult runBitPacked(int numSteps, BufferedWriter writer) throws IOException {
+    BitPackedLifeEngine engine = new BitPackedLifeEngine(myGrid,
+        (GameOfLifeRules) mySimulation.rules());
+    int[] stateCounts = countStates();
+    long numCells = stateCounts[0] + stateCounts[1];
+    long changedCells = 0;
+    long elapsedNanos = 0;
+    for (int step = 1; step <= numSteps; step++) {
+      long startTime = System.nanoTime();
+      engine.step();
+      long stepNanos = System.nanoTime() - startTime;
+      elapsedNanos += stepNanos;
+      changedCells += engine.getChangedCells();
+      stateCounts[1] = (int) engine.getPopulation();
+      stateCounts[0] = (int) (numCells - stateCounts[1]);
+      writeStatistics(writer, step, engine.getChangedCells(), stepNanos, stateCounts);
+    }
+    engine.writeToGrid(myGrid);
+    return new BatchResult(numSteps, numSteps * getCellsPerStep(), changedCells, elapsedNanos);
+  }
+
+  // a run is split into jumps of the set bits of its number of steps, largest first
+  private BatchResult runHashLife(int numSteps, BufferedWriter writer) throws IOException {
+    HashLifeEngine engine = new HashLifeEngine(myGrid, (GameOfLifeRules) mySimulation.rules());
+    int[] stateCounts = countStates();
+    long numCells = stateCounts[0] + stateCounts[1];
+    long elapsedNanos = 0;
+    for (int stepLog = Integer.SIZE - 1; stepLog >= 0; stepLog--) {
+      if ((numSteps & (1 << stepLog)) != 0) {
+        long startTime = System.nanoTime();
+        engine.step(stepLog);
+        long stepNanos = System.nanoTime() - startTime;
+        elapsedNanos += stepNanos;
+        stateCounts[1] = (int) engine.getGridPopulation();
+        stateCounts[0] = (int) (numCells - stateCounts[1]);
+        if (engine.getPopulation() != stateCounts[1]) {
+          throw new IllegalStateException(String.format("After generation %d, %d alive cells "
+                  + "are outside the grid, so HashLife no longer matches its fixed edges.",
+              engine.getGeneration(), engine.getPopulation() - stateCounts[1]));
+        }
+        writeStatistics(writer, engine.getGeneration(), UNKNOWN_CHANGED_CELLS, stepNanos,
+            stateCounts);
+      }
+    }
+    int changedCells = engine.writeToGrid(myGrid).size();
+    return new BatchResult(numSteps, numSteps * getCellsPerStep(), changedCells, elapsedNanos);
+  }
+
+  private long getCellsPerStep() {
+    return (long) myGrid.getRows() * myGrid.getCols();
+  }
+
+  private void writeStatisticsHeader(BufferedWriter writer) throws IOException {
+    StringBuilder header = new StringBuilder("step,changedCells,nanos");
+    for (int state = 0; state < mySimulation.rules().getNumberStates(); state++) {
+      header.append(SEPARATOR).append("state").append(state);
+    }
+    writer.write(header.toString());
+    writer.newLine();
+  }
+
+  private void writeStatistics(BufferedWriter writer, long step, long changedCells, long nanos,
+      int[] stateCounts) throws IOException {
+    StringBuilder row = new StringBuilder();
+    row.append(step).append(SEPARATOR);
+    if (changedCells != UNKNOWN_CHANGED_CELLS) {
+      row.append(changedCells);
+    }
+    row.append(SEPARATOR).append(nanos);
+    for (int count : stateCounts) {
+      row.append(SEPARATOR).append(count);
+    }
+    writer.write(row.toString());
+    writer.newLine();
+  }
+
+  private int[] countStates() {
+    int[] counts = new int[mySimulation.rules().getNumberStates()];
+    for (int state = 0; state < counts.length; state++) {
+      counts[state] = myGrid.getStateCount(state);
+    }
+    return counts;
+  }
+
+  private void writeFinalStates(Path path) throws IOException {
+    try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+      for (int row = 0; row < myGrid.getRows(); row++) {
+        StringBuilder line = new StringBuilder();
+        for (int col = 0; col < myGrid.getCols(); col++) {
+          if (col > 0) {
+            line.append(SEPARATOR);
+          }
+          line.append(myGrid.getState(row, col));
+        }
+        writer.write(line.toString());
+        writer.newLine();
+      }
+    }
+  }
+}
@@ -0,0 +1,441 @@
+package cellsociety.headless;
+
+import static cellsociety.config.MainConfig.LOGGER;
+
+import cellsociety.config.SimulationConfig;
+import cellsociety.model.Grid;
+import cellsociety.model.cell.CellFactory;
+import cellsociety.model.cell.CellUpdate;
+import cellsociety.model.edge.EdgeStrategy;
+import cellsociety.model.engine.CycleDetector;
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.Parameter;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.SimulationMetaData;
+import cellsociety.model.storage.CellStorageFactory.CellStorageType;
+import cellsociety.model.xml.GridException;
+import cellsociety.model.xml.InvalidStateException;
+import cellsociety.model.xml.XMLHandler;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import javax.xml.parsers.ParserConfigurationException;
+import org.xml.sax.SAXException;
+
+/**
+ * Runs a simulation once for every combination of a grid of parameter values, several runs at a
+ * time, and collects a summary of every run into one table. Every run starts from the initial
+ * states of the same base grid, with its own simulation built by SimulationConfig.getNewSimulation
+ * from the base parameters and the swept values.
+ * <p>
+ * Runs are stepped on a bounded pool of threads, and each run only creates its grid once it starts
+ * and keeps only summary statistics once it ends, so the memory of a sweep is bounded by the number
+ * of threads no matter how many combinations it has.
+ * <p>
+ * Run from the command line with:
+ * {@code <xml file> <steps> <output csv> <parameter>=<values>... [--seed=<seed>]
+ * [--threads=<threads>] [--until-stable] [--until-repeat] [--frontier] [--parallel]}, where values
+ * are either a comma separated list or an inclusive range written as
+ * {@code <start>:<end>:<increment>}, --frontier steps supported rules from a frontier of changed
+ * cells and --parallel also evaluates the steps of every run in stripes of rows on the common
+ * pool.
+ *
+ * @author Owen Jennings
+ */
+public class ParameterSweep {
+
+  private static final String SEPARATOR = ",";
+  private static final String RANGE_SEPARATOR = ":";
+  private static final String USAGE = "Usage: ParameterSweep <xml file> <steps> <output csv> "
+      + "<parameter>=<v1,v2,...|start:end:increment>... [--seed=<seed>] [--threads=<threads>] "
+      + "[--until-stable] [--until-repeat] [--frontier] [--parallel]";
+  private final SimulationMetaData myMetaData;
+  private final Map<String, Parameter<?>> myBaseParameters;
+  private final int myNumRows;
+  private final int myNumCols;
+  private final int[] myInitialStates;
+  private final EdgeStrategy myEdgeStrategy;
+  private final Map<String, List<String>> mySweptValues = new LinkedHashMap<>();
+  private CellStorageType myStorageType;
+  private StopCondition myStopCondition = StopCondition.NEVER;
+  private Long mySeed;
+  private boolean isFrontierUpdate;
+  private ForkJoinPool myStepPool;
+
+  /**
+   * Create a sweep of the provided simulation, starting every run from the current states of the
+   * provided grid.
+   *
+   * @param grid       The grid whose states every run starts from, which is not modified
+   * @param simulation The simulation whose type, metadata and parameters every run starts from
+   */
+  public ParameterSweep(Grid grid, Simulation simulation) {
+    myMetaData = simulation.data();
+    myBaseParameters = simulation.rules().getParameters();
+    myNumRows = grid.getRows();
+    myNumCols = grid.getCols();
+    myEdgeStrategy = grid.getEdgeStrategy();
+    myStorageType = grid.getStorageType();
+    myInitialStates = new int[myNumRows * myNumCols];
+    for (int row = 0; row < myNumRows; row++) {
+      for (int col = 0; col < myNumCols; col++) {
+        myInitialStates[row * myNumCols + col] = grid.getState(row, col);
+      }
+    }
+  }
+
+  /**
+   * Create a sweep of the grid and simulation stored in an XML configuration file.
+   *
+   * @param xmlFilePath The path of the XML file to load
+   * @return A sweep with no swept parameters
+   */
+  public static ParameterSweep fromXml(String xmlFilePath)
+      throws SAXException, IOException, ParserConfigurationException, GridException,
+      InvalidStateException {
+    XMLHandler xmlHandler = new XMLHandler(xmlFilePath);
+    return new ParameterSweep(xmlHandler.getGrid(), xmlHandler.getSim());
+  }
+
+  /**
+   * Sweep a parameter over the provided values. Sweeping a parameter again replaces its values.
+   *
+   * @param parameter The name of the parameter
+   * @param values    The values to run the parameter with
+   * @throws IllegalArgumentException If no values are provided
+   */
+  public void addValues(String parameter, List<String> values) {
+    if (values.isEmpty()) {
+      throw new IllegalArgumentException(
+          String.format("No values provided for parameter %s.", parameter));
+    }
+    mySweptValues.put(parameter, List.copyOf(values));
+  }
+
+  /**
+   * Sweep a parameter from a start value to an end value, inclusive. Values are computed exactly,
+   * so a range such as 0 to 1 by 0.1 has eleven values.
+   *
+   * @param parameter The name of the parameter
+   * @param start     The first value of the range
+   * @param end       The last value of the range
+   * @param increment The difference between two consecutive values
+   * @throws IllegalArgumentException If the increment is not positive or the end is before the
+   *                                  start
+   */
+  public void addRange(String parameter, double start, double end, double increment) {
+    if (increment <= 0 || end < start) {
+      throw new IllegalArgumentException(
+          String.format("Invalid range %s to %s by %s for parameter %s.", start, end, increment,
+              parameter));
+    }
+    BigDecimal first = BigDecimal.valueOf(start);
+    BigDecimal last = BigDecimal.valueOf(end);
+    BigDecimal step = BigDecimal.valueOf(increment);
+    List<String> values = new ArrayList<>();
+    for (BigDecimal value = first; value.compareTo(last) <= 0; value = value.add(step)) {
+      values.add(value.stripTrailingZeros().toPlainString());
+    }
+    addValues(parameter, values);
+  }
+
+  /**
+   * Set the condition that ends a run before its maximum number of steps.
+   *
+   * @param stopCondition The condition checked after every step
+   */
+  public void setStopCondition(StopCondition stopCondition) {
+    myStopCondition = stopCondition;
+  }
+
+  /**
+   * Seed the random numbers of every run with the same seed, so that runs only differ by their
+   * parameters and a sweep can be repeated exactly.
+   *
+   * @param seed The seed of every run
+   */
+  public void setSeed(long seed) {
+    mySeed = seed;
+  }
+
+  /**
+   * Set the type of storage used by the grid of every run. A dense storage keeps the memory of
+   * large sweeps of small grids low.
+   *
+   * @param storageType The cell storage type of every run
+   */
+  public void setStorageType(CellStorageType storageType) {
+    myStorageType = storageType;
+  }
+
+  /**
+   * Set whether the grid of every run steps supported rules from a frontier of changed cells, so
+   * runs that settle into a mostly stable grid only evaluate the cells near changes.
+   *
+   * @param enabled true to step supported rules with a frontier of changed cells
+   * @see Grid#setFrontierUpdate(boolean)
+   */
+  public void setFrontierUpdate(boolean enabled) {
+    isFrontierUpdate = enabled;
+  }
+
+  /**
+   * Set the pool that the grid of every run evaluates the steps of supported rules on, in parallel
+   * stripes of rows. This helps sweeps with fewer runs than threads, such as one run of a large
+   * grid; sweeps of many runs are already stepped in parallel.
+   *
+   * @param pool The pool to evaluate stripes on, or null to step every run on its own thread
+   * @see Grid#setParallelUpdate(ForkJoinPool)
+   */
+  public void setParallelUpdate(ForkJoinPool pool) {
+    myStepPool = pool;
+  }
+
+  /**
+   * Get the number of runs in the sweep, which is the number of combinations of swept values.
+   *
+   * @return The number of runs
+   */
+  public int getNumberRuns() {
+    int numRuns = 1;
+    for (List<String> values : mySweptValues.values()) {
+      numRuns = Math.multiplyExact(numRuns, values.size());
+    }
+    return numRuns;
+  }
+
+  /**
+   * Run every combination of swept values, at most the provided number at a time. A combination
+   * whose simulation cannot be created, such as one with an invalid parameter value, is recorded as
+   * a failed result instead of ending the sweep.
+   *
+   * @param maxSteps    The number of steps after which a run ends if its stop condition has not
+   *                    ended it first
+   * @param parallelism The number of runs stepped at the same time
+   * @return The result of every run, ordered by run index
+   * @throws IllegalArgumentException If the number of steps is negative or the parallelism is less
+   *                                  than 1
+   * @throws ExecutionException       If a run fails while being stepped
+   * @throws InterruptedException     If the calling thread is interrupted while waiting for runs
+   */
+  public List<SweepResult> run(int maxSteps, int parallelism)
+      throws ExecutionException, InterruptedException {
+    if (maxSteps < 0 || parallelism < 1) {
+      throw new IllegalArgumentException(
+          String.format("Invalid sweep of %d steps on %d threads.", maxSteps, parallelism));
+    }
+    int numRuns = getNumberRuns();
+    List<Future<SweepResult>> futures = new ArrayList<>(numRuns);
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    try {
+      for (int run = 0; run < numRuns; run++) {
+        int index = run;
+        futures.add(executor.submit(() -> runCombination(index, maxSteps)));
+      }
+      List<SweepResult> results = new ArrayList<>(numRuns);
+      for (Future<SweepResult> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } finally {
+      executor.shutdownNow(); // stops the remaining runs if a run failed
+    }
+  }
+
+  /**
+   * Write the results of a sweep to a CSV file with one row per run. Each row holds the run index,
+   * the swept parameter values, the number of steps, whether the stop condition ended the run, the
+   * repeat period of the final state, the nanoseconds spent stepping, the final number of cells in
+   * each state and the error of a failed run.
+   *
+   * @param results The results of a sweep
+   * @param path    The path of the CSV file to write
+   * @throws IOException If the file cannot be written
+   */
+  public void writeResults(List<SweepResult> results, Path path) throws IOException {
+    int numStates = results.stream().mapToInt(result -> result.stateCounts().size()).max()
+        .orElse(0);
+    try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+      StringBuilder header = new StringBuilder("run");
+      for (String parameter : mySweptValues.keySet()) {
+        header.append(SEPARATOR).append(parameter);
+      }
+      header.append(SEPARATOR).append("steps").append(SEPARATOR).append("stopped")
+          .append(SEPARATOR).append("period").append(SEPARATOR).append("nanos");
+      for (int state = 0; state < numStates; state++) {
+        header.append(SEPARATOR).append("state").append(state);
+      }
+      writer.write(header.append(SEPARATOR).append("error").toString());
+      writer.newLine();
+      for (SweepResult result : results) {
+        writer.write(formatResult(result, numStates));
+        writer.newLine();
+      }
+    }
+  }
+
+  /**
+   * Run a parameter sweep from the command line and write its results.
+   *
+   * @param args The XML file, the number of steps, the output file, the swept parameters and the
+   *             options
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length < 3) {
+      LOGGER.error(USAGE);
+      return;
+    }
+    ParameterSweep sweep = fromXml(args[0]);
+    int threads = Runtime.getRuntime().availableProcessors();
+    for (int i = 3; i < args.length; i++) {
+      String arg = args[i];
+      if (arg.equals("--until-stable")) {
+        sweep.setStopCondition(StopCondition.whenStable());
+      } else if (arg.equals("--until-repeat")) {
+        sweep.setStopCondition(StopCondition.whenRepeating());
+      } else if (arg.equals("--frontier")) {
+        sweep.setFrontierUpdate(true);
+      } else if (arg.equals("--parallel")) {
+        sweep.setParallelUpdate(ForkJoinPool.commonPool());
+      } else if (arg.startsWith("--seed=")) {
+        sweep.setSeed(Long.parseLong(arg.substring("--seed=".length())));
+      } else if (arg.startsWith("--threads=")) {
+        threads = Integer.parseInt(arg.substring("--threads=".length()));
+      } else if (arg.startsWith("--")) {
+        LOGGER.error("Unknown option {}. {}", arg, USAGE);
+        return;
+      } else {
+        sweep.addSweptParameter(arg);
+      }
+    }
+    long startTime = System.nanoTime();
+    List<SweepResult> results = sweep.run(Integer.parseInt(args[1]), threads);
+    sweep.writeResults(results, Path.of(args[2]));
+    long failed = results.stream().filter(result -> !result.isSuccessful()).count();
+    LOGGER.info(String.format("%d runs (%d failed) on %d threads in %.3f s", results.size(),
+        failed, threads, (System.nanoTime() - startTime) / 1e9));
+  }
+
+  private void addSweptParameter(String arg) {
+    String[] nameAndValues = arg.split("=", 2);
+    if (nameAndValues.length != 2) {
+      throw new IllegalArgumentException(String.format("Invalid swept parameter %s.", arg));
+    }
+    String[] range = nameAndValues[1].split(RANGE_SEPARATOR);
+    if (range.length == 3) {
+      addRange(nameAndValues[0], Double.parseDouble(range[0]), Double.parseDouble(range[1]),
+          Double.parseDouble(range[2]));
+    } else {
+      addValues(nameAndValues[0], List.of(nameAndValues[1].split(SEPARATOR)));
+    }
+  }
+
+  private SweepResult runCombination(int run, int maxSteps) {
+    Map<String, String> values = getCombination(run);
+    Simulation simulation;
+    try {
+      simulation = createSimulation(values);
+    } catch (ReflectiveOperationException | InvalidParameterException
+             | IllegalArgumentException e) {
+      Throwable cause = (e instanceof InvocationTargetException) ? e.getCause() : e;
+      LOGGER.warn("Sweep run {} with {} could not be created: {}", run, values,
+          cause.getMessage());
+      return SweepResult.failed(run, values, String.valueOf(cause.getMessage()));
+    }
+    Grid grid = createGrid();
+    long startTime = System.nanoTime();
+    int steps = 0;
+    boolean stopped = false;
+    while (steps < maxSteps && !stopped && !Thread.currentThread().isInterrupted()) {
+      List<CellUpdate> cellUpdates = grid.updateGrid(simulation);
+      steps++;
+      stopped = myStopCondition.shouldStop(grid, cellUpdates);
+    }
+    long elapsedNanos = System.nanoTime() - startTime;
+    return new SweepResult(run, values, steps, stopped, grid.getRepeatPeriod(),
+        countStates(grid, simulation.rules().getNumberStates()), elapsedNanos, null);
+  }
+
+  // decode the run index as a mixed radix number with one digit per swept parameter
+  private Map<String, String> getCombination(int run) {
+    Map<String, String> combination = new LinkedHashMap<>();
+    int remaining = run;
+    for (Map.Entry<String, List<String>> swept : mySweptValues.entrySet()) {
+      List<String> values = swept.getValue();
+      combination.put(swept.getKey(), values.get(remaining % values.size()));
+      remaining /= values.size();
+    }
+    return combination;
+  }
+
+  private Simulation createSimulation(Map<String, String> values)
+      throws ReflectiveOperationException, InvalidParameterException {
+    Map<String, Parameter<?>> parameters = new HashMap<>(myBaseParameters);
+    values.forEach((name, value) -> parameters.put(name, new Parameter<>(value)));
+    Simulation simulation = SimulationConfig.getNewSimulation(myMetaData.type(), myMetaData,
+        parameters);
+    if (mySeed != null) {
+      simulation.random().setSeed(mySeed);
+    }
+    return simulation;
+  }
+
+  private Grid createGrid() {
+    Grid grid = new Grid(myNumRows, myNumCols, myEdgeStrategy, myStorageType);
+    CellFactory cellFactory = SimulationConfig.getCellFactory(myMetaData.type());
+    for (int row = 0; row < myNumRows; row++) {
+      for (int col = 0; col < myNumCols; col++) {
+        int state = myInitialStates[row * myNumCols + col];
+        if (state >= 0) {
+          grid.addCell(cellFactory.createCell(row, col, state));
+        }
+      }
+    }
+    grid.setCycleDetection(CycleDetector.DEFAULT_HISTORY_SIZE);
+    grid.setFrontierUpdate(isFrontierUpdate);
+    grid.setParallelUpdate(myStepPool);
+    return grid;
+  }
+
+  private List<Integer> countStates(Grid grid, int numStates) {
+    List<Integer> stateCounts = new ArrayList<>(numStates);
+    for (int state = 0; state < numStates; state++) {
+      stateCounts.add(grid.getStateCount(state));
+    }
+    return List.copyOf(stateCounts);
+  }
+
+  private String formatResult(SweepResult result, int numStates) {
+    StringBuilder row = new StringBuilder().append(result.run());
+    for (String parameter : mySweptValues.keySet()) {
+      row.append(SEPARATOR).append(result.parameters().get(parameter));
+    }
+    row.append(SEPARATOR).append(result.steps()).append(SEPARATOR).append(result.stopped())
+        .append(SEPARATOR).append(result.repeatPeriod()).append(SEPARATOR)
+        .append(result.elapsedNanos());
+    for (int state = 0; state < numStates; state++) {
+      row.append(SEPARATOR);
+      if (state < result.stateCounts().size()) {
+        row.append(result.stateCounts().get(state));
+      }
+    }
+    row.append(SEPARATOR);
+    if (result.error() != null) {
+      row.append('"').append(result.error().replace("\"", "\"\"")).append('"');
+    }
+    return row.toString();
+  }
+}
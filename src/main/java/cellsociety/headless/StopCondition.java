@@ -0,0 +1,70 @@
+package cellsociety.headless;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.CellUpdate;
+import java.util.List;
+
+/**
+ * A condition checked after every step of a headless run to end the run before its maximum number
+ * of steps.
+ *
+ * @author Owen Jennings
+ */
+@FunctionalInterface
+public interface StopCondition {
+
+  /**
+   * A condition that never stops a run.
+   */
+  StopCondition NEVER = (grid, cellUpdates) -> false;
+
+  /**
+   * Check if a run should stop after a step.
+   *
+   * @param grid        The grid after the step
+   * @param cellUpdates The cell updates of the step
+   * @return true if the run should stop
+   */
+  boolean shouldStop(Grid grid, List<CellUpdate> cellUpdates);
+
+  /**
+   * Get a condition that stops a run once a step changes no cells.
+   *
+   * @return A condition that stops a run when the grid is stable
+   */
+  static StopCondition whenStable() {
+    return (grid, cellUpdates) -> cellUpdates.isEmpty();
+  }
+
+  /**
+   * Get a condition that stops a run once a step returns the grid to a state it held in one of its
+   * recent steps, such as a still life or an oscillator. The grid must have cycle detection
+   * enabled.
+   *
+   * @return A condition that stops a run when the grid repeats a recent state
+   * @see Grid#setCycleDetection(int)
+   */
+  static StopCondition whenRepeating() {
+    return (grid, cellUpdates) -> grid.getRepeatPeriod() > 0;
+  }
+
+  /**
+   * Get a condition that stops a run once no cell of the grid has the provided state, such as when
+   * every shark of a Wa-Tor World has died.
+   *
+   * @param state The state to check for
+   * @return A condition that stops a run when the state is extinct
+   */
+  static StopCondition whenStateAbsent(int state) {
+    return (grid, cellUpdates) -> {
+      for (int row = 0; row < grid.getRows(); row++) {
+        for (int col = 0; col < grid.getCols(); col++) {
+          if (grid.getState(row, col) == state) {
+            return false;
+          }
+        }
+      }
+      return true;
+    };
+  }
+}
@@ -0,0 +1,45 @@
+package cellsociety.headless;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A record to store the outcome of one run of a parameter sweep. Only summary statistics are kept,
+ * so the results of thousands of runs stay small.
+ *
+ * @param run          The index of the run in the sweep
+ * @param parameters   The swept parameter values of the run, by parameter name
+ * @param steps        The number of steps that were run
+ * @param stopped      true if the stop condition ended the run before its maximum number of steps
+ * @param repeatPeriod How many steps before its last step the grid last held its final state, 1
+ *                     for a still life, or 0 if the final state was not a recent repeat
+ * @param stateCounts  The number of cells in each state after the last step
+ * @param elapsedNanos The time spent stepping the grid
+ * @param error        The reason the simulation could not be created, or null if the run succeeded
+ * @author Owen Jennings
+ */
+public record SweepResult(int run, Map<String, String> parameters, int steps, boolean stopped,
+                          int repeatPeriod, List<Integer> stateCounts, long elapsedNanos,
+                          String error) {
+
+  /**
+   * Create the result of a run whose simulation could not be created.
+   *
+   * @param run        The index of the run in the sweep
+   * @param parameters The swept parameter values of the run
+   * @param error      The reason the simulation could not be created
+   * @return A result with no steps
+   */
+  public static SweepResult failed(int run, Map<String, String> parameters, String error) {
+    return new SweepResult(run, parameters, 0, false, 0, List.of(), 0, error);
+  }
+
+  /**
+   * Check if the run succeeded.
+   *
+   * @return true if the simulation was created and stepped
+   */
+  public boolean isSuccessful() {
+    return error == null;
+  }
+}
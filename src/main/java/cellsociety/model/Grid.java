@@ -1,16 +1,31 @@
 package cellsociety.model;
 
+import static cellsociety.config.MainConfig.DEFAULT_STORAGE_TYPE;
+
 import cellsociety.model.edge.EdgeStrategy;
+import cellsociety.model.engine.ChangeFrontier;
+import cellsociety.model.engine.CycleDetector;
+import cellsociety.model.engine.ParallelStripeStepper;
+import cellsociety.model.engine.ZobristHash;
+import cellsociety.model.profiling.ApplyUpdatesEvent;
+import cellsociety.model.profiling.EvaluateStatesEvent;
+import cellsociety.model.profiling.StepPhaseEvent;
+import cellsociety.model.storage.BufferedCellStorage;
+import cellsociety.model.storage.CellStorage;
+import cellsociety.model.storage.CellStorageFactory;
+import cellsociety.model.storage.CellStorageFactory.CellStorageType;
+import cellsociety.model.storage.ChangedCellList;
 import java.awt.geom.Point2D;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import cellsociety.config.SimulationConfig;
 import cellsociety.model.cell.Cell;
 import cellsociety.model.cell.CellUpdate;
 import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.SimulationRules;
 
 /**
  * A class that handles working with cells within a simulation grid.
@@ -21,21 +36,43 @@ public class Grid {
 
   private final int myNumRows;
   private final int myNumCols;
-  private final Map<Point2D, Cell> myCells;
+  private final CellStorageType myStorageType;
+  private final CellStorage myCells;
   private EdgeStrategy myEdgeStrategy;
+  private ChangeFrontier myFrontier;
+  private ParallelStripeStepper myParallelStepper;
+  private CycleDetector myCycleDetector;
+  private long myStateHash;
+  private int[] myStateCounts = new int[0];
+  private int[] myChangedIndices = new int[0];
+  private int[] myChangedStates = new int[0];
 
   /**
-   * Initialize a data structure to store a grid with the defined width and height.
+   * Initialize a data structure to store a grid with the defined width and height, using the
+   * default cell storage.
    *
    * @param numRows      (int) number of rows
    * @param numCols      (int) number of columns
    * @param edgeStrategy The edge strategy to use handling the edges of this grid
    */
   public Grid(int numRows, int numCols, EdgeStrategy edgeStrategy) {
+    this(numRows, numCols, edgeStrategy, DEFAULT_STORAGE_TYPE);
+  }
+
+  /**
+   * Initialize a data structure to store a grid with the defined width and height.
+   *
+   * @param numRows      (int) number of rows
+   * @param numCols      (int) number of columns
+   * @param edgeStrategy The edge strategy to use handling the edges of this grid
+   * @param storageType  The type of storage used to hold the cells of this grid
+   */
+  public Grid(int numRows, int numCols, EdgeStrategy edgeStrategy, CellStorageType storageType) {
     myNumRows = numRows;
     myNumCols = numCols;
     myEdgeStrategy = edgeStrategy;
-    myCells = new HashMap<>();
+    myStorageType = storageType;
+    myCells = CellStorageFactory.createCellStorage(storageType, numRows, numCols);
   }
 
   /**
@@ -47,6 +84,15 @@ public class Grid {
     myEdgeStrategy = edgeStrategy;
   }
 
+  /**
+   * Get the edge strategy of this grid.
+   *
+   * @return The edge strategy used to handle the edges of this grid
+   */
+  public EdgeStrategy getEdgeStrategy() {
+    return myEdgeStrategy;
+  }
+
   /**
    * Get the number of rows in a grid.
    *
@@ -65,6 +111,15 @@ public class Grid {
     return myNumCols;
   }
 
+  /**
+   * Get the type of storage used to hold the cells of this grid.
+   *
+   * @return The cell storage type of this grid
+   */
+  public CellStorageType getStorageType() {
+    return myStorageType;
+  }
+
   /**
    * Get a cell at the specified col and row, if it exists.
    *
@@ -74,12 +129,30 @@ public class Grid {
    * of bounds
    */
   public Cell getCell(int row, int col) {
-    Point2D adjustedPoint = myEdgeStrategy.adjustCoordinate(new Point2D.Double(row, col), myNumRows,
-        myNumCols);
-    if (checkOutOfBounds(adjustedPoint)) {
+    int adjustedRow = myEdgeStrategy.adjustRow(row, myNumRows);
+    int adjustedCol = myEdgeStrategy.adjustCol(col, myNumCols);
+    if (checkOutOfBounds(adjustedRow, adjustedCol)) {
       return null;
     }
-    return myCells.get(adjustedPoint);
+    return myCells.get(adjustedRow, adjustedCol);
+  }
+
+  /**
+   * Get the state of the cell at the specified col and row, if it exists. Unlike getCell, this
+   * does not require the cell object to be dereferenced when the grid uses a dense storage.
+   *
+   * @param row Row of cell
+   * @param col Column of cell
+   * @return The state of the cell at the specified location, or -1 if it does not exist or is out
+   * of bounds
+   */
+  public int getState(int row, int col) {
+    int adjustedRow = myEdgeStrategy.adjustRow(row, myNumRows);
+    int adjustedCol = myEdgeStrategy.adjustCol(col, myNumCols);
+    if (checkOutOfBounds(adjustedRow, adjustedCol)) {
+      return -1;
+    }
+    return myCells.getState(adjustedRow, adjustedCol);
   }
 
   /**
@@ -94,7 +167,7 @@ public class Grid {
     if (checkOutOfBounds(adjustedPoint)) {
       return null;
     }
-    return myCells.get(adjustedPoint);
+    return myCells.get((int) adjustedPoint.getX(), (int) adjustedPoint.getY());
   }
 
   /**
@@ -102,8 +175,8 @@ public class Grid {
    *
    * @param cell The cell you which to add
    * @return true if the cell is successfully added. false if the cell cannot be added because the
-   * cells location is improperly formatted or because there is already a cell in the specified
-   * location
+   * cells location is improperly formatted or outside the grid, even if the edge strategy would
+   * wrap it into the grid, or because there is already a cell in the specified location
    */
   public boolean addCell(Cell cell) {
     if (cellExists(
@@ -121,7 +194,10 @@ public class Grid {
    */
   public boolean cellExists(Point2D location) {
     location = myEdgeStrategy.adjustCoordinate(location, myNumRows, myNumCols);
-    return myCells.containsKey(location);
+    if (checkOutOfBounds(location)) {
+      return false;
+    }
+    return myCells.contains((int) location.getX(), (int) location.getY());
   }
 
   /**
@@ -135,13 +211,134 @@ public class Grid {
    * @return The cell state updates that have occurred when the grid was updated
    */
   public List<CellUpdate> updateGrid(Simulation simulation) {
-    List<CellUpdate> nextStates = simulation.rules().getNextStatesForAllCells(this);
-    for (CellUpdate nextState : nextStates) {
-      updateCell(nextState.getNextCell());
+    List<CellUpdate> nextStates = getNextStates(simulation);
+    simulation.random().advanceStep();
+    if (myCycleDetector != null) {
+      myCycleDetector.record(myStateHash);
     }
     return nextStates;
   }
 
+  /**
+   * Set whether updateGrid only evaluates the cells that changed in the previous step and the cells
+   * that depend on them, for rules that support frontier updates. Other rules are always stepped by
+   * evaluating every cell.
+   *
+   * @param enabled true to step supported rules with a frontier of changed cells
+   * @see ChangeFrontier
+   */
+  public void setFrontierUpdate(boolean enabled) {
+    myFrontier = enabled ? new ChangeFrontier(myNumRows, myNumCols) : null;
+  }
+
+  /**
+   * Get whether updateGrid steps supported rules with a frontier of changed cells.
+   *
+   * @return true if frontier updates are enabled
+   */
+  public boolean isFrontierUpdate() {
+    return myFrontier != null;
+  }
+
+  /**
+   * Set the pool that updateGrid evaluates the next states of supported rules on, in parallel
+   * stripes of rows. Other rules are always stepped on the calling thread. Frontier updates take
+   * precedence over parallel updates when both are enabled and supported. Applying the evaluated
+   * states stays on the calling thread.
+   *
+   * @param pool The pool to evaluate stripes on, or null to evaluate every cell on the calling
+   *             thread
+   * @see ParallelStripeStepper
+   */
+  public void setParallelUpdate(ForkJoinPool pool) {
+    myParallelStepper = (pool == null) ? null : new ParallelStripeStepper(pool);
+  }
+
+  /**
+   * Get whether updateGrid evaluates supported rules in parallel stripes of rows.
+   *
+   * @return true if parallel updates are enabled
+   */
+  public boolean isParallelUpdate() {
+    return myParallelStepper != null;
+  }
+
+  /**
+   * Get the Zobrist hash of the states of this grid, which is kept up to date as cells are stored,
+   * in time proportional to the number of cells that change.
+   *
+   * @return The 64-bit hash of the states of every cell
+   * @see ZobristHash
+   */
+  public long getStateHash() {
+    return myStateHash;
+  }
+
+  /**
+   * Get the number of cells of this grid in a state. Counts are kept up to date as cells are
+   * stored, in constant time per changed cell, so reading them never scans the grid.
+   *
+   * @param state The state to count
+   * @return The number of cells in the provided state
+   */
+  public int getStateCount(int state) {
+    return (state >= 0 && state < myStateCounts.length) ? myStateCounts[state] : 0;
+  }
+
+  /**
+   * Get the number of cells of this grid in every state.
+   *
+   * @return A copy of the counts indexed by state, as long as the highest state ever stored plus
+   * one
+   */
+  public int[] getStateCounts() {
+    return myStateCounts.clone();
+  }
+
+  /**
+   * Set whether updateGrid checks if each step returns the grid to a state it held in one of its
+   * recent steps. Enabling detection starts a new history with the current states of the grid.
+   *
+   * @param historySize The number of recent steps to remember, which is the longest period that
+   *                    can be detected, or 0 to disable detection
+   * @see CycleDetector
+   */
+  public void setCycleDetection(int historySize) {
+    myCycleDetector = (historySize == 0) ? null : new CycleDetector(historySize);
+    if (myCycleDetector != null) {
+      myCycleDetector.record(myStateHash);
+    }
+  }
+
+  /**
+   * Forget the recent states of the grid, keeping the same history size, such as after the grid is
+   * moved back to an earlier step. Does nothing if cycle detection is disabled.
+   */
+  public void restartCycleDetection() {
+    if (myCycleDetector != null) {
+      setCycleDetection(myCycleDetector.getHistorySize());
+    }
+  }
+
+  /**
+   * Get whether updateGrid checks each step for a repeated state.
+   *
+   * @return true if cycle detection is enabled
+   */
+  public boolean isCycleDetection() {
+    return myCycleDetector != null;
+  }
+
+  /**
+   * Get how many steps ago the grid last held the state produced by the most recent step.
+   *
+   * @return 0 if the state is new or cycle detection is disabled, 1 if the grid is a still life
+   * and p if the grid is a period-p oscillator
+   */
+  public int getRepeatPeriod() {
+    return (myCycleDetector == null) ? 0 : myCycleDetector.getPeriod();
+  }
+
   /**
    * Checks if the current locations is a boundary/wall for a simulation.
    *
@@ -173,7 +370,7 @@ public class Grid {
    * @return - an iterator of all the cells in a grid
    */
   public Iterator<Cell> getCellIterator() {
-    return new ArrayList<>(myCells.values()).iterator();
+    return myCells.getCells().iterator();
   }
 
   /**
@@ -184,19 +381,134 @@ public class Grid {
    * @param newState The new state you wish to give the cell
    */
   public void setState(int row, int col, int newState, Simulation simulation) {
-    Cell cell = SimulationConfig.getNewCell(row, col, newState, simulation.data().type());
+    Cell cell = SimulationConfig.getCellFactory(simulation.data().type())
+        .createCell(row, col, newState);
     updateCell(cell);
   }
 
+  // evaluating and applying the next states are timed as separate step phases
+  private List<CellUpdate> getNextStates(Simulation simulation) {
+    SimulationRules rules = simulation.rules();
+    boolean isBuffered = isBufferedUpdate(rules);
+    StepPhaseEvent evaluateEvent = new EvaluateStatesEvent();
+    evaluateEvent.begin();
+    List<CellUpdate> nextStates = List.of();
+    if (isBuffered) {
+      writeBackBuffer(rules);
+    } else {
+      nextStates = evaluateNextStates(rules);
+    }
+    evaluateEvent.end();
+    StepPhaseEvent applyEvent = new ApplyUpdatesEvent();
+    applyEvent.begin();
+    nextStates = isBuffered ? swapBuffers() : applyCellUpdates(nextStates);
+    applyEvent.end();
+    long step = simulation.random().getStep() + 1;
+    evaluateEvent.commitPhase(simulation.data().type(), this, nextStates.size(), step);
+    applyEvent.commitPhase(simulation.data().type(), this, nextStates.size(), step);
+    return nextStates;
+  }
+
+  private List<CellUpdate> evaluateNextStates(SimulationRules rules) {
+    if (myFrontier != null && ChangeFrontier.isSupported(rules)) {
+      return myFrontier.getNextStates(this, rules);
+    }
+    if (isParallelUpdate(rules)) {
+      int[] evaluatedStates = new int[myNumRows * myNumCols];
+      myParallelStepper.writeNextStates(this, rules, evaluatedStates);
+      return rules.getNextStatesFromEvaluatedStates(this, evaluatedStates);
+    }
+    return rules.getNextStatesForAllCells(this);
+  }
+
+  private boolean isBufferedUpdate(SimulationRules rules) {
+    return !(myFrontier != null && ChangeFrontier.isSupported(rules))
+        && myCells instanceof BufferedCellStorage && rules.supportsBufferedUpdate();
+  }
+
+  private void writeBackBuffer(SimulationRules rules) {
+    BufferedCellStorage storage = (BufferedCellStorage) myCells;
+    if (isParallelUpdate(rules)) {
+      myParallelStepper.writeNextStates(this, rules, storage.getBackBuffer());
+    } else {
+      rules.writeNextStates(this, storage.getBackBuffer());
+    }
+  }
+
+  // the swap and finding the changed cells each compare every state once, which is a pass over
+  // the grid like the one that wrote the back buffer; changes are recorded in reused arrays, so
+  // only the returned list and the refreshed cells are allocated
+  private List<CellUpdate> swapBuffers() {
+    BufferedCellStorage storage = (BufferedCellStorage) myCells;
+    storage.swapBuffers();
+    int numChanged = 0;
+    for (int row = 0; row < myNumRows; row++) {
+      for (int col = 0; col < myNumCols; col++) {
+        int state = storage.getState(row, col);
+        int previousState = storage.getPreviousState(row, col);
+        if (state != previousState) {
+          int index = row * myNumCols + col;
+          myStateHash ^= ZobristHash.delta(index, previousState, state);
+          countStateChange(previousState, state);
+          if (numChanged == myChangedIndices.length) {
+            int capacity = Math.max(16, Math.min(numChanged * 2, myNumRows * myNumCols));
+            myChangedIndices = Arrays.copyOf(myChangedIndices, capacity);
+            myChangedStates = Arrays.copyOf(myChangedStates, capacity);
+          }
+          myChangedIndices[numChanged] = index;
+          myChangedStates[numChanged++] = state;
+        }
+      }
+    }
+    return new ChangedCellList(myNumCols, myChangedIndices, myChangedStates, numChanged);
+  }
+
+  private boolean isParallelUpdate(SimulationRules rules) {
+    return myParallelStepper != null && ParallelStripeStepper.isSupported(rules);
+  }
+
   private boolean attemptAddCell(Cell cell) {
     // attempts to add cell to grid. Fails and returns false if cell provided does not have a properly formatted location or does not fit within the grid's width and height
     if (checkOutOfBounds(cell.getLocation())) {
       return false;
     }
-    myCells.put(cell.getLocation(), cell);
+    if (checkOutOfBounds(cell.getRow(), cell.getCol())) {
+      return false; // storage is indexed by the cell's own location, not its wrapped location
+    }
+    int previousState = myCells.getState(cell.getRow(), cell.getCol());
+    myCells.put(cell);
+    myStateHash ^= ZobristHash.delta(cell.getRow() * myNumCols + cell.getCol(), previousState,
+        cell.getState());
+    countStateChange(previousState, cell.getState());
+    if (myFrontier != null) {
+      myFrontier.markChanged(cell.getRow(), cell.getCol());
+    }
     return true;
   }
 
+  private void countStateChange(int previousState, int state) {
+    if (previousState >= 0) {
+      myStateCounts[previousState]--;
+    }
+    if (state >= 0) {
+      if (state >= myStateCounts.length) {
+        myStateCounts = Arrays.copyOf(myStateCounts, state + 1);
+      }
+      myStateCounts[state]++;
+    }
+  }
+
+  private List<CellUpdate> applyCellUpdates(List<CellUpdate> nextStates) {
+    for (CellUpdate nextState : nextStates) {
+      updateCell(nextState.getNextCell());
+    }
+    return nextStates;
+  }
+
+  private boolean checkOutOfBounds(int row, int col) {
+    return row < 0 || col < 0 || row >= myNumRows || col >= myNumCols;
+  }
+
   private boolean checkOutOfBounds(Point2D location) {
     location = myEdgeStrategy.adjustCoordinate(location, myNumRows, myNumCols);
     return (!(location.getX() >= 0)) ||
@@ -0,0 +1,21 @@
+package cellsociety.model.cell;
+
+/**
+ * A way to create the cells of one simulation type. The cell type of a simulation is resolved once
+ * into a factory, so filling a grid only allocates cells.
+ *
+ * @author Owen Jennings
+ */
+@FunctionalInterface
+public interface CellFactory {
+
+  /**
+   * Create a cell.
+   *
+   * @param row   The row of the cell
+   * @param col   The column of the cell
+   * @param state The initial state of the cell
+   * @return A new cell of the type this factory creates
+   */
+  Cell createCell(int row, int col, int state);
+}
@@ -21,4 +21,29 @@ public interface EdgeStrategy {
    * strategy.
    */
   Point2D adjustCoordinate(Point2D point, int numRows, int numCols);
+
+  /**
+   * Computes the adjusted row for a given row index. Edge strategies treat rows and columns
+   * independently, so this allows a grid to adjust a coordinate without allocating a Point2D. By
+   * default, this delegates to adjustCoordinate.
+   *
+   * @param row     The row being adjusted.
+   * @param numRows The number of rows in the grid.
+   * @return The adjusted row index
+   */
+  default int adjustRow(int row, int numRows) {
+    return (int) adjustCoordinate(new Point2D.Double(row, 0), numRows, 1).getX();
+  }
+
+  /**
+   * Computes the adjusted column for a given column index. By default, this delegates to
+   * adjustCoordinate.
+   *
+   * @param col     The column being adjusted.
+   * @param numCols The number of columns in the grid.
+   * @return The adjusted column index
+   */
+  default int adjustCol(int col, int numCols) {
+    return (int) adjustCoordinate(new Point2D.Double(0, col), 1, numCols).getY();
+  }
 }
@@ -13,4 +13,14 @@ public class FixedEdgeStrategy implements EdgeStrategy {
   public Point2D adjustCoordinate(Point2D point, int numRows, int numCols) {
     return point; // return the point provided and do not adjust
   }
+
+  @Override
+  public int adjustRow(int row, int numRows) {
+    return row;
+  }
+
+  @Override
+  public int adjustCol(int col, int numCols) {
+    return col;
+  }
 }
@@ -11,22 +11,28 @@ public class MirrorEdgeStrategy implements EdgeStrategy {
 
   @Override
   public Point2D adjustCoordinate(Point2D point, int numRows, int numCols) {
-    int x = (int) point.getX();
-    int y = (int) point.getY();
+    int x = mirror((int) point.getX(), numRows);
+    int y = mirror((int) point.getY(), numCols);
+    return new Point2D.Double(x, y);
+  }
 
-    if (x < 0) {
-      x = -x;
-    }
-    if (x >= numRows) {
-      x = 2 * numRows - x - 2;
-    }
-    if (y < 0) {
-      y = -y;
+  @Override
+  public int adjustRow(int row, int numRows) {
+    return mirror(row, numRows);
+  }
+
+  @Override
+  public int adjustCol(int col, int numCols) {
+    return mirror(col, numCols);
+  }
+
+  private static int mirror(int value, int size) {
+    if (value < 0) {
+      value = -value;
     }
-    if (y >= numCols) {
-      y = 2 * numCols - y - 2;
+    if (value >= size) {
+      value = 2 * size - value - 2;
     }
-
-    return new Point2D.Double(x, y);
+    return value;
   }
 }
@@ -11,9 +11,21 @@ public class ToroidalEdgeStrategy implements EdgeStrategy {
 
   @Override
   public Point2D adjustCoordinate(Point2D point, int numRows, int numCols) {
+    return new Point2D.Double(wrap((int) point.getX(), numRows), wrap((int) point.getY(), numCols));
+  }
+
+  @Override
+  public int adjustRow(int row, int numRows) {
+    return wrap(row, numRows);
+  }
+
+  @Override
+  public int adjustCol(int col, int numCols) {
+    return wrap(col, numCols);
+  }
+
+  private static int wrap(int value, int size) {
     // I used ChatGPT to help get the newX and newY for this edge strategy
-    int newX = (((int) point.getX() % numRows) + numRows) % numRows;
-    int newY = (((int) point.getY() % numCols) + numCols) % numCols;
-    return new Point2D.Double(newX, newY);
+    return ((value % size) + size) % size;
   }
 }
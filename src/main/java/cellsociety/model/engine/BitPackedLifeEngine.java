@@ -0,0 +1,291 @@
+package cellsociety.model.engine;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.Cell;
+import cellsociety.model.cell.CellUpdate;
+import cellsociety.model.cell.DefaultCell;
+import cellsociety.model.edge.FixedEdgeStrategy;
+import cellsociety.model.edge.ToroidalEdgeStrategy;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.neighbors.MooreNeighbors;
+import cellsociety.model.simulation.rules.GameOfLifeRules;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A Game of Life engine that stores 64 cells per long and computes the Moore neighbor counts of 64
+ * cells at a time with bit-sliced (SWAR) arithmetic. The engine honors the birth and survive values
+ * of a GameOfLifeRules rule string and supports the Fixed and Toroidal edge strategies.
+ * <p>
+ * The engine holds its own copy of the grid's states. Load it from a grid, advance it any number
+ * of generations, and write the result back to the grid only when it is needed.
+ *
+ * @author Owen Jennings
+ */
+public class BitPackedLifeEngine {
+
+  private static final int WORD_SIZE = 64;
+  private static final int MAX_NEIGHBORS = 8;
+  private final int myNumRows;
+  private final int myNumCols;
+  private final int myWordsPerRow;
+  private final boolean isToroidal;
+  private final long myLastWordMask;
+  private final int[] myBirthCounts;
+  private final int[] mySurviveCounts;
+  // rows are stored with an extra halo row above and below the grid
+  private long[] myWords;
+  private long[] myNextWords;
+  private long myGeneration;
+  private long myChangedCells;
+
+  /**
+   * Create a bit-packed engine holding the current states of the provided grid.
+   *
+   * @param grid  The grid to load states from
+   * @param rules The Game of Life rules to step the grid with
+   * @throws IllegalArgumentException If the grid's edge strategy or the rules' neighbor
+   *                                  configuration is not supported, or the rule string is not
+   *                                  totalistic
+   */
+  public BitPackedLifeEngine(Grid grid, GameOfLifeRules rules) {
+    if (!isSupportedEdge(grid) || !isSupportedNeighbors(rules)) {
+      throw new IllegalArgumentException(
+          "Bit-packed engine requires a Fixed or Toroidal grid with one layer of Moore neighbors "
+              + "and a totalistic rule string.");
+    }
+    myNumRows = grid.getRows();
+    myNumCols = grid.getCols();
+    myWordsPerRow = (myNumCols + WORD_SIZE - 1) / WORD_SIZE;
+    isToroidal = grid.getEdgeStrategy() instanceof ToroidalEdgeStrategy;
+    int usedBits = myNumCols - (myWordsPerRow - 1) * WORD_SIZE;
+    myLastWordMask = (usedBits == WORD_SIZE) ? -1L : (1L << usedBits) - 1;
+    myBirthCounts = getNeighborCounts(rules.getBirthMask());
+    mySurviveCounts = getNeighborCounts(rules.getSurviveMask());
+    myWords = new long[(myNumRows + 2) * myWordsPerRow];
+    myNextWords = new long[(myNumRows + 2) * myWordsPerRow];
+    load(grid);
+  }
+
+  /**
+   * Check if a grid and simulation can be stepped by this engine.
+   *
+   * @param grid       The grid you want to step
+   * @param simulation The simulation you want to step the grid with
+   * @return true if the simulation uses totalistic Game of Life rules with one layer of Moore
+   * neighbors, and the grid uses a Fixed or Toroidal edge strategy
+   */
+  public static boolean isSupported(Grid grid, Simulation simulation) {
+    return simulation.rules() instanceof GameOfLifeRules rules && isSupportedNeighbors(rules)
+        && isSupportedEdge(grid);
+  }
+
+  /**
+   * Advance the engine by one generation.
+   */
+  public void step() {
+    fillHaloRows();
+    myChangedCells = 0;
+    for (int row = 1; row <= myNumRows; row++) {
+      stepRow(row);
+    }
+    long[] previousWords = myWords;
+    myWords = myNextWords;
+    myNextWords = previousWords;
+    myGeneration++;
+  }
+
+  /**
+   * Advance the engine by the provided number of generations.
+   *
+   * @param generations The number of generations to advance
+   */
+  public void step(int generations) {
+    for (int i = 0; i < generations; i++) {
+      step();
+    }
+  }
+
+  /**
+   * Get the number of generations this engine has advanced since it was loaded.
+   *
+   * @return The number of generations stepped
+   */
+  public long getGeneration() {
+    return myGeneration;
+  }
+
+  /**
+   * Get the state of a cell held by this engine.
+   *
+   * @param row Row of cell
+   * @param col Column of cell
+   * @return 1 if the cell is alive, 0 otherwise
+   */
+  public int getState(int row, int col) {
+    long word = myWords[(row + 1) * myWordsPerRow + col / WORD_SIZE];
+    return (int) ((word >>> (col % WORD_SIZE)) & 1L);
+  }
+
+  /**
+   * Get the number of cells whose state changed in the last generation this engine advanced.
+   *
+   * @return The number of cells that were born or died in the last generation
+   */
+  public long getChangedCells() {
+    return myChangedCells;
+  }
+
+  /**
+   * Get the number of alive cells held by this engine.
+   *
+   * @return The number of alive cells
+   */
+  public long getPopulation() {
+    long population = 0;
+    for (int i = myWordsPerRow; i < (myNumRows + 1) * myWordsPerRow; i++) {
+      population += Long.bitCount(myWords[i]);
+    }
+    return population;
+  }
+
+  /**
+   * Write the states held by this engine to a grid, replacing every cell whose state differs with
+   * a default cell holding the engine's state.
+   *
+   * @param grid The grid to write to, which must have the same dimensions as the loaded grid
+   * @return The cell updates that were applied to the grid
+   */
+  public List<CellUpdate> writeToGrid(Grid grid) {
+    List<CellUpdate> cellUpdates = new ArrayList<>();
+    for (int row = 0; row < myNumRows; row++) {
+      for (int col = 0; col < myNumCols; col++) {
+        int state = getState(row, col);
+        Cell cell = grid.getCell(row, col);
+        if (cell != null && cell.getState() != state) {
+          Cell nextCell = new DefaultCell(state, cell.getLocation());
+          grid.updateCell(nextCell);
+          cellUpdates.add(new CellUpdate(nextCell.getLocation(), nextCell));
+        }
+      }
+    }
+    return cellUpdates;
+  }
+
+  private void load(Grid grid) {
+    for (int row = 0; row < myNumRows; row++) {
+      for (int col = 0; col < myNumCols; col++) {
+        if (grid.getState(row, col) == 1) {
+          myWords[(row + 1) * myWordsPerRow + col / WORD_SIZE] |= 1L << (col % WORD_SIZE);
+        }
+      }
+    }
+  }
+
+  private void fillHaloRows() {
+    if (isToroidal) {
+      System.arraycopy(myWords, myNumRows * myWordsPerRow, myWords, 0, myWordsPerRow);
+      System.arraycopy(myWords, myWordsPerRow, myWords, (myNumRows + 1) * myWordsPerRow,
+          myWordsPerRow);
+    }
+    // halo rows of a fixed grid are never written, so they always hold dead cells
+  }
+
+  private void stepRow(int row) {
+    int up = (row - 1) * myWordsPerRow;
+    int center = row * myWordsPerRow;
+    int down = (row + 1) * myWordsPerRow;
+    for (int i = 0; i < myWordsPerRow; i++) {
+      long next = getNextWord(
+          west(up, i), myWords[up + i], east(up, i),
+          west(center, i), myWords[center + i], east(center, i),
+          west(down, i), myWords[down + i], east(down, i));
+      if (i == myWordsPerRow - 1) {
+        next &= myLastWordMask;
+      }
+      myNextWords[center + i] = next;
+      myChangedCells += Long.bitCount(next ^ myWords[center + i]);
+    }
+  }
+
+  // Each neighbor word holds one neighbor for 64 cells. The counts of the 8 neighbors are summed
+  // with a tree of bit-sliced full adders into four bit planes (count = b0 + 2b1 + 4b2 + 8b3).
+  private long getNextWord(long n0, long n1, long n2, long n3, long alive, long n4, long n5,
+      long n6, long n7) {
+    long sumA = n0 ^ n1 ^ n2;
+    long carryA = (n0 & n1) | (n2 & (n0 ^ n1));
+    long sumB = n3 ^ n4 ^ n5;
+    long carryB = (n3 & n4) | (n5 & (n3 ^ n4));
+    long sumC = n6 ^ n7;
+    long carryC = n6 & n7;
+    long b0 = sumA ^ sumB ^ sumC;
+    long carryD = (sumA & sumB) | (sumC & (sumA ^ sumB));
+    long twos = carryA ^ carryB ^ carryC;
+    long foursA = (carryA & carryB) | (carryC & (carryA ^ carryB));
+    long b1 = twos ^ carryD;
+    long foursB = twos & carryD;
+    long b2 = foursA ^ foursB;
+    long b3 = foursA & foursB;
+    long born = matchCounts(myBirthCounts, b0, b1, b2, b3);
+    long survives = matchCounts(mySurviveCounts, b0, b1, b2, b3);
+    return (alive & survives) | (~alive & born);
+  }
+
+  private static long matchCounts(int[] counts, long b0, long b1, long b2, long b3) {
+    long matches = 0;
+    for (int count : counts) {
+      matches |= select(count, 0, b0) & select(count, 1, b1) & select(count, 2, b2)
+          & select(count, 3, b3);
+    }
+    return matches;
+  }
+
+  private static long select(int count, int bit, long plane) {
+    return ((count >> bit) & 1) == 1 ? plane : ~plane;
+  }
+
+  private long west(int rowStart, int i) {
+    long carry;
+    if (i > 0) {
+      carry = myWords[rowStart + i - 1] >>> (WORD_SIZE - 1);
+    } else if (isToroidal) {
+      carry = (myWords[rowStart + myWordsPerRow - 1] >>> ((myNumCols - 1) % WORD_SIZE)) & 1L;
+    } else {
+      carry = 0;
+    }
+    return (myWords[rowStart + i] << 1) | carry;
+  }
+
+  private long east(int rowStart, int i) {
+    long carry;
+    if (i < myWordsPerRow - 1) {
+      carry = myWords[rowStart + i + 1] << (WORD_SIZE - 1);
+    } else if (isToroidal) {
+      carry = (myWords[rowStart] & 1L) << ((myNumCols - 1) % WORD_SIZE);
+    } else {
+      carry = 0;
+    }
+    return (myWords[rowStart + i] >>> 1) | carry;
+  }
+
+  private static int[] getNeighborCounts(int mask) {
+    int[] counts = new int[Integer.bitCount(mask & ((1 << (MAX_NEIGHBORS + 1)) - 1))];
+    int index = 0;
+    for (int count = 0; count <= MAX_NEIGHBORS; count++) {
+      if ((mask & (1 << count)) != 0) {
+        counts[index++] = count;
+      }
+    }
+    return counts;
+  }
+
+  private static boolean isSupportedEdge(Grid grid) {
+    return grid.getEdgeStrategy() instanceof FixedEdgeStrategy
+        || grid.getEdgeStrategy() instanceof ToroidalEdgeStrategy;
+  }
+
+  private static boolean isSupportedNeighbors(GameOfLifeRules rules) {
+    return rules.getNeighborConfig().getClass() == MooreNeighbors.class && rules.getLayers() == 1
+        && rules.isTotalistic();
+  }
+}
@@ -0,0 +1,88 @@
+package cellsociety.model.engine;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.CellUpdate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Merges the cell updates of several steps into one last-writer-wins set of changes, so a cell that
+ * changes many times between two frames is only repainted once, with its latest state. Cells are
+ * kept in the order they first changed.
+ *
+ * @author Owen Jennings
+ */
+public class ChangeCoalescer {
+
+  private final int myNumCols;
+  private final boolean[] isChanged;
+  private final int[] myStates;
+  private final double[] myOpacities;
+  private int[] myChangedCells;
+  private int myNumChanged;
+
+  /**
+   * Create an empty coalescer for a grid of the provided size.
+   *
+   * @param numRows The number of rows in the grid
+   * @param numCols The number of columns in the grid
+   */
+  public ChangeCoalescer(int numRows, int numCols) {
+    myNumCols = numCols;
+    isChanged = new boolean[numRows * numCols];
+    myStates = new int[numRows * numCols];
+    myOpacities = new double[numRows * numCols];
+    myChangedCells = new int[0];
+  }
+
+  /**
+   * Add the cell updates of a step, replacing the earlier changes of the same cells.
+   *
+   * @param cellUpdates The cell updates of the step, as returned by Grid.updateGrid
+   */
+  public void add(List<CellUpdate> cellUpdates) {
+    for (CellUpdate cellUpdate : cellUpdates) {
+      int index = cellUpdate.getRow() * myNumCols + cellUpdate.getCol();
+      if (!isChanged[index]) {
+        isChanged[index] = true;
+        if (myNumChanged == myChangedCells.length) {
+          myChangedCells = Arrays.copyOf(myChangedCells, Math.max(16, myNumChanged * 2));
+        }
+        myChangedCells[myNumChanged++] = index;
+      }
+      myStates[index] = cellUpdate.getState();
+      myOpacities[index] = cellUpdate.getNextCell().getOpacity();
+    }
+  }
+
+  /**
+   * Get the number of cells that changed since the last frame was taken.
+   *
+   * @return The number of changed cells
+   */
+  public int getNumberChanged() {
+    return myNumChanged;
+  }
+
+  /**
+   * Capture a frame of the grid holding the latest change of every changed cell, and start over
+   * with no changes.
+   *
+   * @param step The number of the step that produced the grid
+   * @param grid The grid after the step
+   * @return A frame with one change per changed cell
+   */
+  public SimulationFrame takeFrame(long step, Grid grid) {
+    int[] changedCells = Arrays.copyOf(myChangedCells, myNumChanged);
+    int[] changedStates = new int[myNumChanged];
+    double[] changedOpacities = new double[myNumChanged];
+    for (int i = 0; i < myNumChanged; i++) {
+      int index = changedCells[i];
+      changedStates[i] = myStates[index];
+      changedOpacities[i] = myOpacities[index];
+      isChanged[index] = false;
+    }
+    myNumChanged = 0;
+    return SimulationFrame.capture(step, grid, changedCells, changedStates, changedOpacities);
+  }
+}
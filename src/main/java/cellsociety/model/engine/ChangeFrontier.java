@@ -0,0 +1,158 @@
+package cellsociety.model.engine;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.Cell;
+import cellsociety.model.cell.CellUpdate;
+import cellsociety.model.cell.DefaultCell;
+import cellsociety.model.simulation.SimulationRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A frontier of active cells for stepping a grid without re-evaluating regions that did not change.
+ * For rules that support frontier updates, a cell can only change state if it or a cell it depends
+ * on changed in the previous step, so each step only evaluates the cells that changed and their
+ * dependent cells. Sparse patterns on large grids then cost time proportional to their activity
+ * instead of the area of the grid.
+ * <p>
+ * The grid reports every cell it stores to the frontier, so changes made outside of a step (such as
+ * editing a cell) are picked up by the next step. The first step, and the first step after the
+ * rules change, evaluate every cell.
+ * <p>
+ * Changed and active cells are held as row-major indices in arrays that are reused by every step,
+ * so a step allocates nothing beyond the updates it returns.
+ *
+ * @author Owen Jennings
+ */
+public class ChangeFrontier {
+
+  private final int myNumRows;
+  private final int myNumCols;
+  private final boolean[] isChanged;
+  private final boolean[] isQueued;
+  private int[] myChangedCells = new int[0];
+  private int myNumChanged;
+  private int[] myActiveCells = new int[0];
+  private int myNumActive;
+  private SimulationRules myRules;
+
+  /**
+   * Create an empty frontier for a grid of the provided size.
+   *
+   * @param numRows The number of rows in the grid
+   * @param numCols The number of columns in the grid
+   */
+  public ChangeFrontier(int numRows, int numCols) {
+    myNumRows = numRows;
+    myNumCols = numCols;
+    isChanged = new boolean[numRows * numCols];
+    isQueued = new boolean[numRows * numCols];
+  }
+
+  /**
+   * Check if the provided rules can be stepped with a frontier.
+   *
+   * @param rules The rules you want to step a grid with
+   * @return true if the rules use the default getNextStatesForAllCells and support frontier updates
+   */
+  public static boolean isSupported(SimulationRules rules) {
+    return rules.supportsBufferedUpdate() && rules.supportsFrontierUpdate();
+  }
+
+  /**
+   * Record that the cell at the provided location was stored in the grid.
+   *
+   * @param row The row of the cell
+   * @param col The column of the cell
+   */
+  public void markChanged(int row, int col) {
+    int index = row * myNumCols + col;
+    if (!isChanged[index]) {
+      isChanged[index] = true;
+      if (myNumChanged == myChangedCells.length) {
+        myChangedCells = Arrays.copyOf(myChangedCells, Math.max(16, myNumChanged * 2));
+      }
+      myChangedCells[myNumChanged++] = index;
+    }
+  }
+
+  /**
+   * Get the cell updates for the next step, only evaluating the cells that changed since the
+   * previous step and their dependent cells. The updates are not applied to the grid.
+   *
+   * @param grid  The grid to step
+   * @param rules The rules to step the grid with, which must be supported
+   * @return The cell updates for every cell whose state changes
+   */
+  public List<CellUpdate> getNextStates(Grid grid, SimulationRules rules) {
+    List<CellUpdate> nextStates = new ArrayList<>();
+    if (rules != myRules) {
+      myRules = rules;
+      clearChangedCells();
+      for (int index = 0; index < myNumRows * myNumCols; index++) {
+        addNextState(index, grid, rules, nextStates);
+      }
+      return nextStates;
+    }
+    queueActiveCells(grid, rules);
+    for (int i = 0; i < myNumActive; i++) {
+      isQueued[myActiveCells[i]] = false;
+      addNextState(myActiveCells[i], grid, rules, nextStates);
+    }
+    myNumActive = 0;
+    return nextStates;
+  }
+
+  /**
+   * Get the number of cells that have been stored in the grid since the previous step.
+   *
+   * @return The number of changed cells
+   */
+  public int getNumberChanged() {
+    return myNumChanged;
+  }
+
+  private void addNextState(int index, Grid grid, SimulationRules rules,
+      List<CellUpdate> nextStates) {
+    Cell cell = grid.getCell(index / myNumCols, index % myNumCols);
+    if (cell != null) {
+      int nextState = rules.getNextState(cell, grid);
+      if (nextState != cell.getState()) {
+        nextStates.add(new CellUpdate(cell.getLocation(),
+            new DefaultCell(nextState, cell.getLocation())));
+      }
+    }
+  }
+
+  private void queueActiveCells(Grid grid, SimulationRules rules) {
+    for (int i = 0; i < myNumChanged; i++) {
+      int index = myChangedCells[i];
+      queue(index);
+      Cell cell = grid.getCell(index / myNumCols, index % myNumCols);
+      if (cell != null) {
+        for (Cell dependent : rules.getDependentCells(cell, grid)) {
+          queue(dependent.getRow() * myNumCols + dependent.getCol());
+        }
+      }
+    }
+    clearChangedCells();
+  }
+
+  private void clearChangedCells() {
+    for (int i = 0; i < myNumChanged; i++) {
+      isChanged[myChangedCells[i]] = false;
+    }
+    myNumChanged = 0;
+  }
+
+  private void queue(int index) {
+    if (!isQueued[index]) {
+      isQueued[index] = true;
+      if (myNumActive == myActiveCells.length) {
+        myActiveCells = Arrays.copyOf(myActiveCells, Math.max(16, myNumActive * 2));
+      }
+      myActiveCells[myNumActive++] = index;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package cellsociety.model.engine;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Detects when a grid returns to a state it held in one of its recent steps, from a bounded history
+ * of grid hashes. A grid that repeats the state of the previous step is a still life, and a grid
+ * that repeats the state of p steps ago is a period-p oscillator. Recording a step takes constant
+ * time, however long the history is.
+ * <p>
+ * For deterministic rules, a repeated state means the grid will cycle forever. Rules that use
+ * random numbers can leave a repeated state on a later step. Hashes are 64 bits, so two different
+ * states are practically never reported as a repeat.
+ *
+ * @author Owen Jennings
+ */
+public class CycleDetector {
+
+  public static final int DEFAULT_HISTORY_SIZE = 64;
+  private final long[] myHashes;
+  private final Map<Long, Long> myLatestSteps = new HashMap<>();
+  private long myStep;
+  private int myPeriod;
+
+  /**
+   * Create a detector that remembers the hashes of the provided number of recent steps, so that
+   * oscillators with a period up to that number are detected.
+   *
+   * @param historySize The number of recent hashes to remember
+   * @throws IllegalArgumentException If the history size is less than 1
+   */
+  public CycleDetector(int historySize) {
+    if (historySize < 1) {
+      throw new IllegalArgumentException(
+          String.format("Invalid cycle history size %d.", historySize));
+    }
+    myHashes = new long[historySize];
+  }
+
+  /**
+   * Record the hash of the grid after a step.
+   *
+   * @param hash The hash of the grid
+   * @return The period of the repeat, as for getPeriod
+   */
+  public int record(long hash) {
+    Long latestStep = myLatestSteps.get(hash);
+    myPeriod = (latestStep == null) ? 0 : (int) (myStep - latestStep);
+    int slot = (int) (myStep % myHashes.length);
+    if (myStep >= myHashes.length) {
+      myLatestSteps.remove(myHashes[slot], myStep - myHashes.length);
+    }
+    myHashes[slot] = hash;
+    myLatestSteps.put(hash, myStep);
+    myStep++;
+    return myPeriod;
+  }
+
+  /**
+   * Get how many steps ago the grid last held its current state.
+   *
+   * @return 0 if the latest hash is not in the history, 1 for a still life and p for a period-p
+   * oscillator
+   */
+  public int getPeriod() {
+    return myPeriod;
+  }
+
+  /**
+   * Get the number of recent hashes this detector remembers.
+   *
+   * @return The longest period that can be detected
+   */
+  public int getHistorySize() {
+    return myHashes.length;
+  }
+}
@@ -0,0 +1,48 @@
+package cellsociety.model.engine;
+
+/**
+ * A latest-wins slot for passing frames from the thread that steps a simulation to the thread that
+ * displays it. Publishing never waits for the display. If a frame is published before the previous
+ * one was taken, the two are combined so the skipped frame's changes are not lost, and only the
+ * latest states are displayed.
+ *
+ * @author Owen Jennings
+ */
+public class FrameSlot {
+
+  private SimulationFrame myFrame;
+  private long myNumSkipped;
+
+  /**
+   * Publish a frame, replacing any frame that has not been taken yet.
+   *
+   * @param frame The frame to publish
+   */
+  public synchronized void publish(SimulationFrame frame) {
+    if (myFrame != null) {
+      myNumSkipped++;
+      frame = myFrame.followedBy(frame);
+    }
+    myFrame = frame;
+  }
+
+  /**
+   * Take the latest published frame, leaving the slot empty.
+   *
+   * @return The latest frame, or null if no frame was published since the last take
+   */
+  public synchronized SimulationFrame take() {
+    SimulationFrame frame = myFrame;
+    myFrame = null;
+    return frame;
+  }
+
+  /**
+   * Get the number of frames that were replaced before they were taken.
+   *
+   * @return The number of skipped frames
+   */
+  public synchronized long getNumberSkipped() {
+    return myNumSkipped;
+  }
+}
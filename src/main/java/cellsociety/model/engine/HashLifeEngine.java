@@ -0,0 +1,427 @@
+package cellsociety.model.engine;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.Cell;
+import cellsociety.model.cell.CellUpdate;
+import cellsociety.model.cell.DefaultCell;
+import cellsociety.model.edge.FixedEdgeStrategy;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.neighbors.MooreNeighbors;
+import cellsociety.model.simulation.rules.GameOfLifeRules;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A HashLife engine for Game of Life rules, including isotropic non-totalistic rule strings. The
+ * pattern is stored as a quadtree of canonical (hash-consed) nodes, and the future of every node is
+ * memoized, so repetitive patterns such as gliders and guns can be advanced 2^k generations in a
+ * single call.
+ * <p>
+ * HashLife simulates an unbounded plane. The loaded grid is placed on that plane and cells outside
+ * of it start dead, so only grids with a Fixed edge strategy are supported, and results match the
+ * grid only while the pattern stays clear of its edges.
+ * States are only converted back to a grid when writeToGrid is called. Rule strings that give birth
+ * to cells with zero neighbors cannot be simulated on an unbounded plane and are not supported.
+ *
+ * @author Owen Jennings
+ */
+public class HashLifeEngine {
+
+  private static final int MIN_ROOT_LEVEL = 3;
+  private static final int MAX_STEP_LOG = 60;
+  private static final int MAX_CACHED_NODES = 1 << 22;
+  private final GameOfLifeRules myRules;
+  private final int myNumRows;
+  private final int myNumCols;
+  private final Node myDeadLeaf = new Node(0, null, null, null, null, 0);
+  private final Node myAliveLeaf = new Node(0, null, null, null, null, 1);
+  private final List<Node> myEmptyNodes = new ArrayList<>();
+  private Map<Node, Node> myNodes = new HashMap<>();
+  private Node myRoot;
+  // location of the root's top left corner relative to the top left corner of the loaded grid
+  private long myOriginRow;
+  private long myOriginCol;
+  private int myStepLog = -1;
+  private long myGeneration;
+
+  /**
+   * Create a HashLife engine holding the current states of the provided grid.
+   *
+   * @param grid  The grid to load states from
+   * @param rules The Game of Life rules to advance the pattern with
+   * @throws IllegalArgumentException If the grid's edge strategy is not Fixed, or the rules do not
+   *                                  use one layer of Moore neighbors or give birth to cells with
+   *                                  zero neighbors
+   */
+  public HashLifeEngine(Grid grid, GameOfLifeRules rules) {
+    if (!isSupportedEdge(grid) || !isSupportedRules(rules)) {
+      throw new IllegalArgumentException("HashLife requires a Fixed grid with one layer of Moore "
+          + "neighbors and a rule string without B0.");
+    }
+    myRules = rules;
+    myNumRows = grid.getRows();
+    myNumCols = grid.getCols();
+    myEmptyNodes.add(myDeadLeaf);
+    int level = MIN_ROOT_LEVEL;
+    while ((1L << level) < Math.max(myNumRows, myNumCols)) {
+      level++;
+    }
+    myRoot = load(grid, level, 0, 0);
+  }
+
+  /**
+   * Check if a grid and simulation can be advanced by this engine.
+   *
+   * @param grid       The grid you want to advance
+   * @param simulation The simulation you want to advance the grid with
+   * @return true if the simulation uses Game of Life rules with one layer of Moore neighbors and a
+   * rule string without B0, and the grid uses a Fixed edge strategy
+   */
+  public static boolean isSupported(Grid grid, Simulation simulation) {
+    return simulation.rules() instanceof GameOfLifeRules rules && isSupportedRules(rules)
+        && isSupportedEdge(grid);
+  }
+
+  /**
+   * Advance the pattern by 2^stepLog generations.
+   *
+   * @param stepLog The base two logarithm of the number of generations to advance
+   * @throws IllegalArgumentException If the step log is negative or too large
+   */
+  public void step(int stepLog) {
+    if (stepLog < 0 || stepLog > MAX_STEP_LOG) {
+      throw new IllegalArgumentException("Invalid HashLife step size: 2^" + stepLog);
+    }
+    setStepLog(stepLog);
+    while (myRoot.level < stepLog + 3 || !isCentered(myRoot)) {
+      expandRoot();
+    }
+    long quarter = 1L << (myRoot.level - 2);
+    myRoot = getResult(myRoot);
+    myOriginRow += quarter;
+    myOriginCol += quarter;
+    myGeneration += 1L << stepLog;
+    collectGarbageIfNeeded();
+  }
+
+  /**
+   * Get the number of generations this engine has advanced since it was loaded.
+   *
+   * @return The number of generations advanced
+   */
+  public long getGeneration() {
+    return myGeneration;
+  }
+
+  /**
+   * Get the number of alive cells in the pattern, including cells outside the loaded grid.
+   *
+   * @return The number of alive cells
+   */
+  public long getPopulation() {
+    return myRoot.population;
+  }
+
+  /**
+   * Get the number of alive cells inside the bounds of the loaded grid.
+   *
+   * @return The number of alive cells of the grid
+   */
+  public long getGridPopulation() {
+    return countGridPopulation(myRoot, myOriginRow, myOriginCol);
+  }
+
+  /**
+   * Get the state of a cell. Coordinates are relative to the loaded grid, and may lie outside it.
+   *
+   * @param row Row of cell
+   * @param col Column of cell
+   * @return 1 if the cell is alive, 0 otherwise
+   */
+  public int getState(long row, long col) {
+    long localRow = row - myOriginRow;
+    long localCol = col - myOriginCol;
+    long size = 1L << myRoot.level;
+    if (localRow < 0 || localCol < 0 || localRow >= size || localCol >= size) {
+      return 0;
+    }
+    Node node = myRoot;
+    while (node.level > 0 && node.population > 0) {
+      long half = 1L << (node.level - 1);
+      boolean south = localRow >= half;
+      boolean east = localCol >= half;
+      node = south ? (east ? node.se : node.sw) : (east ? node.ne : node.nw);
+      localRow -= south ? half : 0;
+      localCol -= east ? half : 0;
+    }
+    return (int) node.population;
+  }
+
+  /**
+   * Write the states of the pattern inside the bounds of the loaded grid to a grid, replacing every
+   * cell whose state differs with a default cell holding the engine's state.
+   *
+   * @param grid The grid to write to, which must have the same dimensions as the loaded grid
+   * @return The cell updates that were applied to the grid
+   */
+  public List<CellUpdate> writeToGrid(Grid grid) {
+    int[] states = new int[myNumRows * myNumCols];
+    fillStates(myRoot, myOriginRow, myOriginCol, states);
+    List<CellUpdate> cellUpdates = new ArrayList<>();
+    for (int row = 0; row < myNumRows; row++) {
+      for (int col = 0; col < myNumCols; col++) {
+        Cell cell = grid.getCell(row, col);
+        int state = states[row * myNumCols + col];
+        if (cell != null && cell.getState() != state) {
+          Cell nextCell = new DefaultCell(state, cell.getLocation());
+          grid.updateCell(nextCell);
+          cellUpdates.add(new CellUpdate(nextCell.getLocation(), nextCell));
+        }
+      }
+    }
+    return cellUpdates;
+  }
+
+  private long countGridPopulation(Node node, long row, long col) {
+    long size = 1L << node.level;
+    if (node.population == 0 || row >= myNumRows || col >= myNumCols || row + size <= 0
+        || col + size <= 0) {
+      return 0;
+    }
+    if (row >= 0 && col >= 0 && row + size <= myNumRows && col + size <= myNumCols) {
+      return node.population;
+    }
+    long half = size / 2;
+    return countGridPopulation(node.nw, row, col) + countGridPopulation(node.ne, row, col + half)
+        + countGridPopulation(node.sw, row + half, col)
+        + countGridPopulation(node.se, row + half, col + half);
+  }
+
+  private Node load(Grid grid, int level, int row, int col) {
+    if (row >= myNumRows || col >= myNumCols) {
+      return getEmptyNode(level);
+    }
+    if (level == 0) {
+      return grid.getState(row, col) == 1 ? myAliveLeaf : myDeadLeaf;
+    }
+    int half = 1 << (level - 1);
+    return getNode(load(grid, level - 1, row, col), load(grid, level - 1, row, col + half),
+        load(grid, level - 1, row + half, col), load(grid, level - 1, row + half, col + half));
+  }
+
+  private void fillStates(Node node, long row, long col, int[] states) {
+    long size = 1L << node.level;
+    if (node.population == 0 || row >= myNumRows || col >= myNumCols || row + size <= 0
+        || col + size <= 0) {
+      return;
+    }
+    if (node.level == 0) {
+      states[(int) row * myNumCols + (int) col] = 1;
+      return;
+    }
+    long half = size / 2;
+    fillStates(node.nw, row, col, states);
+    fillStates(node.ne, row, col + half, states);
+    fillStates(node.sw, row + half, col, states);
+    fillStates(node.se, row + half, col + half, states);
+  }
+
+  // Canonicalize a node so that equal subtrees are always represented by the same object
+  private Node getNode(Node nw, Node ne, Node sw, Node se) {
+    Node node = new Node(nw.level + 1, nw, ne, sw, se,
+        nw.population + ne.population + sw.population + se.population);
+    Node canonical = myNodes.putIfAbsent(node, node);
+    return canonical == null ? node : canonical;
+  }
+
+  private Node getEmptyNode(int level) {
+    while (myEmptyNodes.size() <= level) {
+      Node previous = myEmptyNodes.get(myEmptyNodes.size() - 1);
+      myEmptyNodes.add(getNode(previous, previous, previous, previous));
+    }
+    return myEmptyNodes.get(level);
+  }
+
+  private void expandRoot() {
+    Node empty = getEmptyNode(myRoot.level - 1);
+    myRoot = getNode(
+        getNode(empty, empty, empty, myRoot.nw), getNode(empty, empty, myRoot.ne, empty),
+        getNode(empty, myRoot.sw, empty, empty), getNode(myRoot.se, empty, empty, empty));
+    long quarter = 1L << (myRoot.level - 2);
+    myOriginRow -= quarter;
+    myOriginCol -= quarter;
+  }
+
+  // true if all alive cells are within the central square that is a quarter of the width of the
+  // node, so the pattern cannot grow out of the node's result before the step is complete
+  private boolean isCentered(Node node) {
+    return node.population == node.nw.se.se.population + node.ne.sw.sw.population
+        + node.sw.ne.ne.population + node.se.nw.nw.population;
+  }
+
+  private void setStepLog(int stepLog) {
+    if (stepLog != myStepLog) {
+      // memoized results are only valid for the step size they were computed with
+      for (Node node : myNodes.values()) {
+        node.result = null;
+      }
+      myStepLog = stepLog;
+    }
+  }
+
+  // Get the center of a node advanced 2^min(stepLog, level - 2) generations
+  private Node getResult(Node node) {
+    if (node.result != null) {
+      return node.result;
+    }
+    Node result;
+    if (node.population == 0) {
+      result = getEmptyNode(node.level - 1);
+    } else if (node.level == 2) {
+      result = getBaseResult(node);
+    } else {
+      result = getRecursiveResult(node);
+    }
+    node.result = result;
+    return result;
+  }
+
+  private Node getRecursiveResult(Node node) {
+    Node n00 = node.nw;
+    Node n01 = getNode(node.nw.ne, node.ne.nw, node.nw.se, node.ne.sw);
+    Node n02 = node.ne;
+    Node n10 = getNode(node.nw.sw, node.nw.se, node.sw.nw, node.sw.ne);
+    Node n11 = getNode(node.nw.se, node.ne.sw, node.sw.ne, node.se.nw);
+    Node n12 = getNode(node.ne.sw, node.ne.se, node.se.nw, node.se.ne);
+    Node n20 = node.sw;
+    Node n21 = getNode(node.sw.ne, node.se.nw, node.sw.se, node.se.sw);
+    Node n22 = node.se;
+    boolean fullSpeed = myStepLog >= node.level - 2;
+    Node r00 = advanceOrCenter(n00, fullSpeed);
+    Node r01 = advanceOrCenter(n01, fullSpeed);
+    Node r02 = advanceOrCenter(n02, fullSpeed);
+    Node r10 = advanceOrCenter(n10, fullSpeed);
+    Node r11 = advanceOrCenter(n11, fullSpeed);
+    Node r12 = advanceOrCenter(n12, fullSpeed);
+    Node r20 = advanceOrCenter(n20, fullSpeed);
+    Node r21 = advanceOrCenter(n21, fullSpeed);
+    Node r22 = advanceOrCenter(n22, fullSpeed);
+    return getNode(
+        getResult(getNode(r00, r01, r10, r11)), getResult(getNode(r01, r02, r11, r12)),
+        getResult(getNode(r10, r11, r20, r21)), getResult(getNode(r11, r12, r21, r22)));
+  }
+
+  // At full speed, both halves of a node's time step advance the pattern, otherwise only the
+  // second half does and the first half just takes the center
+  private Node advanceOrCenter(Node node, boolean fullSpeed) {
+    if (fullSpeed) {
+      return getResult(node);
+    }
+    return getNode(node.nw.se, node.ne.sw, node.sw.ne, node.se.nw);
+  }
+
+  // Advance the center 2x2 cells of a 4x4 node by one generation
+  private Node getBaseResult(Node node) {
+    int[][] cells = new int[4][4];
+    for (int row = 0; row < 4; row++) {
+      for (int col = 0; col < 4; col++) {
+        cells[row][col] = getLeafState(node, row, col);
+      }
+    }
+    return getNode(getNextLeaf(cells, 1, 1), getNextLeaf(cells, 1, 2), getNextLeaf(cells, 2, 1),
+        getNextLeaf(cells, 2, 2));
+  }
+
+  private static int getLeafState(Node node, int row, int col) {
+    Node quadrant = row < 2 ? (col < 2 ? node.nw : node.ne) : (col < 2 ? node.sw : node.se);
+    Node leaf = (row % 2 == 0) ? ((col % 2 == 0) ? quadrant.nw : quadrant.ne)
+        : ((col % 2 == 0) ? quadrant.sw : quadrant.se);
+    return (int) leaf.population;
+  }
+
+  private Node getNextLeaf(int[][] cells, int row, int col) {
+    int neighborhood = 0;
+    int bit = 0;
+    for (int dr = -1; dr <= 1; dr++) {
+      for (int dc = -1; dc <= 1; dc++) {
+        neighborhood |= cells[row + dr][col + dc] << bit;
+        bit++;
+      }
+    }
+    return myRules.lookupNextState(neighborhood) == 1 ? myAliveLeaf : myDeadLeaf;
+  }
+
+  private void collectGarbageIfNeeded() {
+    if (myNodes.size() <= MAX_CACHED_NODES) {
+      return;
+    }
+    // keep only the nodes reachable from the root, dropping memoized results of old patterns
+    myNodes = new HashMap<>();
+    int emptyLevels = myEmptyNodes.size();
+    myEmptyNodes.subList(1, emptyLevels).clear();
+    myRoot = rebuild(myRoot, new HashMap<>());
+  }
+
+  private Node rebuild(Node node, Map<Node, Node> rebuilt) {
+    if (node.level == 0) {
+      return node;
+    }
+    Node copy = rebuilt.get(node);
+    if (copy == null) {
+      copy = getNode(rebuild(node.nw, rebuilt), rebuild(node.ne, rebuilt),
+          rebuild(node.sw, rebuilt), rebuild(node.se, rebuilt));
+      rebuilt.put(node, copy);
+    }
+    return copy;
+  }
+
+  private static boolean isSupportedEdge(Grid grid) {
+    return grid.getEdgeStrategy() instanceof FixedEdgeStrategy;
+  }
+
+  private static boolean isSupportedRules(GameOfLifeRules rules) {
+    return rules.getNeighborConfig().getClass() == MooreNeighbors.class && rules.getLayers() == 1
+        && rules.lookupNextState(0) == 0;
+  }
+
+  /**
+   * A square quadtree node of width 2^level. Leaves have level 0 and a population of 0 or 1. Nodes
+   * are compared by the identity of their children, which is valid because children are canonical.
+   */
+  private static final class Node {
+
+    private final int level;
+    private final Node nw;
+    private final Node ne;
+    private final Node sw;
+    private final Node se;
+    private final long population;
+    private final int hash;
+    private Node result;
+
+    private Node(int level, Node nw, Node ne, Node sw, Node se, long population) {
+      this.level = level;
+      this.nw = nw;
+      this.ne = ne;
+      this.sw = sw;
+      this.se = se;
+      this.population = population;
+      this.hash = (level == 0) ? (int) population : 31 * (31 * (31 * System.identityHashCode(nw)
+          + System.identityHashCode(ne)) + System.identityHashCode(sw))
+          + System.identityHashCode(se);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof Node node && node.level == level && node.nw == nw && node.ne == ne
+          && node.sw == sw && node.se == se && (level > 0 || node.population == population);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
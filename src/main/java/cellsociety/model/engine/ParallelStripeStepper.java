@@ -0,0 +1,123 @@
+package cellsociety.model.engine;
+
+import cellsociety.model.Grid;
+import cellsociety.model.simulation.SimulationRules;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A stepper that evaluates the next states of a grid in stripes of rows on a ForkJoinPool. The
+ * stripes are split recursively so idle workers can steal them, and each stripe only writes the
+ * entries of its own rows in a shared row-major buffer. The merged result is therefore the same as
+ * evaluating every cell in order on one thread, no matter how the stripes are scheduled.
+ * <p>
+ * Only rules that support parallel updates can be stepped, since getNextState is called for
+ * different cells from several threads at once while the grid is only read.
+ * <p>
+ * Only the evaluation of next states is parallel. Turning the evaluated states into cell updates,
+ * applying them, and finding the changed cells of a buffered storage all run on the calling
+ * thread, so the speedup of a step is bounded by the share of the step spent evaluating.
+ *
+ * @author Owen Jennings
+ */
+public class ParallelStripeStepper {
+
+  public static final int DEFAULT_STRIPE_ROWS = 16;
+  private final ForkJoinPool myPool;
+  private final int myStripeRows;
+
+  /**
+   * Create a stepper that evaluates stripes of the default number of rows on the provided pool.
+   *
+   * @param pool The pool to evaluate stripes on
+   */
+  public ParallelStripeStepper(ForkJoinPool pool) {
+    this(pool, DEFAULT_STRIPE_ROWS);
+  }
+
+  /**
+   * Create a stepper that evaluates stripes of the provided number of rows on the provided pool.
+   *
+   * @param pool       The pool to evaluate stripes on
+   * @param stripeRows The largest number of rows evaluated by a single task
+   * @throws IllegalArgumentException If the pool is null or the stripe has no rows
+   */
+  public ParallelStripeStepper(ForkJoinPool pool, int stripeRows) {
+    if (pool == null || stripeRows < 1) {
+      throw new IllegalArgumentException(
+          "Parallel stepping requires a pool and a stripe of at least one row.");
+    }
+    myPool = pool;
+    myStripeRows = stripeRows;
+  }
+
+  /**
+   * Check if the provided rules can be stepped in parallel stripes.
+   *
+   * @param rules The rules you want to step a grid with
+   * @return true if the rules support parallel updates
+   */
+  public static boolean isSupported(SimulationRules rules) {
+    return rules.supportsParallelUpdate();
+  }
+
+  /**
+   * Write the next state of every cell in the grid into the provided row-major buffer, evaluating
+   * stripes of rows in parallel. Locations that do not hold a cell are written as -1. Returns once
+   * every stripe has been written.
+   *
+   * @param grid       The grid to evaluate, which is only read
+   * @param rules      The rules to evaluate the grid with, which must be supported
+   * @param nextStates The buffer to write the next states into, of size rows * cols
+   */
+  public void writeNextStates(Grid grid, SimulationRules rules, int[] nextStates) {
+    myPool.invoke(new StripeTask(grid, rules, nextStates, 0, grid.getRows()));
+  }
+
+  /**
+   * Get the pool this stepper evaluates stripes on.
+   *
+   * @return The fork join pool of this stepper
+   */
+  public ForkJoinPool getPool() {
+    return myPool;
+  }
+
+  /**
+   * Get the largest number of rows evaluated by a single task.
+   *
+   * @return The number of rows in a stripe
+   */
+  public int getStripeRows() {
+    return myStripeRows;
+  }
+
+  private class StripeTask extends RecursiveAction {
+
+    private final Grid myGrid;
+    private final SimulationRules myRules;
+    private final int[] myNextStates;
+    private final int myStartRow;
+    private final int myEndRow;
+
+    private StripeTask(Grid grid, SimulationRules rules, int[] nextStates, int startRow,
+        int endRow) {
+      myGrid = grid;
+      myRules = rules;
+      myNextStates = nextStates;
+      myStartRow = startRow;
+      myEndRow = endRow;
+    }
+
+    @Override
+    protected void compute() {
+      if (myEndRow - myStartRow <= myStripeRows) {
+        myRules.writeNextStates(myGrid, myNextStates, myStartRow, myEndRow);
+        return;
+      }
+      int middleRow = (myStartRow + myEndRow) >>> 1;
+      invokeAll(new StripeTask(myGrid, myRules, myNextStates, myStartRow, middleRow),
+          new StripeTask(myGrid, myRules, myNextStates, middleRow, myEndRow));
+    }
+  }
+}
@@ -0,0 +1,230 @@
+package cellsociety.model.engine;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.CellUpdate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable snapshot of a grid after a step, for handing the result of a step from the thread
+ * that computes it to the thread that displays it. A frame holds the number of cells in each
+ * state and the cells that changed since the previous frame along with their new state and
+ * opacity.
+ * <p>
+ * A frame does not copy the states of the whole grid, so capturing one costs time proportional to
+ * its changes and the number of states rather than to the area of the grid. The states of the grid
+ * are the states of the previous frame with the changes of this frame applied.
+ *
+ * @author Owen Jennings
+ */
+public class SimulationFrame {
+
+  private final long myStep;
+  private final int myNumRows;
+  private final int myNumCols;
+  private final int[] myChangedCells;
+  private final int[] myChangedStates;
+  private final double[] myChangedOpacities;
+  private final Map<Integer, Integer> myStateCounts;
+  private final int myRepeatPeriod;
+
+  private SimulationFrame(long step, int numRows, int numCols, int[] changedCells,
+      int[] changedStates, double[] changedOpacities, Map<Integer, Integer> stateCounts,
+      int repeatPeriod) {
+    myStep = step;
+    myNumRows = numRows;
+    myNumCols = numCols;
+    myChangedCells = changedCells;
+    myChangedStates = changedStates;
+    myChangedOpacities = changedOpacities;
+    myStateCounts = stateCounts;
+    myRepeatPeriod = repeatPeriod;
+  }
+
+  /**
+   * Capture a frame of the provided grid after a step.
+   *
+   * @param step        The number of the step that produced the grid
+   * @param grid        The grid after the step
+   * @param cellUpdates The cell updates of the step, as returned by Grid.updateGrid
+   * @return A frame holding the state counts of the grid and the cell updates
+   */
+  public static SimulationFrame capture(long step, Grid grid, List<CellUpdate> cellUpdates) {
+    int[] changedCells = new int[cellUpdates.size()];
+    int[] changedStates = new int[cellUpdates.size()];
+    double[] changedOpacities = new double[cellUpdates.size()];
+    for (int i = 0; i < cellUpdates.size(); i++) {
+      CellUpdate cellUpdate = cellUpdates.get(i);
+      changedCells[i] = cellUpdate.getRow() * grid.getCols() + cellUpdate.getCol();
+      changedStates[i] = cellUpdate.getState();
+      changedOpacities[i] = cellUpdate.getNextCell().getOpacity();
+    }
+    return capture(step, grid, changedCells, changedStates, changedOpacities);
+  }
+
+  // the change arrays are owned by the new frame
+  static SimulationFrame capture(long step, Grid grid, int[] changedCells, int[] changedStates,
+      double[] changedOpacities) {
+    Map<Integer, Integer> stateCounts = new TreeMap<>();
+    int[] counts = grid.getStateCounts();
+    for (int state = 0; state < counts.length; state++) {
+      if (counts[state] > 0) {
+        stateCounts.put(state, counts[state]);
+      }
+    }
+    return new SimulationFrame(step, grid.getRows(), grid.getCols(), changedCells, changedStates,
+        changedOpacities, Collections.unmodifiableMap(stateCounts), grid.getRepeatPeriod());
+  }
+
+  /**
+   * Combine this frame with the frame that follows it, for when this frame was never displayed.
+   * The combined frame holds the state counts of the following frame and the changes of both
+   * frames, so displaying it has the same result as displaying both frames in order.
+   *
+   * @param next The frame that follows this frame
+   * @return A frame with the state counts of the next frame and the changes of both frames
+   */
+  public SimulationFrame followedBy(SimulationFrame next) {
+    int numChanged = myChangedCells.length + next.myChangedCells.length;
+    int[] changedCells = Arrays.copyOf(myChangedCells, numChanged);
+    int[] changedStates = Arrays.copyOf(myChangedStates, numChanged);
+    double[] changedOpacities = Arrays.copyOf(myChangedOpacities, numChanged);
+    System.arraycopy(next.myChangedCells, 0, changedCells, myChangedCells.length,
+        next.myChangedCells.length);
+    System.arraycopy(next.myChangedStates, 0, changedStates, myChangedStates.length,
+        next.myChangedStates.length);
+    System.arraycopy(next.myChangedOpacities, 0, changedOpacities, myChangedOpacities.length,
+        next.myChangedOpacities.length);
+    SimulationFrame combined = new SimulationFrame(next.myStep, next.myNumRows, next.myNumCols,
+        changedCells, changedStates, changedOpacities, next.myStateCounts,
+        next.myRepeatPeriod);
+    // keep the changes of many skipped frames bounded by the size of the grid
+    return (numChanged > myNumRows * myNumCols) ? combined.withLatestChanges() : combined;
+  }
+
+  /**
+   * Get the number of the step that produced this frame.
+   *
+   * @return The step of this frame
+   */
+  public long getStep() {
+    return myStep;
+  }
+
+  /**
+   * Get the number of rows of the grid captured by this frame.
+   *
+   * @return The number of rows
+   */
+  public int getRows() {
+    return myNumRows;
+  }
+
+  /**
+   * Get the number of columns of the grid captured by this frame.
+   *
+   * @return The number of columns
+   */
+  public int getCols() {
+    return myNumCols;
+  }
+
+  /**
+   * Get the number of cells in each state in this frame.
+   *
+   * @return An unmodifiable map from each state present in the frame to its number of cells
+   */
+  public Map<Integer, Integer> getStateCounts() {
+    return myStateCounts;
+  }
+
+  /**
+   * Get how many steps before this frame the grid last held the states of this frame.
+   *
+   * @return 0 if the states are new or the grid does not detect cycles, 1 for a still life and p
+   * for a period-p oscillator
+   * @see Grid#getRepeatPeriod()
+   */
+  public int getRepeatPeriod() {
+    return myRepeatPeriod;
+  }
+
+  /**
+   * Get the number of changes held by this frame. Changes are ordered, and a later change to a
+   * cell replaces an earlier one.
+   *
+   * @return The number of changes
+   */
+  public int getNumberChanges() {
+    return myChangedCells.length;
+  }
+
+  /**
+   * Get the row of the cell of a change.
+   *
+   * @param change The index of the change
+   * @return The row of the changed cell
+   */
+  public int getChangedRow(int change) {
+    return myChangedCells[change] / myNumCols;
+  }
+
+  /**
+   * Get the column of the cell of a change.
+   *
+   * @param change The index of the change
+   * @return The column of the changed cell
+   */
+  public int getChangedCol(int change) {
+    return myChangedCells[change] % myNumCols;
+  }
+
+  /**
+   * Get the new state of the cell of a change.
+   *
+   * @param change The index of the change
+   * @return The state of the changed cell
+   */
+  public int getChangedState(int change) {
+    return myChangedStates[change];
+  }
+
+  /**
+   * Get the new opacity of the cell of a change.
+   *
+   * @param change The index of the change
+   * @return The opacity of the changed cell
+   */
+  public double getChangedOpacity(int change) {
+    return myChangedOpacities[change];
+  }
+
+  private SimulationFrame withLatestChanges() {
+    int[] latestChange = new int[myNumRows * myNumCols];
+    Arrays.fill(latestChange, -1);
+    int numLatest = 0;
+    for (int i = 0; i < myChangedCells.length; i++) {
+      if (latestChange[myChangedCells[i]] == -1) {
+        numLatest++;
+      }
+      latestChange[myChangedCells[i]] = i;
+    }
+    int[] changedCells = new int[numLatest];
+    int[] changedStates = new int[numLatest];
+    double[] changedOpacities = new double[numLatest];
+    int index = 0;
+    for (int i = 0; i < myChangedCells.length; i++) {
+      if (latestChange[myChangedCells[i]] == i) {
+        changedCells[index] = myChangedCells[i];
+        changedStates[index] = myChangedStates[i];
+        changedOpacities[index] = myChangedOpacities[i];
+        index++;
+      }
+    }
+    return new SimulationFrame(myStep, myNumRows, myNumCols, changedCells, changedStates,
+        changedOpacities, myStateCounts, myRepeatPeriod);
+  }
+}
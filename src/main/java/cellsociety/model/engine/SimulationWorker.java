@@ -0,0 +1,328 @@
+package cellsociety.model.engine;
+
+import static cellsociety.config.MainConfig.LOGGER;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.CellUpdate;
+import cellsociety.model.profiling.CaptureFrameEvent;
+import cellsociety.model.profiling.StepPhaseEvent;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.SimulationRandom;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Steps a grid on a dedicated thread and publishes a frame to a frame slot after every step, so
+ * computing a simulation never waits on displaying it. Steps are scheduled at a fixed rate, and a
+ * step that takes longer than the rate delays the next one instead of overlapping it.
+ * <p>
+ * In turbo mode, each scheduled step advances several generations and publishes a single frame
+ * whose changes are coalesced, so a cell that changes many times is only repainted once.
+ * <p>
+ * The worker can pause itself once the grid starts to repeat a recent state, such as a still life
+ * or an oscillator, if the grid has cycle detection enabled. It pauses once when the repeats start,
+ * so an oscillator can still be watched after starting the worker again.
+ * <p>
+ * With a step history, every generation is recorded, and a stopped worker can move the grid back
+ * to any retained step.
+ * <p>
+ * While the worker is running, it is the only thread that may touch the grid. Stopping the worker
+ * waits for the step in progress to finish, after which the grid can be read or edited again.
+ *
+ * @author Owen Jennings
+ */
+public class SimulationWorker {
+
+  private static final double NANOS_PER_SECOND = 1e9;
+  private final Grid myGrid;
+  private final Simulation mySimulation;
+  private final FrameSlot mySlot;
+  private final ScheduledExecutorService myExecutor;
+  private final Object myStepLock = new Object();
+  private final ChangeCoalescer myChanges;
+  private final AtomicInteger myRepeatPausePeriod = new AtomicInteger();
+  private volatile int myGenerationsPerFrame = 1;
+  private volatile boolean isPausingOnRepeat;
+  private volatile ScheduledFuture<?> myTask;
+  private StepHistory myHistory;
+  private volatile long myFirstRetainedStep;
+  private volatile long myLastRetainedStep;
+  private long myStep;
+  private boolean isRepeating;
+  private boolean hasStartedRepeating;
+
+  /**
+   * Create a worker that steps the provided grid.
+   *
+   * @param grid        The grid to step
+   * @param simulation  The simulation to step the grid with
+   * @param slot        The slot to publish frames to
+   * @param initialStep The number of steps the grid has already been stepped
+   */
+  public SimulationWorker(Grid grid, Simulation simulation, FrameSlot slot, long initialStep) {
+    myGrid = grid;
+    mySimulation = simulation;
+    mySlot = slot;
+    myStep = initialStep;
+    myChanges = new ChangeCoalescer(grid.getRows(), grid.getCols());
+    updateRetainedSteps();
+    myExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "simulation-worker");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Start stepping the grid at the provided rate, restarting the worker if it is already running.
+   *
+   * @param secondsPerStep The time between the start of consecutive steps
+   */
+  public void start(double secondsPerStep) {
+    stop();
+    long period = Math.max(1, (long) (secondsPerStep * NANOS_PER_SECOND));
+    synchronized (myStepLock) {
+      myTask = myExecutor.scheduleAtFixedRate(this::stepAndLogFailure, period, period,
+          TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Stop stepping the grid, waiting for the step in progress to finish.
+   */
+  public void stop() {
+    // a step in progress holds the lock, so acquiring it waits for the step to finish
+    synchronized (myStepLock) {
+      if (myTask != null) {
+        myTask.cancel(false);
+        myTask = null;
+      }
+    }
+  }
+
+  /**
+   * Get whether the worker is stepping the grid.
+   *
+   * @return true if steps are scheduled
+   */
+  public boolean isRunning() {
+    ScheduledFuture<?> task = myTask;
+    return task != null && !task.isDone();
+  }
+
+  /**
+   * Step the grid once on the calling thread and publish the resulting frame. This must only be
+   * called while the worker is stopped, or by the worker itself.
+   *
+   * @return The frame of the step
+   */
+  public SimulationFrame step() {
+    return step(1);
+  }
+
+  /**
+   * Step the grid the provided number of generations on the calling thread and publish a single
+   * frame holding the coalesced changes of every generation. When the worker pauses on repeats,
+   * stepping ends early at the generation where the grid starts to repeat a recent state. This must
+   * only be called while the worker is stopped, or by the worker itself.
+   *
+   * @param generations The number of generations to advance
+   * @return The frame of the last generation
+   */
+  public SimulationFrame step(int generations) {
+    synchronized (myStepLock) {
+      hasStartedRepeating = false;
+      for (int i = 0; i < generations; i++) {
+        List<CellUpdate> cellUpdates = myGrid.updateGrid(mySimulation);
+        myChanges.add(cellUpdates);
+        myStep++;
+        if (myHistory != null) {
+          myHistory.record(cellUpdates, myGrid);
+        }
+        updateRetainedSteps();
+        boolean wasRepeating = isRepeating;
+        isRepeating = myGrid.getRepeatPeriod() > 0;
+        hasStartedRepeating = isRepeating && !wasRepeating;
+        if (isPausingOnRepeat && hasStartedRepeating) {
+          break;
+        }
+      }
+      return publishFrame();
+    }
+  }
+
+  /**
+   * Record every generation in the provided history, starting it over from the current step.
+   *
+   * @param history The history to record to, or null to stop recording
+   */
+  public void setHistory(StepHistory history) {
+    synchronized (myStepLock) {
+      myHistory = history;
+      if (history != null) {
+        history.reset(myStep, myGrid);
+      }
+      updateRetainedSteps();
+    }
+  }
+
+  /**
+   * Get the history that generations are recorded to.
+   *
+   * @return The step history, or null if generations are not recorded
+   */
+  public StepHistory getHistory() {
+    synchronized (myStepLock) {
+      return myHistory;
+    }
+  }
+
+  /**
+   * Move the grid to a step retained by the history and publish a frame of it. Stepping after
+   * moving back continues from the restored step. This must only be called while the worker is
+   * stopped.
+   *
+   * @param step The step to move the grid to
+   * @return The frame of the restored step
+   * @throws IllegalStateException    If the worker has no history
+   * @throws IllegalArgumentException If the step is not retained by the history
+   */
+  public SimulationFrame moveTo(long step) {
+    synchronized (myStepLock) {
+      if (myHistory == null) {
+        throw new IllegalStateException("Steps can only be restored from a history.");
+      }
+      myChanges.add(myHistory.moveTo(step, myGrid, mySimulation));
+      // keep the random numbers of replayed steps the same as when they were first stepped
+      SimulationRandom random = mySimulation.random();
+      random.setStep(random.getStep() - (myStep - step));
+      myStep = step;
+      myGrid.restartCycleDetection(); // steps after the restored one are not its past
+      updateRetainedSteps();
+      isRepeating = false;
+      return publishFrame();
+    }
+  }
+
+  /**
+   * Get the oldest step the grid can be moved back to. Unlike the history itself, this can be read
+   * while the worker is running, without waiting for the step in progress.
+   *
+   * @return The first step retained by the history, or the current step if there is no history
+   */
+  public long getFirstRetainedStep() {
+    return myFirstRetainedStep;
+  }
+
+  /**
+   * Get the newest step the grid can be moved to, which is after the current step if the grid was
+   * moved back. This can be read while the worker is running.
+   *
+   * @return The last step retained by the history, or the current step if there is no history
+   */
+  public long getLastRetainedStep() {
+    return myLastRetainedStep;
+  }
+
+  /**
+   * Set the number of generations advanced by each scheduled step of the worker. This can be
+   * changed while the worker is running.
+   *
+   * @param generations The number of generations per published frame
+   * @throws IllegalArgumentException If the number of generations is less than 1
+   */
+  public void setGenerationsPerFrame(int generations) {
+    if (generations < 1) {
+      throw new IllegalArgumentException("At least one generation must be advanced per frame.");
+    }
+    myGenerationsPerFrame = generations;
+  }
+
+  /**
+   * Get the number of generations advanced by each scheduled step of the worker.
+   *
+   * @return The number of generations per published frame
+   */
+  public int getGenerationsPerFrame() {
+    return myGenerationsPerFrame;
+  }
+
+  /**
+   * Set whether the worker stops itself after the step where the grid starts to repeat a recent
+   * state. The grid must have cycle detection enabled for repeats to be found.
+   *
+   * @param pauseOnRepeat true to stop the worker once the grid freezes or oscillates
+   * @see Grid#setCycleDetection(int)
+   */
+  public void setPauseOnRepeat(boolean pauseOnRepeat) {
+    isPausingOnRepeat = pauseOnRepeat;
+  }
+
+  /**
+   * Get the repeat period of the grid if the worker has paused itself since this was last called,
+   * and forget the pause.
+   *
+   * @return The repeat period that paused the worker, or 0 if the worker has not paused itself
+   */
+  public int takeRepeatPausePeriod() {
+    return myRepeatPausePeriod.getAndSet(0);
+  }
+
+  /**
+   * Get the number of steps the grid has been stepped.
+   *
+   * @return The number of the latest step
+   */
+  public long getStep() {
+    synchronized (myStepLock) {
+      return myStep;
+    }
+  }
+
+  /**
+   * Stop the worker and release its thread. The worker cannot be started again.
+   */
+  public void shutdown() {
+    stop();
+    myExecutor.shutdownNow();
+  }
+
+  private SimulationFrame publishFrame() {
+    StepPhaseEvent captureEvent = new CaptureFrameEvent();
+    captureEvent.begin();
+    int numChanged = myChanges.getNumberChanged();
+    SimulationFrame frame = myChanges.takeFrame(myStep, myGrid);
+    captureEvent.commitPhase(mySimulation.data().type(), myGrid, numChanged, myStep);
+    mySlot.publish(frame);
+    return frame;
+  }
+
+  private void updateRetainedSteps() {
+    myFirstRetainedStep = (myHistory == null) ? myStep : myHistory.getFirstStep();
+    myLastRetainedStep = (myHistory == null) ? myStep : myHistory.getLastStep();
+  }
+
+  private void stepAndLogFailure() {
+    synchronized (myStepLock) {
+      if (myTask == null) {
+        return; // the worker was stopped while this step was waiting to start
+      }
+      try {
+        step(myGenerationsPerFrame);
+        if (isPausingOnRepeat && hasStartedRepeating) {
+          myTask.cancel(false);
+          myTask = null;
+          myRepeatPausePeriod.set(myGrid.getRepeatPeriod());
+        }
+      } catch (RuntimeException e) {
+        // an exception cancels the scheduled task, so the worker stops after logging it
+        LOGGER.error("Simulation step failed on the worker thread", e);
+        throw e;
+      }
+    }
+  }
+}
@@ -0,0 +1,315 @@
+package cellsociety.model.engine;
+
+import cellsociety.config.SimulationConfig;
+import cellsociety.model.Grid;
+import cellsociety.model.cell.Cell;
+import cellsociety.model.cell.CellFactory;
+import cellsociety.model.cell.CellUpdate;
+import cellsociety.model.simulation.Simulation;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A memory-bounded history of the states of a grid, so that a grid can be moved back to any
+ * retained step and forward again. Every step is stored as a compact delta of the cells it changed,
+ * and every few steps a keyframe of all states is stored, so restoring a step only replays the
+ * deltas since the keyframe before it.
+ * <p>
+ * Deltas and keyframes are encoded as variable-length integers, with the indices of changed cells
+ * stored as gaps from the previous changed cell, so most changes take two or three bytes and most
+ * keyframes take one byte per cell. Once the history grows past its memory limit, the oldest
+ * keyframe and its deltas are dropped.
+ * <p>
+ * Only states are stored, so cells that hold more than a state (such as the energy of a Wa-Tor
+ * World shark) are restored as new cells of their state. Recording a step after moving back drops
+ * the retained steps after it. If the grid is edited between two recorded steps, the history starts
+ * over from the edited grid.
+ *
+ * @author Owen Jennings
+ */
+public class StepHistory {
+
+  public static final int DEFAULT_KEYFRAME_INTERVAL = 32;
+  public static final long DEFAULT_MAX_BYTES = 64L << 20;
+  private final int myNumRows;
+  private final int myNumCols;
+  private final int myKeyframeInterval;
+  private final long myMaxBytes;
+  private final Deque<Segment> mySegments = new ArrayDeque<>();
+  private final int[] myStates;
+  private long myStateHash;
+  private long myStep;
+  private long myBytes;
+
+  /**
+   * Create an empty history for a grid of the provided size.
+   *
+   * @param numRows          The number of rows in the grid
+   * @param numCols          The number of columns in the grid
+   * @param keyframeInterval The number of steps between two keyframes, which is the most deltas
+   *                         replayed to restore a step
+   * @param maxBytes         The memory the encoded steps may use before the oldest are dropped
+   * @throws IllegalArgumentException If the keyframe interval or memory limit is not positive
+   */
+  public StepHistory(int numRows, int numCols, int keyframeInterval, long maxBytes) {
+    if (keyframeInterval < 1 || maxBytes < 1) {
+      throw new IllegalArgumentException(String.format(
+          "Invalid history with keyframes every %d steps in %d bytes.", keyframeInterval,
+          maxBytes));
+    }
+    myNumRows = numRows;
+    myNumCols = numCols;
+    myKeyframeInterval = keyframeInterval;
+    myMaxBytes = maxBytes;
+    myStates = new int[numRows * numCols];
+  }
+
+  /**
+   * Drop every retained step and start the history over from the current states of the grid.
+   *
+   * @param step The number of the step that produced the grid
+   * @param grid The grid to record
+   */
+  public void reset(long step, Grid grid) {
+    readStates(grid);
+    myStep = step;
+    mySegments.clear();
+    myBytes = 0;
+    addSegment();
+  }
+
+  /**
+   * Record the next step of the grid. Steps after the current step are dropped first.
+   *
+   * @param cellUpdates The cell updates of the step, as returned by Grid.updateGrid
+   * @param grid        The grid after the step
+   */
+  public void record(List<CellUpdate> cellUpdates, Grid grid) {
+    long expectedHash = myStateHash;
+    for (CellUpdate cellUpdate : cellUpdates) {
+      int index = cellUpdate.getRow() * myNumCols + cellUpdate.getCol();
+      expectedHash ^= ZobristHash.delta(index, myStates[index], cellUpdate.getState());
+      myStates[index] = cellUpdate.getState();
+    }
+    if (expectedHash != grid.getStateHash()) {
+      reset(myStep + 1, grid); // the grid was edited since the previous step
+      return;
+    }
+    dropStepsAfterCurrent();
+    myStateHash = expectedHash;
+    myStep++;
+    if (myStep % myKeyframeInterval == 0) {
+      addSegment();
+    } else {
+      Segment segment = mySegments.getLast();
+      byte[] delta = encodeDelta(cellUpdates);
+      segment.myDeltas.add(delta);
+      myBytes += delta.length;
+    }
+    dropOldestSegmentsOverLimit();
+  }
+
+  /**
+   * Move the grid to a retained step, changing only the cells whose state differs.
+   *
+   * @param step       The step to move to
+   * @param grid       The grid to change, which must hold the current step of this history
+   * @param simulation The simulation of the grid, used to create the restored cells
+   * @return The cell updates that were applied to the grid
+   * @throws IllegalArgumentException If the step is not retained
+   */
+  public List<CellUpdate> moveTo(long step, Grid grid, Simulation simulation) {
+    if (step < getFirstStep() || step > getLastStep()) {
+      throw new IllegalArgumentException(String.format(
+          "Step %d is not retained, only steps %d to %d are.", step, getFirstStep(),
+          getLastStep()));
+    }
+    if (grid.getStateHash() != myStateHash) {
+      readStates(grid); // the grid was edited since the current step
+    }
+    int[] target = getStates(step);
+    CellFactory cellFactory = SimulationConfig.getCellFactory(simulation.data().type());
+    List<CellUpdate> cellUpdates = new ArrayList<>();
+    for (int index = 0; index < myStates.length; index++) {
+      if (target[index] != myStates[index] && target[index] >= 0) {
+        Cell cell = cellFactory.createCell(index / myNumCols, index % myNumCols, target[index]);
+        grid.updateCell(cell);
+        cellUpdates.add(new CellUpdate(cell.getLocation(), cell));
+      }
+    }
+    System.arraycopy(target, 0, myStates, 0, myStates.length);
+    myStateHash = grid.getStateHash();
+    myStep = step;
+    return cellUpdates;
+  }
+
+  /**
+   * Get the states of the grid at a retained step.
+   *
+   * @param step The step to get the states of
+   * @return The row-major states of every cell, with -1 for locations that held no cell
+   * @throws IllegalArgumentException If the step is not retained
+   */
+  public int[] getStates(long step) {
+    for (Segment segment : mySegments) {
+      if (step >= segment.myFirstStep && step <= segment.getLastStep()) {
+        int[] states = new int[myStates.length];
+        decodeKeyframe(segment.myKeyframe, states);
+        for (int i = 0; i < step - segment.myFirstStep; i++) {
+          decodeDelta(segment.myDeltas.get(i), states);
+        }
+        return states;
+      }
+    }
+    throw new IllegalArgumentException(String.format("Step %d is not retained.", step));
+  }
+
+  /**
+   * Get the step the grid is currently at.
+   *
+   * @return The current step
+   */
+  public long getCurrentStep() {
+    return myStep;
+  }
+
+  /**
+   * Get the oldest retained step.
+   *
+   * @return The first step that can be moved to
+   */
+  public long getFirstStep() {
+    return mySegments.getFirst().myFirstStep;
+  }
+
+  /**
+   * Get the newest retained step, which is after the current step if the grid was moved back.
+   *
+   * @return The last step that can be moved to
+   */
+  public long getLastStep() {
+    return mySegments.getLast().getLastStep();
+  }
+
+  /**
+   * Get the memory used by the encoded keyframes and deltas.
+   *
+   * @return The number of encoded bytes
+   */
+  public long getBytes() {
+    return myBytes;
+  }
+
+  private void readStates(Grid grid) {
+    for (int row = 0; row < myNumRows; row++) {
+      for (int col = 0; col < myNumCols; col++) {
+        myStates[row * myNumCols + col] = grid.getState(row, col);
+      }
+    }
+    myStateHash = grid.getStateHash();
+  }
+
+  private void addSegment() {
+    byte[] keyframe = encodeKeyframe();
+    mySegments.addLast(new Segment(myStep, keyframe));
+    myBytes += keyframe.length;
+  }
+
+  private void dropStepsAfterCurrent() {
+    while (mySegments.getLast().myFirstStep > myStep) {
+      myBytes -= mySegments.removeLast().getBytes();
+    }
+    List<byte[]> deltas = mySegments.getLast().myDeltas;
+    while (deltas.size() > myStep - mySegments.getLast().myFirstStep) {
+      myBytes -= deltas.removeLast().length;
+    }
+  }
+
+  private void dropOldestSegmentsOverLimit() {
+    while (myBytes > myMaxBytes && mySegments.size() > 1) {
+      myBytes -= mySegments.removeFirst().getBytes();
+    }
+  }
+
+  private byte[] encodeKeyframe() {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(myStates.length);
+    for (int state : myStates) {
+      writeVarInt(bytes, state + 1);
+    }
+    return bytes.toByteArray();
+  }
+
+  private void decodeKeyframe(byte[] keyframe, int[] states) {
+    int[] position = {0};
+    for (int index = 0; index < states.length; index++) {
+      states[index] = readVarInt(keyframe, position) - 1;
+    }
+  }
+
+  private byte[] encodeDelta(List<CellUpdate> cellUpdates) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(cellUpdates.size() * 3);
+    int previousIndex = 0;
+    for (CellUpdate cellUpdate : cellUpdates) {
+      int index = cellUpdate.getRow() * myNumCols + cellUpdate.getCol();
+      int gap = index - previousIndex;
+      writeVarInt(bytes, (gap << 1) ^ (gap >> 31)); // zigzag, so backward gaps stay small
+      writeVarInt(bytes, cellUpdate.getState() + 1);
+      previousIndex = index;
+    }
+    return bytes.toByteArray();
+  }
+
+  private void decodeDelta(byte[] delta, int[] states) {
+    int[] position = {0};
+    int index = 0;
+    while (position[0] < delta.length) {
+      int zigzag = readVarInt(delta, position);
+      index += (zigzag >>> 1) ^ -(zigzag & 1);
+      states[index] = readVarInt(delta, position) - 1;
+    }
+  }
+
+  private static void writeVarInt(ByteArrayOutputStream bytes, int value) {
+    while ((value & ~0x7f) != 0) {
+      bytes.write((value & 0x7f) | 0x80);
+      value >>>= 7;
+    }
+    bytes.write(value);
+  }
+
+  private static int readVarInt(byte[] bytes, int[] position) {
+    int value = 0;
+    int shift = 0;
+    byte next;
+    do {
+      next = bytes[position[0]++];
+      value |= (next & 0x7f) << shift;
+      shift += 7;
+    } while (next < 0);
+    return value;
+  }
+
+  // a keyframe and the deltas of the steps after it, up to the next keyframe
+  private static class Segment {
+
+    private final long myFirstStep;
+    private final byte[] myKeyframe;
+    private final List<byte[]> myDeltas = new ArrayList<>();
+
+    private Segment(long firstStep, byte[] keyframe) {
+      myFirstStep = firstStep;
+      myKeyframe = keyframe;
+    }
+
+    private long getLastStep() {
+      return myFirstStep + myDeltas.size();
+    }
+
+    private long getBytes() {
+      return myKeyframe.length + myDeltas.stream().mapToLong(delta -> delta.length).sum();
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package cellsociety.model.engine;
+
+/**
+ * Zobrist keys for hashing the states of a grid. The hash of a grid is the exclusive or of the key
+ * of every (cell, state) pair it holds, so a step can update the hash in time proportional to the
+ * number of cells it changes by removing the key of each old state and adding the key of each new
+ * one.
+ * <p>
+ * Keys are derived from the cell index and state with a fixed mixing function instead of being
+ * stored in a table, so any number of states is supported without memory per state, and grids of
+ * the same size hash equal states to equal values.
+ *
+ * @author Owen Jennings
+ */
+public final class ZobristHash {
+
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private ZobristHash() {
+  }
+
+  /**
+   * Get the key of a cell holding a state.
+   *
+   * @param index The row-major index of the cell, row * numCols + col
+   * @param state The state of the cell
+   * @return The 64-bit key of the pair, or 0 for a negative state, which is not a cell
+   */
+  public static long keyOf(int index, int state) {
+    if (state < 0) {
+      return 0;
+    }
+    return mix(mix(index * GOLDEN_GAMMA) + (state + 1) * GOLDEN_GAMMA);
+  }
+
+  /**
+   * Get the change of a grid hash when a cell changes state.
+   *
+   * @param index         The row-major index of the cell
+   * @param previousState The state of the cell before the change, or -1 if it held no cell
+   * @param nextState     The state of the cell after the change
+   * @return The value to exclusive or into the hash of the grid
+   */
+  public static long delta(int index, int previousState, int nextState) {
+    return (previousState == nextState) ? 0 : keyOf(index, previousState) ^ keyOf(index, nextState);
+  }
+
+  // the SplitMix64 finalizer
+  private static long mix(long value) {
+    value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+    value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+    return value ^ (value >>> 31);
+  }
+}
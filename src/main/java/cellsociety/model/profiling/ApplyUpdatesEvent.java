@@ -0,0 +1,17 @@
+package cellsociety.model.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A step phase event for storing the next states of a step in the grid.
+ *
+ * @author Owen Jennings
+ */
+@Name("cellsociety.ApplyUpdates")
+@Label("Apply Updates")
+@Description("Storing the next states of a step in the grid")
+public class ApplyUpdatesEvent extends StepPhaseEvent {
+
+}
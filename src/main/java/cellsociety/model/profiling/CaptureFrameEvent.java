@@ -0,0 +1,18 @@
+package cellsociety.model.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A step phase event for collecting the changed cells of a grid and counting the cells in each
+ * state for display.
+ *
+ * @author Owen Jennings
+ */
+@Name("cellsociety.CaptureFrame")
+@Label("Capture Frame")
+@Description("Collecting the changed cells of a grid and counting its cells in each state")
+public class CaptureFrameEvent extends StepPhaseEvent {
+
+}
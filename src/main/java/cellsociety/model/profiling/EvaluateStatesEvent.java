@@ -0,0 +1,17 @@
+package cellsociety.model.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A step phase event for evaluating the rules of a simulation for the cells of a grid.
+ *
+ * @author Owen Jennings
+ */
+@Name("cellsociety.EvaluateStates")
+@Label("Evaluate States")
+@Description("Evaluating the rules of a simulation for the cells of a grid")
+public class EvaluateStatesEvent extends StepPhaseEvent {
+
+}
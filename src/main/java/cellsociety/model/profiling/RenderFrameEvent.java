@@ -0,0 +1,17 @@
+package cellsociety.model.profiling;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A step phase event for repainting the cells that changed in a frame of a simulation.
+ *
+ * @author Owen Jennings
+ */
+@Name("cellsociety.RenderFrame")
+@Label("Render Frame")
+@Description("Repainting the cells that changed in a frame of a simulation")
+public class RenderFrameEvent extends StepPhaseEvent {
+
+}
@@ -72,6 +72,57 @@ public abstract class GetNeighbors {
     return neighbors;
   }
 
+  /**
+   * Get the cells that have the provided cell as one of their neighbors. Neighbor policies whose
+   * directions depend on a cell's position (such as triangles and hexagons) are not symmetric, so
+   * these cells can differ from the provided cell's neighbors.
+   *
+   * @param cell The cell you are querying for.
+   * @param grid The grid of the simulation you are looking for dependent cells in
+   * @return A list of cells whose neighbors include the provided cell.
+   */
+  public List<Cell> getDependentCells(Cell cell, Grid grid) {
+    List<Cell> dependents = new ArrayList<>();
+    int reach = getReach();
+    for (int rowOffset = -reach; rowOffset <= reach; rowOffset++) {
+      for (int colOffset = -reach; colOffset <= reach; colOffset++) {
+        Cell candidate = grid.getCell(cell.getRow() + rowOffset, cell.getCol() + colOffset);
+        if (candidate != null && hasNeighbor(candidate, cell, grid)) {
+          dependents.add(candidate);
+        }
+      }
+    }
+    return dependents;
+  }
+
+  private boolean hasNeighbor(Cell candidate, Cell cell, Grid grid) {
+    int[][] directions = getDirections(candidate.getRow(), candidate.getCol());
+    for (int i = 1; i <= layers; i++) {
+      for (int[] direction : directions) {
+        Cell neighbor = grid.getCell(candidate.getRow() + i * direction[0],
+            candidate.getCol() + i * direction[1]);
+        if (neighbor != null && neighbor.getRow() == cell.getRow()
+            && neighbor.getCol() == cell.getCol()) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  // The largest row or column distance between a cell and one of its neighbors
+  private int getReach() {
+    int reach = 0;
+    for (int row = 0; row <= 1; row++) {
+      for (int col = 0; col <= 1; col++) {
+        for (int[] direction : getDirections(row, col)) {
+          reach = Math.max(reach, Math.max(Math.abs(direction[0]), Math.abs(direction[1])));
+        }
+      }
+    }
+    return reach * layers;
+  }
+
   private void addAllNeighborCells(Cell cell, Grid grid, int[][] directions, List<Cell> neighbors) {
     for (int i = 1; i <= layers; i++) {
       addNeighborCellsForLayer(cell, grid, directions, i, neighbors);
@@ -3,9 +3,26 @@ package cellsociety.model.simulation;
 /**
  * A record to store information about a simulation.
  *
- * @param rules The rules of the simulation
- * @param data  The metadata of the simulation
+ * @param rules  The rules of the simulation
+ * @param data   The metadata of the simulation
+ * @param random The source of randomness of the simulation, which is shared with its rules
  */
-public record Simulation(SimulationRules rules, SimulationMetaData data) {
+public record Simulation(SimulationRules rules, SimulationMetaData data, SimulationRandom random) {
 
+  /**
+   * Create a simulation whose rules draw from the provided source of randomness.
+   */
+  public Simulation {
+    rules.setRandom(random);
+  }
+
+  /**
+   * Create a simulation that uses the source of randomness its rules already have.
+   *
+   * @param rules The rules of the simulation
+   * @param data  The metadata of the simulation
+   */
+  public Simulation(SimulationRules rules, SimulationMetaData data) {
+    this(rules, data, rules.getRandom());
+  }
 }
@@ -0,0 +1,114 @@
+package cellsociety.model.simulation;
+
+import java.util.SplittableRandom;
+
+/**
+ * A seedable source of randomness for the rules of a simulation. Instead of drawing from one shared
+ * generator, rules ask for a stream keyed by the current step and a key such as the index of a
+ * cell. A stream only depends on the seed, the step and the key, so a run with a given seed
+ * produces the same results whatever order or thread the cells are evaluated on.
+ * <p>
+ * The step is advanced by the grid after every update.
+ *
+ * @author Owen Jennings
+ */
+public class SimulationRandom {
+
+  /**
+   * The key of the stream shared by a whole step, for rules that draw while visiting cells in a
+   * fixed order on a single thread. Cell keys are never negative, so this never collides with
+   * them.
+   */
+  public static final long STEP_KEY = -1;
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+  private long mySeed;
+  private long myStep;
+
+  /**
+   * Create a source of randomness with an arbitrary seed.
+   */
+  public SimulationRandom() {
+    this(new SplittableRandom().nextLong());
+  }
+
+  /**
+   * Create a source of randomness with the provided seed, starting at step 0.
+   *
+   * @param seed The seed of every stream handed out
+   */
+  public SimulationRandom(long seed) {
+    setSeed(seed);
+  }
+
+  /**
+   * Set the seed of this source of randomness and restart it at step 0.
+   *
+   * @param seed The seed of every stream handed out
+   */
+  public void setSeed(long seed) {
+    mySeed = seed;
+    myStep = 0;
+  }
+
+  /**
+   * Get the seed of this source of randomness.
+   *
+   * @return The seed of every stream handed out
+   */
+  public long getSeed() {
+    return mySeed;
+  }
+
+  /**
+   * Get the step that streams are currently handed out for.
+   *
+   * @return The number of steps advanced since the seed was set
+   */
+  public long getStep() {
+    return myStep;
+  }
+
+  /**
+   * Set the step that streams are handed out for, such as when restoring an earlier step.
+   *
+   * @param step The step to hand out streams for
+   */
+  public void setStep(long step) {
+    myStep = step;
+  }
+
+  /**
+   * Move on to the next step, so that every key is given a new stream.
+   */
+  public void advanceStep() {
+    myStep++;
+  }
+
+  /**
+   * Get the stream of the current step for the provided key.
+   *
+   * @param key The key of the stream, such as the row-major index of a cell
+   * @return A new generator that always produces the same values for this seed, step and key
+   */
+  public SplittableRandom getStream(long key) {
+    return getStream(myStep, key);
+  }
+
+  /**
+   * Get the stream of the provided step for the provided key.
+   *
+   * @param step The step of the stream
+   * @param key  The key of the stream, such as the row-major index of a cell
+   * @return A new generator that always produces the same values for this seed, step and key
+   */
+  public SplittableRandom getStream(long step, long key) {
+    return new SplittableRandom(mix(mix(mySeed + mix(step)) + key * GOLDEN_GAMMA));
+  }
+
+  // the finalizer of SplitMix64, which maps nearby inputs to unrelated outputs
+  private static long mix(long value) {
+    value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+    value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+    return value ^ (value >>> 31);
+  }
+}
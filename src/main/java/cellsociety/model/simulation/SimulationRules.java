@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
 
 import cellsociety.model.Grid;
 import cellsociety.model.cell.Cell;
@@ -21,6 +22,8 @@ public abstract class SimulationRules {
 
   private Map<String, Parameter<?>> myParameters;
   private final GetNeighbors myGetNeighbors;
+  private final boolean myUsesDefaultNextStates;
+  private SimulationRandom myRandom = new SimulationRandom();
 
   /**
    * The default constructor of a simulation rules class
@@ -37,6 +40,7 @@ public abstract class SimulationRules {
       throws InvalidParameterException {
     myParameters = parameters;
     myGetNeighbors = getNeighbors;
+    myUsesDefaultNextStates = checkUsesDefaultNextStates();
   }
 
   /**
@@ -88,6 +92,48 @@ public abstract class SimulationRules {
     return myGetNeighbors;
   }
 
+  /**
+   * Get the source of randomness that this rules class draws from.
+   *
+   * @return The source of randomness of these rules
+   */
+  public SimulationRandom getRandom() {
+    return myRandom;
+  }
+
+  /**
+   * Set the source of randomness that this rules class draws from.
+   *
+   * @param random The source of randomness to use
+   */
+  public void setRandom(SimulationRandom random) {
+    myRandom = random;
+  }
+
+  /**
+   * Get the random stream of the current step for a cell. Rules that draw random values in
+   * getNextState should use this stream, since it does not depend on the order or thread that
+   * cells are evaluated on.
+   *
+   * @param cell The cell that is being evaluated
+   * @param grid The grid that the cell is a part of
+   * @return A new generator for the cell's row-major index in the current step
+   */
+  public SplittableRandom getCellRandom(Cell cell, Grid grid) {
+    return myRandom.getStream((long) cell.getRow() * grid.getCols() + cell.getCol());
+  }
+
+  /**
+   * Get the random stream shared by the whole current step. Rules that draw random values while
+   * visiting cells in a fixed order on a single thread should take this stream once at the start of
+   * getNextStatesForAllCells.
+   *
+   * @return A new generator for the current step
+   */
+  public SplittableRandom getStepRandom() {
+    return myRandom.getStream(SimulationRandom.STEP_KEY);
+  }
+
   /**
    * Get a list of all required parameters for a simulation. If a simulation rules set requires
    * parameters, then this method should be overwritten to declare all required parameters for the
@@ -160,6 +206,119 @@ public abstract class SimulationRules {
     return nextStates;
   }
 
+  /**
+   * Get whether the next states of this rules class can be written directly into a grid's back
+   * buffer using writeNextStates. This is the case when a rules class relies on the default
+   * implementation of getNextStatesForAllCells, since that implementation only ever replaces
+   * changed cells with default cells holding the next state.
+   *
+   * @return true if writeNextStates produces the same result as getNextStatesForAllCells
+   */
+  public boolean supportsBufferedUpdate() {
+    return myUsesDefaultNextStates;
+  }
+
+  /**
+   * Get whether a grid can be stepped by only evaluating the cells near the cells that changed in
+   * the previous step. This is the case when the default implementation of getNextStatesForAllCells
+   * is used and getNextState is deterministic and only depends on the states of the cell and of the
+   * cells it is a dependent of (see getDependentCells). Rules classes that meet these conditions
+   * should override this method to return true.
+   *
+   * @return true if the next states of a grid can be found from a frontier of changed cells
+   */
+  public boolean supportsFrontierUpdate() {
+    return false;
+  }
+
+  /**
+   * Get the cells whose next state may depend on the state of the provided cell. By default, these
+   * are the cells that have the provided cell as a neighbor, which matches rules that read the
+   * neighbors of a cell through getNeighbors. Rules that read other cells should override this
+   * method.
+   *
+   * @param cell The cell that changed
+   * @param grid The grid that the cell is a part of
+   * @return The cells that should be evaluated again when the provided cell changes
+   */
+  public List<Cell> getDependentCells(Cell cell, Grid grid) {
+    return myGetNeighbors.getDependentCells(cell, grid);
+  }
+
+  /**
+   * Write the next state of every cell in the grid into the provided row-major buffer, using
+   * getNextState. Locations that do not hold a cell are written as -1. The grid is only read, so
+   * all next states are based on the current states, matching the simultaneous update semantics of
+   * getNextStatesForAllCells.
+   *
+   * @param grid       The grid that you wish to get the next states for
+   * @param nextStates The buffer to write the next states into, of size rows * cols
+   */
+  public void writeNextStates(Grid grid, int[] nextStates) {
+    writeNextStates(grid, nextStates, 0, grid.getRows());
+  }
+
+  /**
+   * Write the next state of every cell in a stripe of rows into the provided row-major buffer,
+   * using getNextState. Only the entries of the rows in the stripe are written, so stripes that do
+   * not overlap can be written at the same time when parallel updates are supported.
+   *
+   * @param grid       The grid that you wish to get the next states for
+   * @param nextStates The buffer to write the next states into, of size rows * cols
+   * @param startRow   The first row of the stripe, inclusive
+   * @param endRow     The last row of the stripe, exclusive
+   */
+  public void writeNextStates(Grid grid, int[] nextStates, int startRow, int endRow) {
+    int numCols = grid.getCols();
+    for (int row = startRow; row < endRow; row++) {
+      for (int col = 0; col < numCols; col++) {
+        Cell cell = grid.getCell(row, col);
+        nextStates[row * numCols + col] = (cell == null) ? -1 : getNextState(cell, grid);
+      }
+    }
+  }
+
+  /**
+   * Get whether getNextState can be called for different cells from several threads at once. This
+   * is the case when getNextState only reads the grid and does not modify any state of the rules
+   * class, and when getNextStatesFromEvaluatedStates produces the next states of the simulation.
+   * Rules classes that meet these conditions should override this method to return true.
+   *
+   * @return true if the next states of a grid can be evaluated in parallel stripes of rows
+   */
+  public boolean supportsParallelUpdate() {
+    return false;
+  }
+
+  /**
+   * Get the cell updates for all cells from the result of calling getNextState on every cell of
+   * the grid, as written by writeNextStates. By default, every cell whose evaluated state differs
+   * from its current state is replaced with a default cell holding the evaluated state, which
+   * matches the default implementation of getNextStatesForAllCells. Rules classes that treat the
+   * result of getNextState as an intermediate value should override this method along with
+   * getNextStatesForAllCells.
+   *
+   * @param grid            The grid that you wish to get the next states for
+   * @param evaluatedStates The row-major result of getNextState for every cell, with -1 for
+   *                        locations that do not hold a cell
+   * @return A list of cell updates that should occur, in row-major order
+   */
+  public List<CellUpdate> getNextStatesFromEvaluatedStates(Grid grid, int[] evaluatedStates) {
+    List<CellUpdate> nextStates = new ArrayList<>();
+    int numCols = grid.getCols();
+    for (int row = 0; row < grid.getRows(); row++) {
+      for (int col = 0; col < numCols; col++) {
+        Cell cell = grid.getCell(row, col);
+        int nextState = evaluatedStates[row * numCols + col];
+        if (cell != null && nextState != cell.getState()) {
+          nextStates.add(new CellUpdate(cell.getLocation(),
+              new DefaultCell(nextState, cell.getLocation())));
+        }
+      }
+    }
+    return nextStates;
+  }
+
   /**
    * Get the total number of states for a simulation rule. By design, the first state must be 0 and
    * the last state must be the total number of states - 1. For example, if a simulation rules has 4
@@ -193,10 +352,20 @@ public abstract class SimulationRules {
         String.format(getMessage("INVALID_PARAMETER"), exceptionMessage));
   }
 
+  private boolean checkUsesDefaultNextStates() {
+    try {
+      return getClass().getMethod("getNextStatesForAllCells", Grid.class).getDeclaringClass()
+          == SimulationRules.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
   private void createCellUpdateIfCellStateChanged(Grid grid, Cell cell,
       List<CellUpdate> nextStates) {
-    if (getNextState(cell, grid) != grid.getCell(cell.getLocation()).getState()) {
-      Cell nextCell = new DefaultCell(getNextState(cell, grid), cell.getLocation());
+    int nextState = getNextState(cell, grid);
+    if (nextState != grid.getCell(cell.getLocation()).getState()) {
+      Cell nextCell = new DefaultCell(nextState, cell.getLocation());
       nextStates.add(new CellUpdate(cell.getLocation(), nextCell));
     }
   }
@@ -4,7 +4,6 @@ import java.awt.geom.Point2D;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 
 import cellsociety.model.Grid;
@@ -12,6 +11,7 @@ import cellsociety.model.cell.Cell;
 import cellsociety.model.cell.CellUpdate;
 import cellsociety.model.cell.DarwinCell;
 import cellsociety.model.simulation.Instruction;
+import cellsociety.model.simulation.rules.DarwinRules;
 import cellsociety.model.simulation.rules.DarwinRules.State;
 
 /**
@@ -21,17 +21,19 @@ public class ConditionalInstruction implements Instruction {
 
   private int layers;
   private final String conditionType;
-  private final Random random = new Random();
+  private final DarwinRules rules;
 
   /**
    * Creates one instance of a Conditional Instruction.
    *
    * @param conditionType - the string name of the condition
    * @param layers        - the number of layers that should be searched when getting neighbors
+   * @param rules         - the rules whose turn stream is drawn from by the random condition
    */
-  public ConditionalInstruction(String conditionType, int layers) {
+  public ConditionalInstruction(String conditionType, int layers, DarwinRules rules) {
     this.conditionType = conditionType;
     this.layers = layers;
+    this.rules = rules;
   }
 
   /**
@@ -88,7 +90,7 @@ public class ConditionalInstruction implements Instruction {
   private List<CellUpdate> handleRandomCase(DarwinCell darwinCell, int nextInstruction,
       List<CellUpdate> updates) {
     if (checkTypeIsRandomOrRnd()) {
-      if (random.nextBoolean()) {
+      if (rules.getTurnRandom().nextBoolean()) {
         darwinCell.setCurInstructionIndex(nextInstruction - 2);
         updates.add(new CellUpdate(darwinCell.getLocation(), darwinCell));
       }
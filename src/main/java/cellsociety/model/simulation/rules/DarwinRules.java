@@ -10,6 +10,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SplittableRandom;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -41,6 +42,7 @@ public class DarwinRules extends SimulationRules {
 
   public static final Logger LOGGER = LogManager.getLogger();
   private Map<String, Instruction> instructionHandlers;
+  private SplittableRandom myTurnRandom;
   private static final String IFEMPTY = "IFEMPTY";
   private static final String IFWALL = "IFWALL";
   private static final String IFSAME = "IFSAME";
@@ -75,16 +77,16 @@ public class DarwinRules extends SimulationRules {
     instructionHandlers.put("RT", new RightInstruction());
     instructionHandlers.put("INFECT", new InfectInstruction(getLayers()));
     instructionHandlers.put("INF", new InfectInstruction(getLayers()));
-    instructionHandlers.put(IFEMPTY, new ConditionalInstruction(IFEMPTY, getLayers()));
-    instructionHandlers.put("EMP?", new ConditionalInstruction(IFEMPTY, getLayers()));
-    instructionHandlers.put("IFWALL", new ConditionalInstruction(IFWALL, getLayers()));
-    instructionHandlers.put("WL?", new ConditionalInstruction(IFWALL, getLayers()));
-    instructionHandlers.put(IFSAME, new ConditionalInstruction(IFSAME, getLayers()));
-    instructionHandlers.put("SM?", new ConditionalInstruction(IFSAME, getLayers()));
-    instructionHandlers.put(IFENEMY, new ConditionalInstruction(IFENEMY, getLayers()));
-    instructionHandlers.put("EMY?", new ConditionalInstruction(IFENEMY, getLayers()));
-    instructionHandlers.put(IFRANDOM, new ConditionalInstruction(IFRANDOM, getLayers()));
-    instructionHandlers.put("RND?", new ConditionalInstruction(IFRANDOM, getLayers()));
+    instructionHandlers.put(IFEMPTY, new ConditionalInstruction(IFEMPTY, getLayers(), this));
+    instructionHandlers.put("EMP?", new ConditionalInstruction(IFEMPTY, getLayers(), this));
+    instructionHandlers.put("IFWALL", new ConditionalInstruction(IFWALL, getLayers(), this));
+    instructionHandlers.put("WL?", new ConditionalInstruction(IFWALL, getLayers(), this));
+    instructionHandlers.put(IFSAME, new ConditionalInstruction(IFSAME, getLayers(), this));
+    instructionHandlers.put("SM?", new ConditionalInstruction(IFSAME, getLayers(), this));
+    instructionHandlers.put(IFENEMY, new ConditionalInstruction(IFENEMY, getLayers(), this));
+    instructionHandlers.put("EMY?", new ConditionalInstruction(IFENEMY, getLayers(), this));
+    instructionHandlers.put(IFRANDOM, new ConditionalInstruction(IFRANDOM, getLayers(), this));
+    instructionHandlers.put("RND?", new ConditionalInstruction(IFRANDOM, getLayers(), this));
     instructionHandlers.put("GO", new GoInstruction());
   }
 
@@ -110,6 +112,7 @@ public class DarwinRules extends SimulationRules {
 
       Instruction instruction = instructionHandlers.get(arguments.getFirst());
       if (instruction != null) {
+        myTurnRandom = getCellRandom(darwinCell, grid);
         List<CellUpdate> instructionUpdates = 
         instruction.executeInstruction(darwinCell, arguments, grid, 
         occupiedCells, movingCells);
@@ -124,6 +127,16 @@ public class DarwinRules extends SimulationRules {
     return updates;
   }
 
+  /**
+   * Get the random stream of the creature whose turn is being run. The stream is taken once per
+   * turn, so every random condition of a turn draws a new value from it.
+   *
+   * @return The stream of the current creature in the current step
+   */
+  public SplittableRandom getTurnRandom() {
+    return myTurnRandom;
+  }
+
   private static void handleInfection(Grid grid, DarwinCell darwinCell) {
     if (darwinCell.getInfected()) {
       darwinCell.handleInfectionDecrease();
@@ -11,7 +11,7 @@ import cellsociety.model.simulation.SimulationRules;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * A rules class to implement the falling sand simulation.
@@ -20,7 +20,6 @@ import java.util.Random;
  */
 public class FallingSandRules extends SimulationRules {
 
-  private static final Random RANDOM = new Random();
 
   /**
    * Create falling sand rules class. No parameters are required for this rules class.
@@ -58,26 +57,28 @@ public class FallingSandRules extends SimulationRules {
    */
   @Override
   public List<CellUpdate> getNextStatesForAllCells(Grid grid) {
+    SplittableRandom random = getStepRandom();
     List<CellUpdate> updates = new ArrayList<>();
-    handleEntireGrid(grid, updates);
+    handleEntireGrid(grid, updates, random);
     return updates;
   }
 
-  private void handleEntireGrid(Grid grid, List<CellUpdate> updates) {
+  private void handleEntireGrid(Grid grid, List<CellUpdate> updates, SplittableRandom random) {
     for (int row = grid.getRows() - 1; row >= 0; row--) { // check from bottom of grid to top
       for (int col = 0; col < grid.getCols(); col++) {
-        handleCurrentCell(grid, row, col, updates);
+        handleCurrentCell(grid, row, col, updates, random);
       }
     }
   }
 
-  private void handleCurrentCell(Grid grid, int row, int col, List<CellUpdate> updates) {
+  private void handleCurrentCell(Grid grid, int row, int col, List<CellUpdate> updates,
+      SplittableRandom random) {
     Cell cell = getCellIfInBounds(grid, row, col);
     if (cell == null) {
       return;
     }
     if (cell.getState() == State.SAND.getValue()) {
-      handleSandMovement(grid, cell, updates);
+      handleSandMovement(grid, cell, updates, random);
     }
   }
 
@@ -91,31 +92,33 @@ public class FallingSandRules extends SimulationRules {
     return State.values().length;
   }
 
-  private void handleSandMovement(Grid grid, Cell sandCell, List<CellUpdate> updates) {
+  private void handleSandMovement(Grid grid, Cell sandCell, List<CellUpdate> updates,
+      SplittableRandom random) {
     Cell cellBelow = getCellIfInBounds(grid, sandCell.getRow() + 1, sandCell.getCol());
     if (cellBelow == null) { // no cell below exists, you cannot move stay in location
       return;
     }
     boolean movedDirectlyBelow = attemptMove(grid, cellBelow, updates, sandCell);
     if (!movedDirectlyBelow) {
-      attemptMoveSandDiagonal(sandCell, grid, updates);
+      attemptMoveSandDiagonal(sandCell, grid, updates, random);
     }
   }
 
-  private void attemptMoveSandDiagonal(Cell sandCell, Grid grid, List<CellUpdate> updates) {
+  private void attemptMoveSandDiagonal(Cell sandCell, Grid grid, List<CellUpdate> updates,
+      SplittableRandom random) {
     Cell leftDiagonalCell = getCellIfInBounds(grid, sandCell.getRow() + 1,
         sandCell.getCol() - 1);
     Cell rightDiagonalCell = getCellIfInBounds(grid, sandCell.getRow() + 1,
         sandCell.getCol() + 1);
     moveWithZeroOrOneEmptyDiagonal(grid, sandCell, updates, leftDiagonalCell, rightDiagonalCell);
     // we now know that both diagonals are empty
-    moveToRandomDiagonal(grid, sandCell, updates, leftDiagonalCell, rightDiagonalCell);
+    moveToRandomDiagonal(grid, sandCell, updates, leftDiagonalCell, rightDiagonalCell, random);
   }
 
   private void moveToRandomDiagonal(Grid grid, Cell sandCell, List<CellUpdate> updates,
       Cell leftDiagonalCell,
-      Cell rightDiagonalCell) {
-    boolean moveLeft = RANDOM.nextBoolean();
+      Cell rightDiagonalCell, SplittableRandom random) {
+    boolean moveLeft = random.nextBoolean();
     // if both diagonals are empty, randomly choose one to move to
     if (moveLeft) {
       attemptMove(grid, leftDiagonalCell, updates, sandCell);
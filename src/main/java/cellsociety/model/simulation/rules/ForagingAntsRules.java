@@ -8,7 +8,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.Set;
 
 import cellsociety.model.Grid;
@@ -33,7 +33,7 @@ public class ForagingAntsRules extends SimulationRules {
   public static final String HOME = "home";
   public static final String FOOD = "food";
   private static final double randChecker = 0.1;
-  private final Random random = new Random();
+  private SplittableRandom random; // the step stream, set at the start of every step
   private final double myPheromoneDecayRate;
   private final int myAntReproductionTime;
   private final double myMaxPheromoneAmount;
@@ -148,6 +148,7 @@ public class ForagingAntsRules extends SimulationRules {
    */
   @Override
   public List<CellUpdate> getNextStatesForAllCells(Grid grid) {
+    random = getStepRandom();
 
     List<CellUpdate> nextStates = new ArrayList<>();
     List<Cell> antCells = new ArrayList<>();
@@ -2,8 +2,7 @@ package cellsociety.model.simulation.rules;
 
 import cellsociety.model.simulation.GetNeighbors;
 import cellsociety.model.simulation.SimulationRules;
-import java.util.ArrayList;
-import java.util.Arrays;
+import cellsociety.model.simulation.neighbors.MooreNeighbors;
 import java.util.List;
 import java.util.Map;
 
@@ -27,9 +26,10 @@ public class GameOfLifeRules extends SimulationRules {
   private static final String S = "S";
   public static final String RULE_STRING = "ruleString";
   private static final int aliveState = 1;
+  private static final String DEFAULT_RULE_STRING = "B3/S23";
   private String myRuleString;
-  private List<Integer> birthValues;
-  private List<Integer> surviveValues;
+  private LifeRuleTable myRuleTable;
+  private boolean usesNeighborhoodTable;
 
   /**
    * A default constructor for Game Of Life.
@@ -43,20 +43,18 @@ public class GameOfLifeRules extends SimulationRules {
       throws InvalidParameterException {
     super(parameters, myGetNeighbors);
     if (parameters == null || parameters.isEmpty()) {
-      myRuleString = "B3/S23";
-      birthValues = new ArrayList<>(List.of(3));
-      surviveValues = new ArrayList<>(Arrays.asList(2, 3));
+      myRuleString = DEFAULT_RULE_STRING;
     } else {
       checkMissingParameterAndThrowException(RULE_STRING);
       myRuleString = getParameters().get(RULE_STRING).getString();
       validateParameterRange();
-      initializeBsValues();
     }
+    initializeRuleTable();
   }
 
   private void validateParameterRange() throws InvalidParameterException {
     if (myRuleString.isEmpty()) {
-      myRuleString = "B3/S23";
+      myRuleString = DEFAULT_RULE_STRING;
     }
     if (checkInvalidRuleString()) {
       throwInvalidParameterException(RULE_STRING);
@@ -82,24 +80,80 @@ public class GameOfLifeRules extends SimulationRules {
   /**
    * Game of Life: Any cell with fewer than 2 neighbors dies due to underpopulation Any cell with 2
    * - 3 neighbors moves on to the next generation Any cell with more than 3 neighbors dies due to
-   * overpopulation Any inactive cell with exactly 3 neighbors becomes active.
+   * overpopulation Any inactive cell with exactly 3 neighbors becomes active. Other rule strings
+   * change which neighbor counts (or, for isotropic non-totalistic rules, which neighbor
+   * configurations) give birth and survive.
    *
    * @param cell - individual cell from grid
    * @return the next state of a cell based on the rules of game of life
    */
   @Override
   public int getNextState(Cell cell, Grid grid) {
+    if (usesNeighborhoodTable) {
+      return lookupNextState(getNeighborhood(cell, grid));
+    }
     int aliveNeighbors = calculateAliveNeighbors(cell, grid);
-    return getNextStateBasedOnAliveNeighbors(cell, aliveNeighbors);
+    int mask = (cell.getState() == aliveState) ? getSurviveMask() : getBirthMask();
+    return (aliveNeighbors < Integer.SIZE && ((mask >> aliveNeighbors) & 1) == 1) ? 1 : 0;
+  }
+
+  /**
+   * Get the next state of the center cell of a 3x3 neighborhood from the precomputed rule table.
+   * Bit (3 * (dr + 1) + (dc + 1)) of the neighborhood is set if the cell at offset (dr, dc) from
+   * the center is alive, so bit 4 is the center cell.
+   *
+   * @param neighborhood The 9 bit neighborhood index
+   * @return 1 if the center cell is alive in the next generation, 0 otherwise
+   */
+  public int lookupNextState(int neighborhood) {
+    return myRuleTable.getNextState(neighborhood);
+  }
+
+  /**
+   * Get whether the rule string only depends on the number of alive neighbors, as opposed to an
+   * isotropic non-totalistic rule string that depends on their arrangement.
+   *
+   * @return true if the rule string is totalistic
+   */
+  public boolean isTotalistic() {
+    return myRuleTable.isTotalistic();
+  }
+
+  /**
+   * Get the birth values of the rule string as a bit mask, where bit n is set if a dead cell with n
+   * alive neighbors becomes alive. Only meaningful for totalistic rule strings.
+   *
+   * @return The bit mask of birth neighbor counts
+   */
+  public int getBirthMask() {
+    return myRuleTable.getBirthMask();
+  }
+
+  /**
+   * Get the survive values of the rule string as a bit mask, where bit n is set if an alive cell
+   * with n alive neighbors stays alive. Only meaningful for totalistic rule strings.
+   *
+   * @return The bit mask of survive neighbor counts
+   */
+  public int getSurviveMask() {
+    return myRuleTable.getSurviveMask();
   }
 
-  private int getNextStateBasedOnAliveNeighbors(Cell cell, int aliveNeighbors) {
-    if (birthValues.contains(aliveNeighbors) && cell.getState() == 0) {
-      return 1;
-    } else if (!surviveValues.contains(aliveNeighbors)) {
-      return 0;
+  private int getNeighborhood(Cell cell, Grid grid) {
+    int row = cell.getRow();
+    int col = cell.getCol();
+    int neighborhood = 0;
+    int bit = 0;
+    for (int dr = -1; dr <= 1; dr++) {
+      for (int dc = -1; dc <= 1; dc++) {
+        int state = (dr == 0 && dc == 0) ? cell.getState() : grid.getState(row + dr, col + dc);
+        if (state == aliveState) {
+          neighborhood |= 1 << bit;
+        }
+        bit++;
+      }
     }
-    return cell.getState();
+    return neighborhood;
   }
 
   private int calculateAliveNeighbors(Cell cell, Grid grid) {
@@ -113,24 +167,34 @@ public class GameOfLifeRules extends SimulationRules {
     return aliveNeighbors;
   }
 
-  private void initializeBsValues() {
-
-    String[] birthStrings = myRuleString.split("/")[0].substring(1).split("");
-    String[] surviveStrings = myRuleString.split("/")[1].substring(1).split("");
-
-    Integer[] birthValuesArray = convertStringArray(birthStrings);
-    Integer[] surviveValuesArray = convertStringArray(surviveStrings);
+  private void initializeRuleTable() throws InvalidParameterException {
+    myRuleTable = new LifeRuleTable(myRuleString);
+    usesNeighborhoodTable = getNeighborConfig().getClass() == MooreNeighbors.class
+        && getLayers() == 1;
+    if (!usesNeighborhoodTable && !myRuleTable.isTotalistic()) {
+      throwInvalidParameterException(RULE_STRING);
+    }
+  }
 
-    surviveValues = new ArrayList<>(Arrays.asList(surviveValuesArray));
-    birthValues = new ArrayList<>(Arrays.asList(birthValuesArray));
+  /**
+   * Game of Life can be stepped from a frontier of changed cells.
+   *
+   * @return true, since the next state of a cell only depends on its neighbors
+   */
+  @Override
+  public boolean supportsFrontierUpdate() {
+    return true;
   }
 
-  private Integer[] convertStringArray(String[] strings) {
-    Integer[] values = new Integer[strings.length];
-    for (int i = 0; i < strings.length; i++) {
-      values[i] = Integer.valueOf(strings[i]);
-    }
-    return values;
+  /**
+   * Game of Life can be evaluated in parallel stripes of rows.
+   *
+   * @return true, since the rule table and neighbor configuration are only read while finding next
+   * states
+   */
+  @Override
+  public boolean supportsParallelUpdate() {
+    return true;
   }
 
   @Override
@@ -0,0 +1,560 @@
+package cellsociety.model.simulation.rules;
+
+import static cellsociety.model.simulation.rules.RuleTableRules.RULE_FILE;
+
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.SimulationRules;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A Golly rule table (.table) or rule tree (.tree) compiled into a dense lookup array. The array is
+ * indexed by the base n number formed by the center state followed by the neighbor states in
+ * clockwise order starting from the top (N, E, S, W for von Neumann neighborhoods and N, NE, E, SE,
+ * S, SW, W, NW for Moore neighborhoods), where n is the number of states.
+ * <p>
+ * Rule tables support variables (which are bound, so a variable that appears more than once in a
+ * transition takes the same value everywhere), the none, rotate4, rotate4reflect, rotate8,
+ * rotate8reflect, reflect_horizontal and permute symmetries, and the compact transition format
+ * without commas. As in Golly, the first transition that matches a neighborhood is used, and a cell
+ * keeps its state when no transition matches. Files in the .rule format are read from their @TABLE
+ * or @TREE section.
+ *
+ * @author Owen Jennings
+ */
+public class GollyRuleTable {
+
+  /**
+   * The neighborhoods a rule table can be defined over.
+   */
+  public enum Neighborhood {
+    VON_NEUMANN(new int[][]{{-1, 0}, {0, 1}, {1, 0}, {0, -1}}),
+    MOORE(new int[][]{{-1, 0}, {-1, 1}, {0, 1}, {1, 1}, {1, 0}, {1, -1}, {0, -1}, {-1, -1}});
+
+    private final int[][] myOffsets;
+
+    Neighborhood(int[][] offsets) {
+      myOffsets = offsets;
+    }
+
+    /**
+     * Get the row and column offsets of the neighbors in table order.
+     *
+     * @return An array of {row offset, column offset} pairs
+     */
+    public int[][] getOffsets() {
+      return myOffsets;
+    }
+  }
+
+  public static final int MAX_TABLE_SIZE = 1 << 24;
+  private static final int MAX_STATES = 255;
+  private static final byte NO_TRANSITION = -1;
+  private static final String TABLE_EXTENSION = ".table";
+  private static final String TREE_EXTENSION = ".tree";
+  // Order of the neighbors used by a rule tree, as indexes into the table order of the neighborhood
+  private static final int[] VON_NEUMANN_TREE_ORDER = {0, 3, 1, 2};
+  private static final int[] MOORE_TREE_ORDER = {7, 1, 5, 3, 0, 6, 2, 4};
+  private final int myNumStates;
+  private final Neighborhood myNeighborhood;
+  private final byte[] myTransitions;
+
+  private GollyRuleTable(int numStates, Neighborhood neighborhood)
+      throws InvalidParameterException {
+    if (numStates < 2 || numStates > MAX_STATES) {
+      throwInvalidRuleFile("the number of states must be between 2 and " + MAX_STATES);
+    }
+    myNumStates = numStates;
+    myNeighborhood = neighborhood;
+    long size = 1;
+    for (int i = 0; i <= neighborhood.getOffsets().length; i++) {
+      size *= numStates;
+    }
+    if (size > MAX_TABLE_SIZE) {
+      throwInvalidRuleFile("too many states to compile for this neighborhood");
+    }
+    myTransitions = new byte[(int) size];
+    Arrays.fill(myTransitions, NO_TRANSITION);
+  }
+
+  /**
+   * Load and compile a .table, .tree or .rule file.
+   *
+   * @param path The path of the file to load
+   * @return The compiled rule table
+   * @throws InvalidParameterException If the file cannot be read or is not a valid rule file
+   */
+  public static GollyRuleTable load(Path path) throws InvalidParameterException {
+    List<String> lines;
+    try {
+      lines = Files.readAllLines(path);
+    } catch (IOException e) {
+      throwInvalidRuleFile("cannot read " + path);
+      return null;
+    }
+    return parse(path.getFileName().toString(), lines);
+  }
+
+  /**
+   * Load and compile a .table, .tree or .rule file packaged as a classpath resource, so rule files
+   * are found the same way whether the application runs from a jar or from the source tree.
+   *
+   * @param resourcePath The absolute classpath path of the file to load
+   * @return The compiled rule table
+   * @throws InvalidParameterException If the resource does not exist, cannot be read or is not a
+   *                                   valid rule file
+   */
+  public static GollyRuleTable loadResource(String resourcePath)
+      throws InvalidParameterException {
+    List<String> lines = null;
+    try (InputStream input = GollyRuleTable.class.getResourceAsStream(resourcePath)) {
+      if (input == null) {
+        throwInvalidRuleFile("cannot find " + resourcePath);
+      }
+      lines = readLines(input);
+    } catch (IOException | UncheckedIOException e) {
+      throwInvalidRuleFile("cannot read " + resourcePath);
+    }
+    return parse(resourcePath.substring(resourcePath.lastIndexOf('/') + 1), lines);
+  }
+
+  private static List<String> readLines(InputStream input) {
+    BufferedReader reader = new BufferedReader(
+        new InputStreamReader(input, StandardCharsets.UTF_8));
+    return reader.lines().toList();
+  }
+
+  // the format is chosen by the file extension, and .rule files hold a table or a tree section
+  private static GollyRuleTable parse(String fileName, List<String> lines)
+      throws InvalidParameterException {
+    if (fileName.endsWith(TABLE_EXTENSION)) {
+      return parseTable(lines);
+    }
+    if (fileName.endsWith(TREE_EXTENSION)) {
+      return parseTree(lines);
+    }
+    List<String> tableSection = getSection(lines, "@TABLE");
+    return tableSection.isEmpty() ? parseTree(getSection(lines, "@TREE"))
+        : parseTable(tableSection);
+  }
+
+  /**
+   * Compile the lines of a rule table.
+   *
+   * @param lines The lines of a .table file
+   * @return The compiled rule table
+   * @throws InvalidParameterException If the lines are not a valid rule table
+   */
+  public static GollyRuleTable parseTable(List<String> lines) throws InvalidParameterException {
+    Map<String, String> settings = new HashMap<>();
+    Map<String, int[]> variables = new HashMap<>();
+    GollyRuleTable table = null;
+    int[][] symmetries = null;
+    for (String rawLine : lines) {
+      String line = stripComment(rawLine);
+      if (line.isEmpty()) {
+        continue;
+      }
+      if (line.contains(":")) {
+        String[] setting = line.split(":", 2);
+        settings.put(setting[0].trim(), setting[1].trim());
+      } else if (line.startsWith("var ")) {
+        addVariable(line, variables, getNumStates(settings));
+      } else {
+        if (table == null) {
+          table = new GollyRuleTable(getNumStates(settings), getNeighborhood(settings));
+          symmetries = table.getSymmetries(settings.getOrDefault("symmetries", "none"));
+        }
+        table.addTransition(table.splitTransition(line), variables, symmetries,
+            "permute".equals(settings.get("symmetries")));
+      }
+    }
+    if (table == null) {
+      table = new GollyRuleTable(getNumStates(settings), getNeighborhood(settings));
+    }
+    return table;
+  }
+
+  /**
+   * Compile the lines of a rule tree by evaluating the tree for every neighborhood.
+   *
+   * @param lines The lines of a .tree file
+   * @return The compiled rule table
+   * @throws InvalidParameterException If the lines are not a valid rule tree
+   */
+  public static GollyRuleTable parseTree(List<String> lines) throws InvalidParameterException {
+    Map<String, String> settings = new HashMap<>();
+    List<int[]> nodes = new ArrayList<>();
+    for (String rawLine : lines) {
+      String line = stripComment(rawLine);
+      if (line.contains("=")) {
+        String[] setting = line.split("=", 2);
+        settings.put(setting[0].trim(), setting[1].trim());
+      } else if (!line.isEmpty()) {
+        nodes.add(parseInts(line.split("\\s+")));
+      }
+    }
+    int numStates = parseSetting(settings, "num_states");
+    int numNeighbors = parseSetting(settings, "num_neighbors");
+    if (numNeighbors != 4 && numNeighbors != 8) {
+      throwInvalidRuleFile("num_neighbors must be 4 or 8");
+    }
+    GollyRuleTable table = new GollyRuleTable(numStates,
+        numNeighbors == 4 ? Neighborhood.VON_NEUMANN : Neighborhood.MOORE);
+    if (nodes.isEmpty()) {
+      throwInvalidRuleFile("the rule tree has no nodes");
+    }
+    table.addTree(nodes, numNeighbors == 4 ? VON_NEUMANN_TREE_ORDER : MOORE_TREE_ORDER);
+    return table;
+  }
+
+  /**
+   * Get the next state of a cell.
+   *
+   * @param index The base n index formed by the center state followed by the neighbor states in
+   *              the order of the neighborhood's offsets
+   * @param state The current state of the cell
+   * @return The next state of the cell
+   */
+  public int getNextState(int index, int state) {
+    byte nextState = myTransitions[index];
+    return (nextState == NO_TRANSITION) ? state : nextState & 0xFF;
+  }
+
+  /**
+   * Get the number of states of this rule table.
+   *
+   * @return The number of states
+   */
+  public int getNumberStates() {
+    return myNumStates;
+  }
+
+  /**
+   * Get the neighborhood this rule table is defined over.
+   *
+   * @return The neighborhood of this rule table
+   */
+  public Neighborhood getNeighborhood() {
+    return myNeighborhood;
+  }
+
+  // Add a transition for every combination of values of its variables
+  private void addTransition(String[] tokens, Map<String, int[]> variables, int[][] symmetries,
+      boolean permute) throws InvalidParameterException {
+    List<String> boundNames = new ArrayList<>();
+    int[] variableIndexes = new int[tokens.length];
+    int[] transition = new int[tokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      if (isNumber(tokens[i])) {
+        transition[i] = Integer.parseInt(tokens[i]);
+        checkState(transition[i], myNumStates);
+        variableIndexes[i] = -1;
+      } else {
+        if (!variables.containsKey(tokens[i])) {
+          throwInvalidRuleFile("unknown variable " + tokens[i]);
+        }
+        if (!boundNames.contains(tokens[i])) {
+          boundNames.add(tokens[i]);
+        }
+        variableIndexes[i] = boundNames.indexOf(tokens[i]);
+      }
+    }
+    int[][] values = new int[boundNames.size()][];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = variables.get(boundNames.get(i));
+    }
+    int[] choice = new int[values.length];
+    do {
+      for (int i = 0; i < tokens.length; i++) {
+        if (variableIndexes[i] >= 0) {
+          transition[i] = values[variableIndexes[i]][choice[variableIndexes[i]]];
+        }
+      }
+      addExpandedTransition(transition, symmetries, permute);
+    } while (nextChoice(choice, values));
+  }
+
+  private void addExpandedTransition(int[] transition, int[][] symmetries, boolean permute) {
+    int numNeighbors = transition.length - 2;
+    int center = transition[0];
+    byte nextState = (byte) transition[transition.length - 1];
+    int[] neighbors = Arrays.copyOfRange(transition, 1, numNeighbors + 1);
+    if (permute) {
+      Arrays.sort(neighbors);
+      do {
+        setIfUnset(getIndex(center, neighbors), nextState);
+      } while (nextPermutation(neighbors));
+      return;
+    }
+    int[] symmetric = new int[numNeighbors];
+    for (int[] symmetry : symmetries) {
+      for (int i = 0; i < numNeighbors; i++) {
+        symmetric[i] = neighbors[symmetry[i]];
+      }
+      setIfUnset(getIndex(center, symmetric), nextState);
+    }
+  }
+
+  private void setIfUnset(int index, byte nextState) {
+    if (myTransitions[index] == NO_TRANSITION) {
+      myTransitions[index] = nextState;
+    }
+  }
+
+  private int getIndex(int center, int[] neighbors) {
+    int index = center;
+    for (int neighbor : neighbors) {
+      index = index * myNumStates + neighbor;
+    }
+    return index;
+  }
+
+  private void addTree(List<int[]> nodes, int[] treeOrder) throws InvalidParameterException {
+    int root = nodes.size() - 1;
+    int numNeighbors = treeOrder.length;
+    int[] neighbors = new int[numNeighbors];
+    for (int index = 0; index < myTransitions.length; index++) {
+      int remaining = index;
+      for (int i = numNeighbors - 1; i >= 0; i--) {
+        neighbors[i] = remaining % myNumStates;
+        remaining /= myNumStates;
+      }
+      int value = root;
+      for (int neighbor : treeOrder) {
+        value = getTreeChild(nodes, value, neighbors[neighbor]);
+      }
+      value = getTreeChild(nodes, value, remaining);
+      if (value < 0 || value >= myNumStates) {
+        throwInvalidRuleFile("the rule tree has an invalid state " + value);
+      }
+      myTransitions[index] = (byte) value;
+    }
+  }
+
+  private int getTreeChild(List<int[]> nodes, int node, int state)
+      throws InvalidParameterException {
+    if (node < 0 || node >= nodes.size() || nodes.get(node).length != myNumStates + 1) {
+      throwInvalidRuleFile("the rule tree has an invalid node " + node);
+    }
+    return nodes.get(node)[state + 1];
+  }
+
+  private int[][] getSymmetries(String name) throws InvalidParameterException {
+    int numNeighbors = myNeighborhood.getOffsets().length;
+    // a quarter turn moves each neighbor numNeighbors / 4 places around the center
+    int quarterTurn = numNeighbors / 4;
+    List<int[]> symmetries = new ArrayList<>();
+    switch (name) {
+      case "none", "permute" -> symmetries.add(getRotation(0));
+      case "rotate4" -> addRotations(symmetries, quarterTurn, false);
+      case "rotate4reflect" -> addRotations(symmetries, quarterTurn, true);
+      case "rotate8", "rotate8reflect" -> {
+        if (myNeighborhood != Neighborhood.MOORE) {
+          throwInvalidRuleFile(name + " requires a Moore neighborhood");
+        }
+        addRotations(symmetries, 1, name.endsWith("reflect"));
+      }
+      case "reflect_horizontal" -> {
+        symmetries.add(getRotation(0));
+        symmetries.add(getReflection());
+      }
+      default -> throwInvalidRuleFile("unsupported symmetries " + name);
+    }
+    return symmetries.toArray(new int[0][]);
+  }
+
+  private void addRotations(List<int[]> symmetries, int step, boolean reflect) {
+    int numNeighbors = myNeighborhood.getOffsets().length;
+    for (int shift = 0; shift < numNeighbors; shift += step) {
+      int[] rotation = getRotation(shift);
+      symmetries.add(rotation);
+      if (reflect) {
+        int[] reflection = getReflection();
+        int[] reflectedRotation = new int[numNeighbors];
+        for (int i = 0; i < numNeighbors; i++) {
+          reflectedRotation[i] = rotation[reflection[i]];
+        }
+        symmetries.add(reflectedRotation);
+      }
+    }
+  }
+
+  private int[] getRotation(int shift) {
+    int numNeighbors = myNeighborhood.getOffsets().length;
+    int[] rotation = new int[numNeighbors];
+    for (int i = 0; i < numNeighbors; i++) {
+      rotation[i] = (i + shift) % numNeighbors;
+    }
+    return rotation;
+  }
+
+  // Mirror the neighbors left to right, which keeps the top neighbor in place
+  private int[] getReflection() {
+    int numNeighbors = myNeighborhood.getOffsets().length;
+    int[] reflection = new int[numNeighbors];
+    for (int i = 0; i < numNeighbors; i++) {
+      reflection[i] = (numNeighbors - i) % numNeighbors;
+    }
+    return reflection;
+  }
+
+  private String[] splitTransition(String line) throws InvalidParameterException {
+    int length = myNeighborhood.getOffsets().length + 2;
+    String[] tokens = line.contains(",") ? line.split(",") : line.replaceAll("\\s", "").split("");
+    if (tokens.length != length) {
+      throwInvalidRuleFile("transition " + line + " should have " + length + " entries");
+    }
+    for (int i = 0; i < length; i++) {
+      tokens[i] = tokens[i].trim();
+    }
+    return tokens;
+  }
+
+  private static void addVariable(String line, Map<String, int[]> variables, int numStates)
+      throws InvalidParameterException {
+    String[] definition = line.substring("var ".length()).split("=", 2);
+    if (definition.length != 2) {
+      throwInvalidRuleFile("invalid variable " + line);
+    }
+    String values = definition[1].trim();
+    if (!values.startsWith("{") || !values.endsWith("}")) {
+      throwInvalidRuleFile("invalid variable " + line);
+    }
+    Set<Integer> states = new LinkedHashSet<>();
+    for (String value : values.substring(1, values.length() - 1).split(",")) {
+      String trimmed = value.trim();
+      if (isNumber(trimmed)) {
+        int state = Integer.parseInt(trimmed);
+        checkState(state, numStates);
+        states.add(state);
+      } else if (variables.containsKey(trimmed)) {
+        for (int state : variables.get(trimmed)) {
+          states.add(state);
+        }
+      } else {
+        throwInvalidRuleFile("unknown variable " + trimmed);
+      }
+    }
+    variables.put(definition[0].trim(),
+        states.stream().mapToInt(Integer::intValue).toArray());
+  }
+
+  private static boolean nextChoice(int[] choice, int[][] values) {
+    for (int i = choice.length - 1; i >= 0; i--) {
+      choice[i]++;
+      if (choice[i] < values[i].length) {
+        return true;
+      }
+      choice[i] = 0;
+    }
+    return false;
+  }
+
+  // Advance to the next lexicographic permutation, returning false after the last one
+  private static boolean nextPermutation(int[] values) {
+    int i = values.length - 2;
+    while (i >= 0 && values[i] >= values[i + 1]) {
+      i--;
+    }
+    if (i < 0) {
+      return false;
+    }
+    int j = values.length - 1;
+    while (values[j] <= values[i]) {
+      j--;
+    }
+    swap(values, i, j);
+    for (int left = i + 1, right = values.length - 1; left < right; left++, right--) {
+      swap(values, left, right);
+    }
+    return true;
+  }
+
+  private static void swap(int[] values, int i, int j) {
+    int temp = values[i];
+    values[i] = values[j];
+    values[j] = temp;
+  }
+
+  private static List<String> getSection(List<String> lines, String header) {
+    List<String> section = new ArrayList<>();
+    boolean inSection = false;
+    for (String line : lines) {
+      if (line.startsWith("@")) {
+        inSection = line.trim().equals(header);
+      } else if (inSection) {
+        section.add(line);
+      }
+    }
+    return section;
+  }
+
+  private static Neighborhood getNeighborhood(Map<String, String> settings)
+      throws InvalidParameterException {
+    String neighborhood = settings.getOrDefault("neighborhood", "Moore");
+    if (neighborhood.equalsIgnoreCase("vonNeumann")) {
+      return Neighborhood.VON_NEUMANN;
+    }
+    if (!neighborhood.equalsIgnoreCase("Moore")) {
+      throwInvalidRuleFile("unsupported neighborhood " + neighborhood);
+    }
+    return Neighborhood.MOORE;
+  }
+
+  private static int getNumStates(Map<String, String> settings) throws InvalidParameterException {
+    return parseSetting(settings, "n_states");
+  }
+
+  private static int parseSetting(Map<String, String> settings, String name)
+      throws InvalidParameterException {
+    String value = settings.get(name);
+    if (value == null || !isNumber(value)) {
+      throwInvalidRuleFile("missing or invalid " + name);
+    }
+    return Integer.parseInt(value);
+  }
+
+  private static int[] parseInts(String[] parts) throws InvalidParameterException {
+    int[] values = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      if (!isNumber(parts[i])) {
+        throwInvalidRuleFile("invalid rule tree node " + String.join(" ", parts));
+      }
+      values[i] = Integer.parseInt(parts[i]);
+    }
+    return values;
+  }
+
+  private static void checkState(int state, int numStates) throws InvalidParameterException {
+    if (state >= numStates) {
+      throwInvalidRuleFile("state " + state + " is not less than n_states");
+    }
+  }
+
+  private static boolean isNumber(String value) {
+    return !value.isEmpty() && value.length() < 10 && value.chars().allMatch(Character::isDigit);
+  }
+
+  private static String stripComment(String line) {
+    int comment = line.indexOf('#');
+    return (comment >= 0 ? line.substring(0, comment) : line).trim();
+  }
+
+  private static void throwInvalidRuleFile(String reason) throws InvalidParameterException {
+    SimulationRules.throwInvalidParameterException("%s (%s)".formatted(RULE_FILE, reason));
+  }
+}
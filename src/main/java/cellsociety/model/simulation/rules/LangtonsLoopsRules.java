@@ -6,7 +6,8 @@ import cellsociety.model.simulation.GetNeighbors;
 import cellsociety.model.simulation.InvalidParameterException;
 import cellsociety.model.simulation.Parameter;
 import cellsociety.model.simulation.SimulationRules;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -52,6 +53,7 @@ public class LangtonsLoopsRules extends SimulationRules {
       "702321", "702525", "702720"
   };
 
+  // Neighbors in the order they appear in a transition rule, after the center cell
   private static final int[][] DIRECTIONS = {
       {-1, 0}, // Top
       {0, 1},  // Right
@@ -59,8 +61,11 @@ public class LangtonsLoopsRules extends SimulationRules {
       {0, -1}  // Left
   };
 
-  private static final Map<String, Integer> TRANSITIONS_MAP = new HashMap<>();
-  public static final String FORMAT_FIVE_STRINGS_COMBINED = "%s%s%s%s%s";
+  private static final int NUM_STATES = 8;
+  private static final int NO_TRANSITION = -1;
+  // Next states indexed by the base 8 number formed by the center, top, right, bottom and left
+  // states, or NO_TRANSITION if the cell keeps its state
+  private static final byte[] TRANSITIONS = createTransitions();
 
   /**
    * The default constructor of a LangtonsLoop rules.
@@ -72,15 +77,11 @@ public class LangtonsLoopsRules extends SimulationRules {
   public LangtonsLoopsRules(Map<String, Parameter<?>> parameters, GetNeighbors myGetNeighbors)
       throws InvalidParameterException {
     super(parameters, myGetNeighbors);
-    for (String rule : TRANSITION_RULES) {
-      String key = rule.substring(0, 5);
-      int value = Integer.parseInt(rule.substring(5, 6));
-      addRotatedRules(key, value);
-    }
   }
 
   /**
-   * Get the next state based on the Langton's Loops rule strings above.
+   * Get the next state based on the Langton's Loops rule strings above. The top, right, bottom and
+   * left neighbors are read directly from the grid, and cells outside of the grid count as state 0.
    *
    * @param cell The cell you are trying to find the next state for.
    * @param grid The grid that the cell is a part of
@@ -88,66 +89,92 @@ public class LangtonsLoopsRules extends SimulationRules {
    */
   @Override
   public int getNextState(Cell cell, Grid grid) {
-    int[] states = new int[5]; // store your state and neighbors states
-    states[0] = cell.getState();
-    List<Cell> neighbors = getNeighbors(cell, grid);
-    populateStatesList(cell, neighbors, states);
-    String stateKey = getStateString(states);
-    if (TRANSITIONS_MAP.containsKey(stateKey)) {
-      return TRANSITIONS_MAP.get(stateKey);
+    int state = cell.getState();
+    if (!isValidState(state)) {
+      return state;
+    }
+    int index = state;
+    for (int[] direction : DIRECTIONS) {
+      int neighborState = Math.max(
+          grid.getState(cell.getRow() + direction[0], cell.getCol() + direction[1]), 0);
+      if (!isValidState(neighborState)) {
+        return state;
+      }
+      index = index * NUM_STATES + neighborState;
     }
-    return cell.getState();
+    int nextState = TRANSITIONS[index];
+    return (nextState == NO_TRANSITION) ? state : nextState;
   }
 
-  // I asked ChatGPT for assistance in generating
-  // addRotatedRules and generateRotations.
-  // Helper method to add all 4 rotated rules to the map
-  private void addRotatedRules(String key, int value) {
-    String[] rotations = generateRotations(key);
-    for (String rotation : rotations) {
-      TRANSITIONS_MAP.put(rotation, value);
-    }
+  /**
+   * Langton's Loops can be stepped from a frontier of changed cells.
+   *
+   * @return true, since the next state of a cell only depends on the cells at its top, right,
+   * bottom and left offsets
+   */
+  @Override
+  public boolean supportsFrontierUpdate() {
+    return true;
   }
 
-  // Method to generate all 4 rotations of a rule
-  private String[] generateRotations(String key) {
-    return new String[]{
-        // Original
-        key,
-        // 90 degree rotation
-        FORMAT_FIVE_STRINGS_COMBINED.formatted(key.charAt(0), key.charAt(2), key.charAt(3),
-            key.charAt(4),
-            key.charAt(1)),
-        // 180 degree rotation
-        FORMAT_FIVE_STRINGS_COMBINED.formatted(key.charAt(0), key.charAt(3), key.charAt(4),
-            key.charAt(1),
-            key.charAt(2)),
-        // 270 degree rotation
-        FORMAT_FIVE_STRINGS_COMBINED.formatted(key.charAt(0), key.charAt(4), key.charAt(1),
-            key.charAt(2),
-            key.charAt(3))
-    };
+  /**
+   * Langton's Loops can be evaluated in parallel stripes of rows.
+   *
+   * @return true, since the transition table is only read while finding next states
+   */
+  @Override
+  public boolean supportsParallelUpdate() {
+    return true;
   }
 
-  private static String getStateString(int[] states) {
-    StringBuilder stateKey = new StringBuilder();
-    for (int state : states) {
-      stateKey.append(state);
+  /**
+   * Get the cells that read the provided cell as one of their top, right, bottom or left neighbors.
+   *
+   * @param cell The cell that changed
+   * @param grid The grid that the cell is a part of
+   * @return The cells that should be evaluated again when the provided cell changes
+   */
+  @Override
+  public List<Cell> getDependentCells(Cell cell, Grid grid) {
+    List<Cell> dependents = new ArrayList<>();
+    for (int[] offset : DIRECTIONS) {
+      Cell dependent = grid.getCell(cell.getRow() - offset[0], cell.getCol() - offset[1]);
+      if (dependent != null) {
+        dependents.add(dependent);
+      }
     }
-    return stateKey.toString();
+    return dependents;
   }
 
-  private static void populateStatesList(Cell cell, List<Cell> neighbors, int[] states) {
-    for (Cell neighbor : neighbors) {
-      for (int i = 0; i < DIRECTIONS.length; i++) {
-        int newRow = cell.getRow() + DIRECTIONS[i][0];
-        int newCol = cell.getCol() + DIRECTIONS[i][1];
+  private static boolean isValidState(int state) {
+    return state >= 0 && state < NUM_STATES;
+  }
 
-        if (neighbor.getRow() == newRow && neighbor.getCol() == newCol) {
-          states[i + 1] = neighbor.getState();
-        }
+  // Compile every transition rule and its 4 rotations into a flat table
+  private static byte[] createTransitions() {
+    int size = 1;
+    for (int i = 0; i <= DIRECTIONS.length; i++) {
+      size *= NUM_STATES;
+    }
+    byte[] transitions = new byte[size];
+    Arrays.fill(transitions, (byte) NO_TRANSITION);
+    for (String rule : TRANSITION_RULES) {
+      byte value = (byte) Character.getNumericValue(rule.charAt(DIRECTIONS.length + 1));
+      for (int rotation = 0; rotation < DIRECTIONS.length; rotation++) {
+        transitions[getRotatedIndex(rule, rotation)] = value;
       }
     }
+    return transitions;
+  }
+
+  // Index of a rule whose neighbors are rotated clockwise by the given number of quarter turns
+  private static int getRotatedIndex(String rule, int rotation) {
+    int index = Character.getNumericValue(rule.charAt(0));
+    for (int i = 0; i < DIRECTIONS.length; i++) {
+      int neighbor = (i + rotation) % DIRECTIONS.length;
+      index = index * NUM_STATES + Character.getNumericValue(rule.charAt(neighbor + 1));
+    }
+    return index;
   }
 
   @Override
@@ -0,0 +1,207 @@
+package cellsociety.model.simulation.rules;
+
+import static cellsociety.model.simulation.rules.GameOfLifeRules.RULE_STRING;
+
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.SimulationRules;
+import java.util.Arrays;
+
+/**
+ * A Game of Life rule string compiled into a 512 entry lookup table indexed by the states of a 3x3
+ * neighborhood. Bit (3 * (dr + 1) + (dc + 1)) of a neighborhood index is set if the cell at offset
+ * (dr, dc) from the center is alive, so bit 4 is the center cell.
+ * <p>
+ * Both totalistic rule strings (B3/S23) and isotropic non-totalistic rule strings in Hensel
+ * notation (B2-a/S12, B3aik/S23) are supported. A neighbor count without letters includes every
+ * configuration of that count, letters after a count only include the named configurations, and a
+ * minus sign before the letters excludes them instead.
+ *
+ * @author Owen Jennings
+ */
+public class LifeRuleTable {
+
+  public static final int NEIGHBORHOOD_SIZE = 512;
+  public static final int CENTER_BIT = 1 << 4;
+  private static final int MAX_NEIGHBORS = 8;
+  private static final int ALL_NEIGHBORS = (NEIGHBORHOOD_SIZE - 1) & ~CENTER_BIT;
+  // Hensel letters and a representative neighborhood for each letter, for 0 to 4 alive neighbors.
+  // Counts 5 to 8 use the complements of the neighborhoods for 3 to 0 with the same letters.
+  private static final String[] LETTERS = {"", "ce", "ceaikn", "ceaiknjqry", "ceaiknjqrytwz"};
+  private static final int[][] REPRESENTATIVES = {
+      {},
+      {1, 2},
+      {5, 10, 3, 40, 33, 68},
+      {69, 42, 11, 7, 98, 13, 14, 70, 41, 97},
+      {325, 170, 15, 45, 99, 71, 106, 102, 43, 101, 105, 78, 108}
+  };
+  private final byte[] myNextStates = new byte[NEIGHBORHOOD_SIZE];
+  private final boolean isTotalistic;
+  private final int myBirthMask;
+  private final int mySurviveMask;
+
+  /**
+   * Compile a rule string of the form B{birth}/S{survive} into a lookup table. Either list of
+   * conditions may be empty, as in Seeds (B2/S), but not both.
+   *
+   * @param ruleString The rule string to compile
+   * @throws InvalidParameterException If the rule string is malformed
+   */
+  public LifeRuleTable(String ruleString) throws InvalidParameterException {
+    String[] parts = ruleString.split("/");
+    if (parts.length != 2 || !parts[0].startsWith("B") || !parts[1].startsWith("S")
+        || (parts[0].length() == 1 && parts[1].length() == 1)) {
+      SimulationRules.throwInvalidParameterException(RULE_STRING);
+    }
+    boolean[] birth = parseConditions(parts[0].substring(1));
+    boolean[] survive = parseConditions(parts[1].substring(1));
+    for (int neighborhood = 0; neighborhood < NEIGHBORHOOD_SIZE; neighborhood++) {
+      boolean[] conditions = (neighborhood & CENTER_BIT) == 0 ? birth : survive;
+      myNextStates[neighborhood] = (byte) (conditions[neighborhood & ALL_NEIGHBORS] ? 1 : 0);
+    }
+    isTotalistic = checkTotalistic();
+    myBirthMask = getCountMask(0);
+    mySurviveMask = getCountMask(CENTER_BIT);
+  }
+
+  /**
+   * Get the next state of the center cell of a neighborhood.
+   *
+   * @param neighborhood The 9 bit neighborhood index
+   * @return 1 if the center cell is alive in the next generation, 0 otherwise
+   */
+  public int getNextState(int neighborhood) {
+    return myNextStates[neighborhood];
+  }
+
+  /**
+   * Get whether the next state only depends on the number of alive neighbors.
+   *
+   * @return true if the rule string is totalistic
+   */
+  public boolean isTotalistic() {
+    return isTotalistic;
+  }
+
+  /**
+   * Get the neighbor counts that give birth to a dead cell as a bit mask, where bit n is set if a
+   * dead cell with n alive neighbors becomes alive. Only meaningful for totalistic rules.
+   *
+   * @return The bit mask of birth neighbor counts
+   */
+  public int getBirthMask() {
+    return myBirthMask;
+  }
+
+  /**
+   * Get the neighbor counts that keep an alive cell alive as a bit mask, where bit n is set if an
+   * alive cell with n alive neighbors stays alive. Only meaningful for totalistic rules.
+   *
+   * @return The bit mask of survive neighbor counts
+   */
+  public int getSurviveMask() {
+    return mySurviveMask;
+  }
+
+  private static boolean[] parseConditions(String conditions) throws InvalidParameterException {
+    boolean[] matches = new boolean[NEIGHBORHOOD_SIZE];
+    int index = 0;
+    while (index < conditions.length()) {
+      char count = conditions.charAt(index++);
+      boolean excludeLetters = index < conditions.length() && conditions.charAt(index) == '-';
+      if (excludeLetters) {
+        index++;
+      }
+      int lettersStart = index;
+      while (index < conditions.length() && Character.isLowerCase(conditions.charAt(index))) {
+        index++;
+      }
+      addCondition(Character.getNumericValue(count), conditions.substring(lettersStart, index),
+          excludeLetters, matches, Character.isDigit(count));
+    }
+    return matches;
+  }
+
+  private static void addCondition(int count, String letters, boolean excludeLetters,
+      boolean[] matches, boolean isDigit) throws InvalidParameterException {
+    if (!isDigit || (excludeLetters && letters.isEmpty())) {
+      SimulationRules.throwInvalidParameterException(RULE_STRING);
+    }
+    if (count > MAX_NEIGHBORS) {
+      if (!letters.isEmpty()) {
+        SimulationRules.throwInvalidParameterException(RULE_STRING);
+      }
+      return; // a count that can never occur matches no neighborhoods
+    }
+    boolean[] named = new boolean[NEIGHBORHOOD_SIZE];
+    for (char letter : letters.toCharArray()) {
+      addLetterNeighborhoods(count, letter, named);
+    }
+    for (int neighborhood = 0; neighborhood <= ALL_NEIGHBORS; neighborhood++) {
+      if ((neighborhood & CENTER_BIT) == 0 && Integer.bitCount(neighborhood) == count) {
+        matches[neighborhood] |= letters.isEmpty() || (named[neighborhood] != excludeLetters);
+      }
+    }
+  }
+
+  private static void addLetterNeighborhoods(int count, char letter, boolean[] named)
+      throws InvalidParameterException {
+    int baseCount = Math.min(count, MAX_NEIGHBORS - count);
+    int letterIndex = LETTERS[baseCount].indexOf(letter);
+    if (letterIndex < 0) {
+      SimulationRules.throwInvalidParameterException(RULE_STRING);
+    }
+    int representative = REPRESENTATIVES[baseCount][letterIndex];
+    if (count != baseCount) {
+      representative = ~representative & ALL_NEIGHBORS;
+    }
+    for (int transform = 0; transform < 8; transform++) {
+      named[transformNeighborhood(representative, transform)] = true;
+    }
+  }
+
+  // Apply one of the 8 rotations and reflections of the square to a neighborhood
+  private static int transformNeighborhood(int neighborhood, int transform) {
+    int result = 0;
+    for (int bit = 0; bit < 9; bit++) {
+      if ((neighborhood & (1 << bit)) != 0) {
+        int row = bit / 3;
+        int col = bit % 3;
+        for (int i = 0; i < transform % 4; i++) {
+          int rotatedRow = col;
+          col = 2 - row;
+          row = rotatedRow;
+        }
+        if (transform >= 4) {
+          col = 2 - col;
+        }
+        result |= 1 << (3 * row + col);
+      }
+    }
+    return result;
+  }
+
+  private boolean checkTotalistic() {
+    int[] firstNextStates = new int[2 * (MAX_NEIGHBORS + 1)];
+    Arrays.fill(firstNextStates, -1);
+    for (int neighborhood = 0; neighborhood < NEIGHBORHOOD_SIZE; neighborhood++) {
+      int key = Integer.bitCount(neighborhood & ALL_NEIGHBORS)
+          + ((neighborhood & CENTER_BIT) == 0 ? 0 : MAX_NEIGHBORS + 1);
+      if (firstNextStates[key] == -1) {
+        firstNextStates[key] = myNextStates[neighborhood];
+      } else if (firstNextStates[key] != myNextStates[neighborhood]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int getCountMask(int center) {
+    int mask = 0;
+    for (int neighborhood = 0; neighborhood < NEIGHBORHOOD_SIZE; neighborhood++) {
+      if ((neighborhood & CENTER_BIT) == center && myNextStates[neighborhood] == 1) {
+        mask |= 1 << Integer.bitCount(neighborhood & ALL_NEIGHBORS);
+      }
+    }
+    return mask;
+  }
+}
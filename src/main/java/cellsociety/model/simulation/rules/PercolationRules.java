@@ -70,6 +70,26 @@ public class PercolationRules extends SimulationRules {
     return openState;
   }
 
+  /**
+   * Percolation can be stepped from a frontier of changed cells.
+   *
+   * @return true, since the next state of a cell only depends on its position and neighbors
+   */
+  @Override
+  public boolean supportsFrontierUpdate() {
+    return true;
+  }
+
+  /**
+   * Percolation can be evaluated in parallel stripes of rows.
+   *
+   * @return true, since getNextState only reads the grid while finding next states
+   */
+  @Override
+  public boolean supportsParallelUpdate() {
+    return true;
+  }
+
   /**
    * Gets the total number of states.
    *
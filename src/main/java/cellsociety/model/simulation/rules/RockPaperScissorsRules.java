@@ -102,6 +102,26 @@ public class RockPaperScissorsRules extends SimulationRules {
     return checkForWinner(myNumStates, currentState, neighborCount, neighborThreshold);
   }
 
+  /**
+   * Rock Paper Scissors can be stepped from a frontier of changed cells.
+   *
+   * @return true, since the next state of a cell only depends on its neighbors
+   */
+  @Override
+  public boolean supportsFrontierUpdate() {
+    return true;
+  }
+
+  /**
+   * Rock Paper Scissors can be evaluated in parallel stripes of rows.
+   *
+   * @return true, since getNextState only reads the grid while finding next states
+   */
+  @Override
+  public boolean supportsParallelUpdate() {
+    return true;
+  }
+
   /**
    * gets the total number of states.
    *
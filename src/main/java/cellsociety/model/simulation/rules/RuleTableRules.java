@@ -0,0 +1,132 @@
+package cellsociety.model.simulation.rules;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.Cell;
+import cellsociety.model.simulation.GetNeighbors;
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.Parameter;
+import cellsociety.model.simulation.SimulationRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A rules class for any cellular automaton described by a Golly rule table (.table), rule tree
+ * (.tree) or .rule file, such as Langton's Loops, Evoloops, Byl's Loop or Chou-Reggia loops. The
+ * file is compiled into a lookup table when the rules are created, so a step only reads the
+ * neighbor states by offset and indexes that table.
+ * <p>
+ * The neighborhood is taken from the rule file rather than from the simulation's neighbor
+ * configuration, and cells outside of the grid count as state 0.
+ *
+ * @author Owen Jennings
+ */
+public class RuleTableRules extends SimulationRules {
+
+  public static final String RULE_FILE = "ruleFile";
+  public static final String RULE_TABLES_RESOURCE_PATH = "/simulations/Rule Tables/";
+  private final GollyRuleTable myRuleTable;
+  private final int[][] myOffsets;
+
+  /**
+   * The default constructor of a rule table rules.
+   *
+   * @param parameters     The required parameters map. The ruleFile parameter is the name of a rule
+   *                       file in the Rule Tables simulations folder of the classpath.
+   * @param myGetNeighbors The neighbor policy to use, which is ignored in favor of the rule file's
+   *                       neighborhood
+   * @throws InvalidParameterException This is thrown if the rule file is missing or invalid
+   */
+  public RuleTableRules(Map<String, Parameter<?>> parameters, GetNeighbors myGetNeighbors)
+      throws InvalidParameterException {
+    super(parameters, myGetNeighbors);
+    if (parameters == null || parameters.isEmpty()) {
+      throwInvalidParameterException(RULE_FILE);
+    }
+    checkMissingParameterAndThrowException(RULE_FILE);
+    String ruleFile = getParameters().get(RULE_FILE).getString();
+    myRuleTable = GollyRuleTable.loadResource(RULE_TABLES_RESOURCE_PATH + ruleFile);
+    myOffsets = myRuleTable.getNeighborhood().getOffsets();
+  }
+
+  /**
+   * Get a list of all required parameters for a simulation.
+   *
+   * @return A list of strings representing the required parameter keys for this simulation
+   */
+  public static List<String> getRequiredParameters() {
+    return List.of(RULE_FILE);
+  }
+
+  /**
+   * Get the next state from the compiled rule table.
+   *
+   * @param cell The cell you are trying to find the next state for.
+   * @param grid The grid that the cell is a part of
+   * @return The next state of the cell, or its current state if no transition matches
+   */
+  @Override
+  public int getNextState(Cell cell, Grid grid) {
+    int state = cell.getState();
+    int numStates = myRuleTable.getNumberStates();
+    if (state < 0 || state >= numStates) {
+      return state;
+    }
+    int index = state;
+    for (int[] offset : myOffsets) {
+      int neighborState = Math.max(
+          grid.getState(cell.getRow() + offset[0], cell.getCol() + offset[1]), 0);
+      if (neighborState >= numStates) {
+        return state;
+      }
+      index = index * numStates + neighborState;
+    }
+    return myRuleTable.getNextState(index, state);
+  }
+
+  /**
+   * A rule table can be stepped from a frontier of changed cells.
+   *
+   * @return true, since the next state of a cell only depends on the cells at its neighborhood
+   * offsets
+   */
+  @Override
+  public boolean supportsFrontierUpdate() {
+    return true;
+  }
+
+  /**
+   * A rule table can be evaluated in parallel stripes of rows.
+   *
+   * @return true, since the compiled rule table is only read while finding next states
+   */
+  @Override
+  public boolean supportsParallelUpdate() {
+    return true;
+  }
+
+  /**
+   * Get the cells that read the provided cell as one of their neighbors in the rule file's
+   * neighborhood.
+   *
+   * @param cell The cell that changed
+   * @param grid The grid that the cell is a part of
+   * @return The cells that should be evaluated again when the provided cell changes
+   */
+  @Override
+  public List<Cell> getDependentCells(Cell cell, Grid grid) {
+    List<Cell> dependents = new ArrayList<>();
+    for (int[] offset : myOffsets) {
+      Cell dependent = grid.getCell(cell.getRow() - offset[0], cell.getCol() - offset[1]);
+      if (dependent != null) {
+        dependents.add(dependent);
+      }
+    }
+    return dependents;
+  }
+
+  @Override
+  public int getNumberStates() {
+    return myRuleTable.getNumberStates();
+  }
+}
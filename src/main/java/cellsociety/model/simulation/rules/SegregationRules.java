@@ -10,10 +10,9 @@ import cellsociety.model.simulation.Parameter;
 import cellsociety.model.simulation.SimulationRules;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * The implementation of Schelling's Model of Segregation simulation.
@@ -32,7 +31,6 @@ public class SegregationRules extends SimulationRules {
   private static final int toleranceMinChecker = 0;
   private static final int toleranceMaxChecker = 1;
   public static final String TOLERANCE_THRESHOLD = "toleranceThreshold";
-  private static final Random RANDOM = new Random();
   private final double myToleranceThreshold;
 
   /**
@@ -140,35 +138,71 @@ public class SegregationRules extends SimulationRules {
    */
   @Override
   public List<CellUpdate> getNextStatesForAllCells(Grid grid) {
+    int[] evaluatedStates = new int[grid.getRows() * grid.getCols()];
+    writeNextStates(grid, evaluatedStates);
+    return getNextStatesFromEvaluatedStates(grid, evaluatedStates);
+  }
+
+  /**
+   * Keeps every satisfied cell in place and moves every unsatisfied cell (evaluated as -1) to a
+   * random empty location, if one is available.
+   *
+   * @param grid            The grid that you wish to get the next states for
+   * @param evaluatedStates The row-major result of getNextState for every cell
+   * @return - A list of updates that will occur for the grid
+   */
+  @Override
+  public List<CellUpdate> getNextStatesFromEvaluatedStates(Grid grid, int[] evaluatedStates) {
+    SplittableRandom random = getStepRandom();
     List<CellUpdate> nextStates = new ArrayList<>();
     List<Cell> emptyCells = new ArrayList<>();
     getEmptyCells(grid, emptyCells);
 
     List<Cell> unsatisfiedCells = new ArrayList<>();
 
-    Iterator<Cell> cellIterator = grid.getCellIterator();
-    while (cellIterator.hasNext()) {
-      Cell cell = cellIterator.next();
-      int nextState = getNextState(cell, grid);
-
-      if (nextState == -1) {
-        unsatisfiedCells.add(cell);
-      } else {
-        Cell newCell = new DefaultCell(nextState, cell.getLocation());
-        nextStates.add(new CellUpdate(cell.getLocation(), newCell));
+    int numCols = grid.getCols();
+    for (int row = 0; row < grid.getRows(); row++) {
+      for (int col = 0; col < numCols; col++) {
+        Cell cell = grid.getCell(row, col);
+        if (cell == null) {
+          continue;
+        }
+        int nextState = evaluatedStates[row * numCols + col];
+        if (nextState == -1) {
+          unsatisfiedCells.add(cell);
+        } else {
+          Cell newCell = new DefaultCell(nextState, cell.getLocation());
+          nextStates.add(new CellUpdate(cell.getLocation(), newCell));
+        }
       }
     }
 
     for (Cell unsatisfiedCell : unsatisfiedCells) {
-      moveCellToEmptyLocationIfAvailable(unsatisfiedCell, emptyCells, nextStates);
+      moveCellToEmptyLocationIfAvailable(unsatisfiedCell, emptyCells, nextStates, random);
     }
     return nextStates;
   }
 
+  /**
+   * The evaluation phase of segregation can be run in parallel stripes of rows, while moving the
+   * unsatisfied cells still happens in a single pass.
+   *
+   * @return true, since getNextState only reads the grid
+   */
+  @Override
+  public boolean supportsParallelUpdate() {
+    return true;
+  }
+
   void moveCellToEmptyLocationIfAvailable(Cell unsatisfiedCell, List<Cell> emptyCells,
       List<CellUpdate> nextStates) {
+    moveCellToEmptyLocationIfAvailable(unsatisfiedCell, emptyCells, nextStates, getStepRandom());
+  }
+
+  private void moveCellToEmptyLocationIfAvailable(Cell unsatisfiedCell, List<Cell> emptyCells,
+      List<CellUpdate> nextStates, SplittableRandom random) {
     if (!emptyCells.isEmpty()) {
-      Cell newCellHome = getAndRemoveRandomEmptyCell(emptyCells);
+      Cell newCellHome = getAndRemoveRandomEmptyCell(emptyCells, random);
       Cell unsatisfiedCellWithUpdatedLocation = new DefaultCell(unsatisfiedCell.getState(),
           newCellHome.getLocation());
       nextStates.add(new CellUpdate(newCellHome.getLocation(), unsatisfiedCellWithUpdatedLocation));
@@ -202,6 +236,11 @@ public class SegregationRules extends SimulationRules {
   }
 
   Cell getAndRemoveRandomEmptyCell(List<Cell> emptyCells) {
-    return emptyCells.remove(RANDOM.nextInt(emptyCells.size()));
+    return getAndRemoveRandomEmptyCell(emptyCells, getStepRandom());
+  }
+
+  private static Cell getAndRemoveRandomEmptyCell(List<Cell> emptyCells,
+      SplittableRandom random) {
+    return emptyCells.remove(random.nextInt(emptyCells.size()));
   }
 }
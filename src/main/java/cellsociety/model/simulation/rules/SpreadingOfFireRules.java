@@ -3,7 +3,6 @@ package cellsociety.model.simulation.rules;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 
 import cellsociety.model.Grid;
 import cellsociety.model.cell.Cell;
@@ -36,7 +35,6 @@ public class SpreadingOfFireRules extends SimulationRules {
 
   public static final String GROW_IN_EMPTY_CELL = "growInEmptyCell";
   public static final String IGNITION_WITHOUT_NEIGHBORS = "ignitionWithoutNeighbors";
-  private final Random random = new Random();
   private final double myGrowthInEmptyCell;
   private final double myIgnitionWithoutNeighbors;
 
@@ -98,12 +96,12 @@ public class SpreadingOfFireRules extends SimulationRules {
       return emptyState;
     }
     if (currentState == emptyState) { // grow tree randomly
-      return growTreeRandomly();
+      return growTreeRandomly(cell, grid);
     }
     if (treeNeighborIsBurning(cell, grid)) { // burn if neighbor is burning
       return fireState;
     }
-    return randomIgnitionOfTreeCell(currentState); // randomly ignite if tree
+    return randomIgnitionOfTreeCell(cell, grid, currentState); // randomly ignite if tree
   }
 
   private boolean treeNeighborIsBurning(Cell cell, Grid grid) {
@@ -116,24 +114,36 @@ public class SpreadingOfFireRules extends SimulationRules {
     return false;
   }
 
-  private int randomIgnitionOfTreeCell(int currentState) {
-    if (shouldIgnite(currentState)) {
+  private int randomIgnitionOfTreeCell(Cell cell, Grid grid, int currentState) {
+    if (shouldIgnite(cell, grid, currentState)) {
       return fireState;
     }
     return currentState;
   }
 
-  private boolean shouldIgnite(int currentState) {
-    return currentState == 1 && (random.nextDouble() < myIgnitionWithoutNeighbors);
+  private boolean shouldIgnite(Cell cell, Grid grid, int currentState) {
+    return currentState == 1
+        && (getCellRandom(cell, grid).nextDouble() < myIgnitionWithoutNeighbors);
   }
 
-  private int growTreeRandomly() {
-    if (random.nextDouble() < myGrowthInEmptyCell) {
+  private int growTreeRandomly(Cell cell, Grid grid) {
+    if (getCellRandom(cell, grid).nextDouble() < myGrowthInEmptyCell) {
       return treeState;
     }
     return emptyState;
   }
 
+  /**
+   * Spreading of Fire can be evaluated in parallel stripes of rows.
+   *
+   * @return true, since getNextState only reads the grid and draws from the random stream of the
+   * cell being evaluated
+   */
+  @Override
+  public boolean supportsParallelUpdate() {
+    return true;
+  }
+
   /**
    * gets the total number of states.
    *
@@ -11,7 +11,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import cellsociety.model.Grid;
 import cellsociety.model.cell.Cell;
@@ -31,7 +31,6 @@ public class WaTorWorldRules extends SimulationRules {
   public static final String SHARK_ENERGY_GAIN = "sharkEnergyGain";
   public static final String SHARK_REPRODUCTION_TIME = "sharkReproductionTime";
   public static final String FISH_REPRODUCTION_TIME = "fishReproductionTime";
-  private final Random random = new Random();
   private final int mySharkEnergyGain;
   private final int mySharkReproductionTime;
   private final int myFishReproductionTime;
@@ -120,6 +119,7 @@ public class WaTorWorldRules extends SimulationRules {
   // I asked ChatGPT for assistance with implementing the state transitions in this method
   @Override
   public List<CellUpdate> getNextStatesForAllCells(Grid grid) {
+    SplittableRandom random = getStepRandom();
     List<CellUpdate> nextStates = new ArrayList<>();
     Set<Point2D> updatedCells = new HashSet<>();
 
@@ -139,18 +139,18 @@ public class WaTorWorldRules extends SimulationRules {
 
     //process sharks first
     for (Cell shark : sharkCells) {
-      processSharkMovement(shark, grid, nextStates, updatedCells, fishCells);
+      processSharkMovement(shark, grid, nextStates, updatedCells, fishCells, random);
     }
 
     for (Cell fish : fishCells) {
-      processFishMovement(fish, grid, nextStates, updatedCells);
+      processFishMovement(fish, grid, nextStates, updatedCells, random);
     }
 
     return nextStates;
   }
 
   private void processSharkMovement(Cell cell, Grid grid, List<CellUpdate> nextStates,
-      Set<Point2D> updatedCells, List<Cell> fishCells) {
+      Set<Point2D> updatedCells, List<Cell> fishCells, SplittableRandom random) {
     WaTorWorldCell shark = (WaTorWorldCell) cell;
     int health = shark.getHealth() - 1; // decrease health by 1
 
@@ -176,12 +176,13 @@ public class WaTorWorldRules extends SimulationRules {
       }
     }
 
-    moveSharkToNewLocation(grid, nextStates, updatedCells, shark, health, shouldReproduce);
+    moveSharkToNewLocation(grid, nextStates, updatedCells, shark, health, shouldReproduce,
+        random);
   }
 
   private void moveSharkToNewLocation(Grid grid, List<CellUpdate> nextStates,
       Set<Point2D> updatedCells,
-      WaTorWorldCell shark, int health, boolean shouldReproduce) {
+      WaTorWorldCell shark, int health, boolean shouldReproduce, SplittableRandom random) {
     List<Cell> emptyNeighbors = getNeighborsByState(shark, grid, State.EMPTY.getValue());
     if (!emptyNeighbors.isEmpty()) {
       Cell newLocation = emptyNeighbors.get(random.nextInt(emptyNeighbors.size()));
@@ -224,7 +225,7 @@ public class WaTorWorldRules extends SimulationRules {
   }
 
   private void processFishMovement(Cell cell, Grid grid, List<CellUpdate> nextStates,
-      Set<Point2D> updatedCells) {
+      Set<Point2D> updatedCells, SplittableRandom random) {
     WaTorWorldCell fish = (WaTorWorldCell) cell;
     List<Cell> emptyNeighbors = getNeighborsByState(fish, grid, State.EMPTY.getValue());
 
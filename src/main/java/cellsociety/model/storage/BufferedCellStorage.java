@@ -0,0 +1,34 @@
+package cellsociety.model.storage;
+
+/**
+ * A cell storage that keeps its states in a front and back buffer, so that the next states of a
+ * grid can be written into the back buffer and then made current by swapping the buffers.
+ *
+ * @author Owen Jennings
+ */
+public interface BufferedCellStorage extends CellStorage {
+
+  /**
+   * Get the back buffer of this storage. The buffer is row-major, so the state for a location is at
+   * index row * numCols + col. Writers should store -1 for locations that do not hold a cell.
+   *
+   * @return The back buffer that the next states should be written into
+   */
+  int[] getBackBuffer();
+
+  /**
+   * Swap the front and back buffers, making the states written into the back buffer current. After
+   * the swap, the back buffer holds the states from before the swap until it is written to again,
+   * and the cells returned by the storage hold the current states.
+   */
+  void swapBuffers();
+
+  /**
+   * Get the state a location held before the most recent swap of the buffers.
+   *
+   * @param row Row of cell
+   * @param col Column of cell
+   * @return The state of the cell before the most recent swap, or -1 if no cell was stored there
+   */
+  int getPreviousState(int row, int col);
+}
@@ -0,0 +1,56 @@
+package cellsociety.model.storage;
+
+import cellsociety.model.cell.Cell;
+import java.util.List;
+
+/**
+ * Defines how the cells of a grid are stored. A cell storage is only ever queried with row and
+ * column values that have already been adjusted by the grid's edge strategy and checked to be
+ * within the bounds of the grid.
+ *
+ * @author Owen Jennings
+ */
+public interface CellStorage {
+
+  /**
+   * Get the cell stored at the specified location.
+   *
+   * @param row Row of cell
+   * @param col Column of cell
+   * @return The cell at the specified location, or null if no cell is stored there
+   */
+  Cell get(int row, int col);
+
+  /**
+   * Get the state of the cell stored at the specified location.
+   *
+   * @param row Row of cell
+   * @param col Column of cell
+   * @return The state of the cell at the specified location, or -1 if no cell is stored there
+   */
+  int getState(int row, int col);
+
+  /**
+   * Check if a cell is stored at the specified location.
+   *
+   * @param row Row of cell
+   * @param col Column of cell
+   * @return true if a cell is stored at the location, false otherwise
+   */
+  boolean contains(int row, int col);
+
+  /**
+   * Store a cell at its location, replacing any cell that was previously stored there.
+   *
+   * @param cell The cell you wish to store
+   */
+  void put(Cell cell);
+
+  /**
+   * Get a copy of all the cells that are currently stored. Mutating the returned list will not
+   * mutate the storage.
+   *
+   * @return A list of all stored cells
+   */
+  List<Cell> getCells();
+}
@@ -0,0 +1,45 @@
+package cellsociety.model.storage;
+
+/**
+ * A factory to create a cell storage object.
+ *
+ * @author Owen Jennings
+ */
+public class CellStorageFactory {
+
+  /**
+   * This enum stores all the supported cell storage types.
+   */
+  public enum CellStorageType {
+    MAP("Map"),
+    DENSE("Dense");
+
+    private final String displayName;
+
+    CellStorageType(String displayName) {
+      this.displayName = displayName;
+    }
+
+    // Override toString() to return display name
+    @Override
+    public String toString() {
+      return displayName;
+    }
+  }
+
+  /**
+   * Create a cell storage of the provided type for a grid of the provided size.
+   *
+   * @param cellStorageType The cell storage type you want to create
+   * @param numRows         number of rows in the grid
+   * @param numCols         number of columns in the grid
+   * @return A CellStorage object for the specified type
+   */
+  public static CellStorage createCellStorage(CellStorageType cellStorageType, int numRows,
+      int numCols) {
+    return switch (cellStorageType) {
+      case MAP -> new MapCellStorage();
+      case DENSE -> new DenseCellStorage(numRows, numCols);
+    };
+  }
+}
@@ -0,0 +1,81 @@
+package cellsociety.model.storage;
+
+import cellsociety.model.cell.CellUpdate;
+import cellsociety.model.cell.DefaultCell;
+import java.awt.geom.Point2D;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * The cell updates of a step that was written into a buffered storage, held as the row-major
+ * indices and new states of the changed cells. A cell update is only created when an element is
+ * read, so a step whose updates are only counted allocates no cells.
+ * <p>
+ * Cells changed through the state plane are stored as default cells, so every update holds a new
+ * default cell of its state. The list cannot be changed.
+ *
+ * @author Owen Jennings
+ */
+public class ChangedCellList extends AbstractList<CellUpdate> implements RandomAccess {
+
+  private final int myNumCols;
+  private final int[] myIndices;
+  private final int[] myStates;
+
+  /**
+   * Create a list of the changed cells of a grid.
+   *
+   * @param numCols    The number of columns of the grid
+   * @param indices    The row-major indices of the changed cells, of which the first numChanged
+   *                   are used
+   * @param states     The new states of the changed cells, in the same order as the indices
+   * @param numChanged The number of changed cells
+   */
+  public ChangedCellList(int numCols, int[] indices, int[] states, int numChanged) {
+    myNumCols = numCols;
+    myIndices = Arrays.copyOf(indices, numChanged);
+    myStates = Arrays.copyOf(states, numChanged);
+  }
+
+  @Override
+  public CellUpdate get(int index) {
+    Point2D location = new Point2D.Double(getRow(index), getCol(index));
+    return new CellUpdate(location, new DefaultCell(myStates[index], location));
+  }
+
+  @Override
+  public int size() {
+    return myIndices.length;
+  }
+
+  /**
+   * Get the row of a changed cell without creating its update.
+   *
+   * @param index The position of the change in this list
+   * @return The row of the changed cell
+   */
+  public int getRow(int index) {
+    return myIndices[index] / myNumCols;
+  }
+
+  /**
+   * Get the column of a changed cell without creating its update.
+   *
+   * @param index The position of the change in this list
+   * @return The column of the changed cell
+   */
+  public int getCol(int index) {
+    return myIndices[index] % myNumCols;
+  }
+
+  /**
+   * Get the new state of a changed cell without creating its update.
+   *
+   * @param index The position of the change in this list
+   * @return The state of the cell after the step
+   */
+  public int getState(int index) {
+    return myStates[index];
+  }
+}
@@ -0,0 +1,108 @@
+package cellsociety.model.storage;
+
+import cellsociety.model.cell.Cell;
+import cellsociety.model.cell.DefaultCell;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A cell storage that keeps cells in row-major arrays. Along with the cell objects, a primitive
+ * state plane is maintained so that state lookups do not need to dereference a cell, and no lookup
+ * allocates.
+ * <p>
+ * The state plane is double-buffered. When the buffers are swapped, every stored cell whose state
+ * no longer matches the state plane is replaced with a default cell holding its new state, so the
+ * stored cells always match the state plane and reading a cell never writes to the storage. Several
+ * threads can therefore read the storage at once while no cell is being stored.
+ *
+ * @author Owen Jennings
+ */
+public class DenseCellStorage implements BufferedCellStorage {
+
+  private static final int EMPTY_STATE = -1;
+  private final int myNumCols;
+  private final Cell[] myCells;
+  private int[] myStates;
+  private int[] myBackStates;
+  private int myNumCells;
+
+  /**
+   * Create a dense storage for a grid of the provided size.
+   *
+   * @param numRows number of rows in the grid
+   * @param numCols number of columns in the grid
+   */
+  public DenseCellStorage(int numRows, int numCols) {
+    myNumCols = numCols;
+    myCells = new Cell[numRows * numCols];
+    myStates = new int[numRows * numCols];
+    myBackStates = new int[numRows * numCols];
+    Arrays.fill(myStates, EMPTY_STATE);
+    Arrays.fill(myBackStates, EMPTY_STATE);
+  }
+
+  @Override
+  public Cell get(int row, int col) {
+    return myCells[index(row, col)];
+  }
+
+  @Override
+  public int getState(int row, int col) {
+    return myStates[index(row, col)];
+  }
+
+  @Override
+  public boolean contains(int row, int col) {
+    return myCells[index(row, col)] != null;
+  }
+
+  @Override
+  public void put(Cell cell) {
+    int index = index(cell.getRow(), cell.getCol());
+    if (myCells[index] == null) {
+      myNumCells++;
+    }
+    myCells[index] = cell;
+    myStates[index] = cell.getState();
+  }
+
+  @Override
+  public List<Cell> getCells() {
+    List<Cell> cells = new ArrayList<>(myNumCells);
+    for (int i = 0; i < myCells.length; i++) {
+      if (myCells[i] != null) {
+        cells.add(myCells[i]);
+      }
+    }
+    return cells;
+  }
+
+  @Override
+  public int[] getBackBuffer() {
+    return myBackStates;
+  }
+
+  // the pass that refreshes changed cells is sequential and only allocates for changed cells
+  @Override
+  public void swapBuffers() {
+    int[] previousStates = myStates;
+    myStates = myBackStates;
+    myBackStates = previousStates;
+    for (int index = 0; index < myCells.length; index++) {
+      Cell cell = myCells[index];
+      if (cell != null && myStates[index] != previousStates[index]) {
+        myCells[index] = new DefaultCell(myStates[index], cell.getLocation());
+      }
+    }
+  }
+
+  @Override
+  public int getPreviousState(int row, int col) {
+    return myBackStates[index(row, col)];
+  }
+
+  private int index(int row, int col) {
+    return row * myNumCols + col;
+  }
+}
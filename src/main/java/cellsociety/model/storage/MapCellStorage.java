@@ -0,0 +1,47 @@
+package cellsociety.model.storage;
+
+import cellsociety.model.cell.Cell;
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A cell storage that keeps every cell in a map keyed by its location.
+ *
+ * @author Owen Jennings
+ */
+public class MapCellStorage implements CellStorage {
+
+  private final Map<Point2D, Cell> myCells = new HashMap<>();
+
+  @Override
+  public Cell get(int row, int col) {
+    return myCells.get(new Point2D.Double(row, col));
+  }
+
+  @Override
+  public int getState(int row, int col) {
+    Cell cell = get(row, col);
+    if (cell == null) {
+      return -1;
+    }
+    return cell.getState();
+  }
+
+  @Override
+  public boolean contains(int row, int col) {
+    return myCells.containsKey(new Point2D.Double(row, col));
+  }
+
+  @Override
+  public void put(Cell cell) {
+    myCells.put(cell.getLocation(), cell);
+  }
+
+  @Override
+  public List<Cell> getCells() {
+    return new ArrayList<>(myCells.values());
+  }
+}
@@ -2,10 +2,12 @@ package cellsociety.model.xml;
 
 import static cellsociety.config.MainConfig.DEFAULT_CELL_SHAPE;
 import static cellsociety.config.MainConfig.DEFAULT_EDGE_STRATEGY;
+import static cellsociety.config.MainConfig.DEFAULT_STORAGE_TYPE;
 
 import cellsociety.model.edge.EdgeStrategyFactory;
 import cellsociety.model.edge.EdgeStrategyFactory.EdgeStrategyType;
 import cellsociety.model.simulation.SimulationCreationException;
+import cellsociety.model.storage.CellStorageFactory.CellStorageType;
 import cellsociety.utility.CreateGridUtility;
 import cellsociety.view.grid.GridViewFactory.CellShapeType;
 import java.io.File;
@@ -41,6 +43,7 @@ public class XMLHandler {
 
   public static final String EDGE_TYPE = "EdgeType";
   public static final String CELL_TYPE = "CellType";
+  public static final String STORAGE_TYPE = "StorageType";
   private static int myGridHeight;
   private static int myGridWidth;
   private static Grid myGrid;
@@ -49,6 +52,7 @@ public class XMLHandler {
   private static Map<String, Parameter<?>> myParameters;
   private static CellShapeType myCellShapeType;
   private static EdgeStrategyType myEdgeStrategyType;
+  private static CellStorageType myStorageType;
 
   /**
    * XMLHandler constructor for referencing data
@@ -100,6 +104,7 @@ public class XMLHandler {
     String description = getElement(data, "Description", true).getTextContent();
     parseCellTypeIfPresent(data);
     parseEdgeTypeIfPresent(data);
+    parseStorageTypeIfPresent(data);
     Element neighborsElement = getElement(data, "Neighbors", true);
     String neighborType = getElement(data, "NeighborType", true).getTextContent();
     int layers = Integer.parseInt(
@@ -154,6 +159,29 @@ public class XMLHandler {
     }
   }
 
+  private static void parseStorageTypeIfPresent(Document data) {
+    try {
+      attemptSettingStorageType(data);
+    } catch (IllegalArgumentException |
+             DOMException |
+             InvalidStateException e) { // fallback to default storage type if field is missing
+      myStorageType = DEFAULT_STORAGE_TYPE;
+    }
+  }
+
+  private static void attemptSettingStorageType(Document data) throws InvalidStateException {
+    if (getElement(data, STORAGE_TYPE, false) == null) {
+      myStorageType = DEFAULT_STORAGE_TYPE;
+      return;
+    }
+    String storageType = getElement(data, STORAGE_TYPE, false).getTextContent();
+    if (storageType == null) {
+      myStorageType = DEFAULT_STORAGE_TYPE;
+    } else {
+      myStorageType = CellStorageType.valueOf(storageType.toUpperCase());
+    }
+  }
+
 
   /**
    * Helper method to parse grid dimensions from document
@@ -176,13 +204,15 @@ public class XMLHandler {
   private static void parseGrid(Document gridDoc) throws GridException, InvalidStateException {
     if (isRandomInitByState(gridDoc)) {
       myGrid = CreateGridUtility.generateRandomGridFromStateNumber(gridDoc, myGridHeight,
-          myGridWidth, EdgeStrategyFactory.createEdgeStrategy(myEdgeStrategyType), mySim);
+          myGridWidth, EdgeStrategyFactory.createEdgeStrategy(myEdgeStrategyType), mySim,
+          myStorageType);
     } else if (isRandomInitByProb(gridDoc)) {
       myGrid = CreateGridUtility.generateRandomGridFromDistribution(gridDoc, myGridHeight,
-          myGridWidth, EdgeStrategyFactory.createEdgeStrategy(myEdgeStrategyType), mySim);
+          myGridWidth, EdgeStrategyFactory.createEdgeStrategy(myEdgeStrategyType), mySim,
+          myStorageType);
     } else {
       myGrid = CreateGridUtility.generateGrid(gridDoc, myGridHeight, myGridWidth, mySim,
-          EdgeStrategyFactory.createEdgeStrategy(myEdgeStrategyType));
+          EdgeStrategyFactory.createEdgeStrategy(myEdgeStrategyType), myStorageType);
     }
   }
 
@@ -308,6 +338,15 @@ public class XMLHandler {
     return myEdgeStrategyType;
   }
 
+  /**
+   * Returns the current simulation's grid storage type.
+   *
+   * @return CellStorageType from the file or the default storage type if not found in the file
+   */
+  public CellStorageType getStorageType() {
+    return myStorageType;
+  }
+
   private static Element getElement(Element parent, String tagName) {
     return (Element) parent.getElementsByTagName(tagName).item(0);
   }
@@ -59,6 +59,7 @@ public class XMLWriter {
       writeSimData(doc, sim, simElement);
       writeCellShapeType(doc, cellShapeType, simElement);
       writeEdgeStrategyType(doc, edgeStrategyType, simElement);
+      writeStorageType(doc, grid, simElement);
       writeNeighbors(doc, rules, simElement);
       writeGrid(doc, grid, simElement);
 
@@ -96,6 +97,10 @@ public class XMLWriter {
     addElement(doc, simElement, "EdgeType", edgeStrategyType.toString());
   }
 
+  private static void writeStorageType(Document doc, Grid grid, Element simElement) {
+    addElement(doc, simElement, "StorageType", grid.getStorageType().toString());
+  }
+
   /**
    * Helper method to add simulation data to XML Writer document.
    *
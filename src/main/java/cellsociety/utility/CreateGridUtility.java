@@ -1,14 +1,19 @@
 package cellsociety.utility;
 
+import static cellsociety.config.MainConfig.DEFAULT_STORAGE_TYPE;
+
 import cellsociety.config.SimulationConfig;
 import cellsociety.model.Grid;
 import cellsociety.model.cell.SugarscapeCell;
 import cellsociety.model.edge.EdgeStrategy;
+import cellsociety.model.storage.CellStorageFactory.CellStorageType;
 import cellsociety.model.xml.GridException;
 import cellsociety.model.xml.InvalidStateException;
 import cellsociety.model.cell.Cell;
+import cellsociety.model.cell.CellFactory;
 import cellsociety.model.simulation.Simulation;
-import cellsociety.view.config.StateInfo;
+import cellsociety.view.config.StateDisplayConfig;
+import cellsociety.view.config.StateRegistry;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -34,7 +39,23 @@ public class CreateGridUtility {
   public static Grid generateGrid(Document gridDoc, int gridHeight, int gridWidth, Simulation sim,
       EdgeStrategy edgeStrategy)
       throws GridException, InvalidStateException {
-    Grid grid = new Grid(gridHeight, gridWidth, edgeStrategy);
+    return generateGrid(gridDoc, gridHeight, gridWidth, sim, edgeStrategy, DEFAULT_STORAGE_TYPE);
+  }
+
+  /**
+   * Method to generate Grid from explicitly defined grid from XML data
+   *
+   * @param gridDoc Document from which you are parsing the explicit grid from
+   * @param gridHeight Height of the grid you're looking to initialize
+   * @param gridWidth Width of the grid you're looking to initialize
+   * @param sim The current simulation for getting correct cell types
+   * @param edgeStrategy The edge strategy for this grid
+   * @param storageType The cell storage type for this grid
+   */
+  public static Grid generateGrid(Document gridDoc, int gridHeight, int gridWidth, Simulation sim,
+      EdgeStrategy edgeStrategy, CellStorageType storageType)
+      throws GridException, InvalidStateException {
+    Grid grid = new Grid(gridHeight, gridWidth, edgeStrategy, storageType);
     NodeList rows = gridDoc.getElementsByTagName("Row");
     addAllCellsToGrid(gridHeight, gridWidth, sim, rows, grid);
     return grid;
@@ -43,22 +64,23 @@ public class CreateGridUtility {
   private static void addAllCellsToGrid(int gridHeight, int gridWidth, Simulation sim,
       NodeList rows,
       Grid grid) throws GridException, InvalidStateException {
+    CellFactory cellFactory = SimulationConfig.getCellFactory(sim.data().type());
     for (int i = 0; i < rows.getLength(); i++) {
       String[] rowValues = getRowValuesAndHandleExceptions(gridHeight, gridWidth, rows, i);
       for (int j = 0; j < rowValues.length; j++) {
-        addCurrentCellToGrid(sim, rowValues, j, i, grid);
+        addCurrentCellToGrid(sim, cellFactory, rowValues, j, i, grid);
       }
     }
   }
 
-  private static void addCurrentCellToGrid(Simulation sim, String[] rowValues, int j, int i,
-      Grid grid)
+  private static void addCurrentCellToGrid(Simulation sim, CellFactory cellFactory,
+      String[] rowValues, int j, int i, Grid grid)
       throws InvalidStateException {
     double rawState = Double.parseDouble(rowValues[j]);
     int state = (int) rawState;
     int param = getDecimalValue(rowValues[j]);
     checkValidState(state, sim);
-    Cell holdingCell = SimulationConfig.getNewCell(i, j, state, sim.data().type());
+    Cell holdingCell = cellFactory.createCell(i, j, state);
 
     if (isSugarscape(sim, param)) {
       ((SugarscapeCell) holdingCell).setSugar(param);
@@ -108,8 +130,25 @@ public class CreateGridUtility {
    */
   public static Grid generateRandomGridFromStateNumber(Document gridDoc, int gridHeight,
       int gridWidth, EdgeStrategy edgeStrategy, Simulation sim) {
+    return generateRandomGridFromStateNumber(gridDoc, gridHeight, gridWidth, edgeStrategy, sim,
+        DEFAULT_STORAGE_TYPE);
+  }
+
+  /**
+   * Method to generate random Grid from a number of defined states
+   *
+   * @param gridDoc Document from which you are parsing the random arguments from
+   * @param gridHeight Height of the grid you're looking to initialize
+   * @param gridWidth Width of the grid you're looking to initialize
+   * @param edgeStrategy The edge strategy for this grid
+   * @param sim The current simulation for getting correct cell types
+   * @param storageType The cell storage type for this grid
+   */
+  public static Grid generateRandomGridFromStateNumber(Document gridDoc, int gridHeight,
+      int gridWidth, EdgeStrategy edgeStrategy, Simulation sim, CellStorageType storageType) {
     // generate a grid with fromDistribution equal to false
-    return generateRandomGrid(gridDoc, gridHeight, gridWidth, sim, edgeStrategy, false);
+    return generateRandomGrid(gridDoc, gridHeight, gridWidth, sim, edgeStrategy, storageType,
+        false);
   }
 
   /**
@@ -123,13 +162,31 @@ public class CreateGridUtility {
    */
   public static Grid generateRandomGridFromDistribution(Document gridDoc, int gridHeight,
       int gridWidth, EdgeStrategy edgeStrategy, Simulation sim) {
+    return generateRandomGridFromDistribution(gridDoc, gridHeight, gridWidth, edgeStrategy, sim,
+        DEFAULT_STORAGE_TYPE);
+  }
+
+  /**
+   * Method to generate random Grid from a distribution of defined states
+   *
+   * @param gridDoc Document from which you are parsing the random arguments from
+   * @param gridHeight Height of the grid you're looking to initialize
+   * @param gridWidth Width of the grid you're looking to initialize
+   * @param edgeStrategy The edge strategy to create the grid with
+   * @param sim The current simulation for getting correct cell types
+   * @param storageType The cell storage type for this grid
+   */
+  public static Grid generateRandomGridFromDistribution(Document gridDoc, int gridHeight,
+      int gridWidth, EdgeStrategy edgeStrategy, Simulation sim, CellStorageType storageType) {
     // generate a grid with fromDistribution equal to true
-    return generateRandomGrid(gridDoc, gridHeight, gridWidth, sim, edgeStrategy, true);
+    return generateRandomGrid(gridDoc, gridHeight, gridWidth, sim, edgeStrategy, storageType,
+        true);
   }
 
   private static Grid generateRandomGrid(Document gridDoc, int gridHeight, int gridWidth,
-      Simulation sim, EdgeStrategy edgeStrategy, boolean fromDistribution) {
-    Grid grid = new Grid(gridHeight, gridWidth, edgeStrategy);
+      Simulation sim, EdgeStrategy edgeStrategy, CellStorageType storageType,
+      boolean fromDistribution) {
+    Grid grid = new Grid(gridHeight, gridWidth, edgeStrategy, storageType);
     int totalCells = gridHeight * gridWidth;
 
     Map<Integer, Integer> stateCounts = new HashMap<>();
@@ -150,12 +207,9 @@ public class CreateGridUtility {
   }
 
   private static int getStateValueFromName(Simulation sim, String stateName) {
-    int stateValue;
-    StateInfo stateInfo = SimulationConfig.getStateInfoFromDisplayName(sim, stateName);
-    if (stateInfo == null) {
+    int stateValue = StateDisplayConfig.getStateRegistry(sim).getState(stateName);
+    if (stateValue == StateRegistry.NO_STATE) {
       stateValue = 0;
-    } else {
-      stateValue = stateInfo.value();
     }
     return stateValue;
   }
@@ -188,10 +242,11 @@ public class CreateGridUtility {
     Collections.shuffle(cellStates);
 
     int index = 0;
+    CellFactory cellFactory = SimulationConfig.getCellFactory(sim.data().type());
     for (int row = 0; row < gridHeight; row++) {
       for (int col = 0; col < gridWidth; col++) {
         int state = cellStates.get(index);
-        Cell newCell = SimulationConfig.getNewCell(row, col, state, sim.data().type());
+        Cell newCell = cellFactory.createCell(row, col, state);
         grid.addCell(newCell);
         index++;
       }
@@ -92,6 +92,26 @@ public class SidebarView extends VBox {
     myAlertField.flash(message, true);
   }
 
+  /**
+   * Update the retained steps and current step shown by the history controls.
+   *
+   * @param firstStep   the oldest retained step
+   * @param lastStep    the newest retained step
+   * @param currentStep the step currently displayed
+   */
+  public void updateHistory(long firstStep, long lastStep, long currentStep) {
+    myViewModeView.updateHistory(firstStep, lastStep, currentStep);
+  }
+
+  /**
+   * Flash a message on the sidebar view's alert field.
+   *
+   * @param message The message you want to display
+   */
+  public void flashMessage(String message) {
+    myAlertField.flash(message, false);
+  }
+
   private void addAllComponentsToSidebar() {
     initializeTitle();
     this.getChildren().addFirst(myAlertField);
@@ -6,16 +6,18 @@ import cellsociety.controller.MainController;
 import cellsociety.model.Grid;
 import cellsociety.model.cell.Cell;
 import cellsociety.model.cell.CellUpdate;
+import cellsociety.model.engine.SimulationFrame;
+import cellsociety.model.profiling.RenderFrameEvent;
+import cellsociety.model.profiling.StepPhaseEvent;
 import cellsociety.model.simulation.Simulation;
 import cellsociety.view.config.StateDisplayConfig;
-import cellsociety.view.config.StateInfo;
+import cellsociety.view.config.StateRegistry;
 import cellsociety.view.grid.GridView;
 import cellsociety.view.grid.GridViewFactory;
 import cellsociety.view.grid.GridViewFactory.CellShapeType;
 import javafx.scene.Group;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.input.ScrollEvent;
-import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 
 /**
@@ -30,6 +32,8 @@ public class SimulationView extends Group {
   private ScrollPane scrollPane;
 
   private final Simulation mySimulation;
+  private final StateRegistry myStateRegistry;
+  private final Grid myGrid;
   private final int myWidth;
   private final int myHeight;
   private final int myNumRows;
@@ -60,6 +64,8 @@ public class SimulationView extends Group {
     myNumColumns = mainController.getGridCols();
     myMainController = mainController;
     mySimulation = mainController.getSimulation();
+    myStateRegistry = StateDisplayConfig.getStateRegistry(mySimulation);
+    myGrid = grid;
     initializeGrid(width, height, myNumRows, myNumColumns, grid, cellShapeType, mainController);
 
     this.setOnScroll(this::handleZoom);
@@ -91,14 +97,21 @@ public class SimulationView extends Group {
   }
 
   /**
-   * Perform a single step of the animation
+   * Display a frame of the simulation by recoloring the cells that changed in it.
    *
-   * @param grid       Grid of the simulation
-   * @param simulation Simulation that contains rules for updating
+   * @param frame The frame to display, published after one or more steps of the simulation
    */
-  public void step(Grid grid, Simulation simulation) {
-    List<CellUpdate> stateUpdates = grid.updateGrid(simulation);
-    updateGridViewFromCellUpdateList(stateUpdates);
+  public void renderFrame(SimulationFrame frame) {
+    StepPhaseEvent renderEvent = new RenderFrameEvent();
+    renderEvent.begin();
+    for (int change = 0; change < frame.getNumberChanges(); change++) {
+      int row = frame.getChangedRow(change);
+      int col = frame.getChangedCol(change);
+      myGridView.setStateColor(row, col, frame.getChangedState(change), myStateRegistry);
+      myGridView.setOpacity(row, col, frame.getChangedOpacity(change));
+    }
+    renderEvent.commitPhase(mySimulation.data().type(), frame.getRows(), frame.getCols(),
+        frame.getNumberChanges(), frame.getStep());
   }
 
   /**
@@ -143,6 +156,7 @@ public class SimulationView extends Group {
     myGridView = GridViewFactory.createCellView(value, myWidth,
         myHeight, myNumRows, myNumColumns, myMainController);
     updateGridViewFromCellUpdateList(currentGridState);
+    myGridView.addCellTooltips(myGrid, mySimulation);
     myGridView.updateGridLinesColor();
     myGridView.setGridLines(myGridLinesEnabled);
 
@@ -154,25 +168,25 @@ public class SimulationView extends Group {
     for (int row = 0; row < numRows; row++) {
       for (int col = 0; col < numCols; col++) {
         Cell nextCell = grid.getCell(row, col);
-        int nextState = nextCell.getState();
-        Color nextColor = StateDisplayConfig.getStateInfo(mySimulation, nextState).color();
         double nextOpacity = nextCell.getOpacity();
-        myGridView.setColor(row, col, nextColor);
+        myGridView.setStateColor(row, col, nextCell.getState(), myStateRegistry);
         myGridView.setOpacity(row, col, nextOpacity);
-        myGridView.addCellTooltip(row, col, grid, mySimulation);
       }
     }
+    myGridView.addCellTooltips(grid, mySimulation);
   }
 
   private void updateGridViewFromCellUpdateList(List<CellUpdate> stateUpdates) {
+    StepPhaseEvent renderEvent = new RenderFrameEvent();
+    renderEvent.begin();
     for (CellUpdate stateUpdate : stateUpdates) {
-      int nextState = stateUpdate.getState();
-      StateInfo nextStateInfo = StateDisplayConfig.getStateInfo(mySimulation, nextState);
-      Paint nextColor = nextStateInfo.color();
       double nextOpacity = stateUpdate.getNextCell().getOpacity();
-      myGridView.setColor(stateUpdate.getRow(), stateUpdate.getCol(), nextColor);
+      myGridView.setStateColor(stateUpdate.getRow(), stateUpdate.getCol(), stateUpdate.getState(),
+          myStateRegistry);
       myGridView.setOpacity(stateUpdate.getRow(), stateUpdate.getCol(), nextOpacity);
     }
+    renderEvent.commitPhase(mySimulation.data().type(), myNumRows, myNumColumns,
+        stateUpdates.size(), StepPhaseEvent.NO_STEP);
   }
 
   /**
@@ -8,6 +8,7 @@ import cellsociety.view.cell.CellView;
 import cellsociety.view.cell.RectangleCellView;
 import cellsociety.view.config.StateDisplayConfig;
 import cellsociety.view.config.StateInfo;
+import cellsociety.view.config.StateRegistry;
 import javafx.geometry.Pos;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
@@ -31,8 +32,9 @@ public class StateInfoView extends VBox {
     this.setSpacing(ELEMENT_SPACING);
     this.getStyleClass().add("info-box");
     createTitle();
-    for (int i = 0; i < simulation.rules().getNumberStates(); i++) {
-      createListItemFromStateInfo(StateDisplayConfig.getStateInfo(simulation, i));
+    StateRegistry registry = StateDisplayConfig.getStateRegistry(simulation);
+    for (int i = 0; i < registry.getNumberStates(); i++) {
+      createListItemFromStateInfo(registry.getStateInfo(i));
     }
   }
 
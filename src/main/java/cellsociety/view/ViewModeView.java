@@ -1,6 +1,7 @@
 package cellsociety.view;
 
 import static cellsociety.config.MainConfig.INITIAL_STEP_SPEED;
+import static cellsociety.config.MainConfig.MAX_GENERATIONS_PER_FRAME;
 import static cellsociety.config.MainConfig.SIDEBAR_WIDTH;
 import static cellsociety.config.MainConfig.getMessage;
 import static cellsociety.view.SidebarView.ELEMENT_SPACING;
@@ -15,8 +16,10 @@ import cellsociety.view.components.AlertField;
 import java.io.IOException;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.Slider;
 import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
@@ -39,8 +42,12 @@ public class ViewModeView extends VBox {
   private Button myChooseFileButton;
   private Button mySaveButton;
   private Button myStepButton;
+  private Button myStepBackButton;
+  private Slider myHistorySlider;
+  private boolean isUpdatingHistory;
   private Button newSimulationButton;
   private final VBox mySpeedSliderBox = new VBox();
+  private final VBox myHistorySliderBox = new VBox();
   private FlowPane myControlButtons = new FlowPane();
 
   /**
@@ -56,6 +63,7 @@ public class ViewModeView extends VBox {
     myAlertField = alertField;
     myControlButtons = createAllButtons();
     initializeSpeedSlider();
+    initializeHistorySlider();
     update();
   }
 
@@ -68,7 +76,7 @@ public class ViewModeView extends VBox {
     ParameterView myParameterView = new ParameterView(myMainController, false);
     NeighborView myNeighborView = new NeighborView(myMainController, false);
     setPlayPauseButtonText();
-    this.getChildren().addAll(myControlButtons, mySpeedSliderBox);
+    this.getChildren().addAll(myControlButtons, mySpeedSliderBox, myHistorySliderBox);
     createSimulationMetaDataDisplay();
     this.getChildren().addAll(myStateInfoView, myParameterView, myNeighborView);
   }
@@ -85,6 +93,68 @@ public class ViewModeView extends VBox {
     speedSlider.valueProperty().addListener(
         (observable, oldVal, newValue) -> handleSpeedSliderUpdate(newValue));
     mySpeedSliderBox.getChildren().addAll(sliderLabel, speedSlider);
+    initializeGenerationsSlider();
+  }
+
+  /**
+   * Update the range of the history slider to the retained steps, and move it to the current step.
+   *
+   * @param firstStep   the oldest retained step
+   * @param lastStep    the newest retained step
+   * @param currentStep the step currently displayed
+   */
+  public void updateHistory(long firstStep, long lastStep, long currentStep) {
+    isUpdatingHistory = true; // moving the slider here should not move the simulation
+    myHistorySlider.setMin(firstStep);
+    myHistorySlider.setMax(Math.max(firstStep + 1, lastStep));
+    myHistorySlider.setValue(currentStep);
+    myStepBackButton.setDisable(currentStep <= firstStep);
+    isUpdatingHistory = false;
+  }
+
+  private void initializeHistorySlider() {
+    Text sliderLabel = new Text(getMessage("HISTORY_SLIDER_LABEL"));
+    myHistorySlider = new Slider(0, 1, 0);
+    myHistorySlider.setId("viewModeHistorySlider");
+    myHistorySlider.valueProperty().addListener(
+        (observable, oldVal, newValue) -> handleHistorySliderUpdate(newValue));
+    myHistorySliderBox.getChildren().addAll(sliderLabel, myHistorySlider,
+        createRecordHistoryField());
+  }
+
+  private HBox createRecordHistoryField() {
+    CheckBox recordHistoryCheckbox = new CheckBox();
+    recordHistoryCheckbox.setId("viewModeRecordHistoryCheckbox");
+    recordHistoryCheckbox.setSelected(myMainController.isRecordingHistory());
+    recordHistoryCheckbox.setOnAction(
+        e -> myMainController.setHistoryRecording(recordHistoryCheckbox.isSelected()));
+    HBox recordHistoryField = new HBox(ELEMENT_SPACING);
+    recordHistoryField.setAlignment(Pos.CENTER_LEFT);
+    recordHistoryField.getChildren().addAll(recordHistoryCheckbox,
+        new Text(getMessage("RECORD_HISTORY_LABEL")));
+    return recordHistoryField;
+  }
+
+  private void handleHistorySliderUpdate(Number newValue) {
+    if (isUpdatingHistory) {
+      return;
+    }
+    myMainController.moveToStep(Math.round(newValue.doubleValue()));
+    setPlayPauseButtonText();
+  }
+
+  private void initializeGenerationsSlider() {
+    Text sliderLabel = new Text(getMessage("GENERATIONS_PER_FRAME_LABEL"));
+    Slider generationsSlider = new Slider(1, MAX_GENERATIONS_PER_FRAME,
+        myMainController.getGenerationsPerFrame());
+    generationsSlider.setId("viewModeGenerationsSlider");
+    generationsSlider.setMajorTickUnit(1);
+    generationsSlider.setMinorTickCount(0);
+    generationsSlider.setSnapToTicks(true);
+    generationsSlider.valueProperty().addListener(
+        (observable, oldVal, newValue) -> myMainController.updateGenerationsPerFrame(
+            (int) Math.round(newValue.doubleValue())));
+    mySpeedSliderBox.getChildren().addAll(sliderLabel, generationsSlider);
   }
 
   private void handleSpeedSliderUpdate(Number newValue) {
@@ -96,6 +166,7 @@ public class ViewModeView extends VBox {
   private FlowPane createAllButtons() {
     createPlayPauseButton();
     createStepButton();
+    createStepBackButton();
     createFileChooserButton();
     createSaveFileButton();
     createNewSimulationButton();
@@ -104,7 +175,7 @@ public class ViewModeView extends VBox {
     myControlButtons.setVgap(ELEMENT_SPACING);
     myControlButtons.getStyleClass().add("control-buttons");
     myControlButtons.getChildren()
-        .addAll(myPlayPauseButton, myStepButton, myChooseFileButton, mySaveButton,
+        .addAll(myPlayPauseButton, myStepBackButton, myStepButton, myChooseFileButton, mySaveButton,
             newSimulationButton);
     return myControlButtons;
   }
@@ -190,6 +261,16 @@ public class ViewModeView extends VBox {
     });
   }
 
+  private void createStepBackButton() {
+    myStepBackButton = new Button(getMessage("STEP_BACK_LABEL"));
+    myStepBackButton.setId("viewModeStepBackButton");
+    myStepBackButton.setMinSize(Button.USE_PREF_SIZE, Button.USE_PREF_SIZE);
+    myStepBackButton.setOnAction(event -> {
+      stopAnimationPlayIfRunning();
+      myMainController.handleStepBack();
+    });
+  }
+
   private void createNewSimulationButton() {
     newSimulationButton = new Button(getMessage("NEW_SIMULATION_LABEL"));
     newSimulationButton.setMinSize(Button.USE_PREF_SIZE, Button.USE_PREF_SIZE);
@@ -1,10 +1,14 @@
 package cellsociety.view.cell;
 
+import java.util.ArrayList;
+import java.util.List;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
 import javafx.scene.Group;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
+import javafx.scene.shape.Polygon;
 import javafx.scene.shape.Shape;
-import javafx.scene.shape.StrokeType;
 
 /**
  * A view used to create a cell. This view is abstract to allow for various shapes/images to
@@ -31,27 +35,12 @@ public abstract class CellView extends Group {
     super();
     myShape = createShape(width, height);
     myShape.setFill(DEFAULT_COLOR);
-    myShape.setStrokeType(StrokeType.INSIDE);
-    myShape.setStrokeWidth(BORDER_WIDTH);
     this.getChildren().add(myShape);
     this.getStyleClass().add("cell-view");
     this.setLayoutX(x);
     this.setLayoutY(y);
   }
 
-  /**
-   * Handle whether grid lines should be shown or not.
-   *
-   * @param selected Whether to show grid lines
-   */
-  public void setGridLines(boolean selected) {
-    if (selected) {
-      myShape.setStrokeWidth(BORDER_WIDTH);
-    } else {
-      myShape.setStrokeWidth(0);
-    }
-  }
-
   /**
    * Set the fill color for a cell.
    *
@@ -80,10 +69,25 @@ public abstract class CellView extends Group {
   }
 
   /**
-   * Reset the stroke color of the cell on theme updates.
+   * Get the corners of the outline of this cell, in the coordinates of the grid that holds it.
+   *
+   * @return The corners in drawing order, after the cell has been placed and rotated
    */
-  public void resetStrokeColor() {
-    myShape.setStyle("-fx-stroke: -fx-primary;");
+  public List<Point2D> getCorners() {
+    List<Point2D> corners = new ArrayList<>();
+    if (myShape instanceof Polygon polygon) {
+      List<Double> points = polygon.getPoints();
+      for (int i = 0; i + 1 < points.size(); i += 2) {
+        corners.add(localToParent(points.get(i), points.get(i + 1)));
+      }
+    } else {
+      Bounds bounds = myShape.getLayoutBounds();
+      corners.add(localToParent(bounds.getMinX(), bounds.getMinY()));
+      corners.add(localToParent(bounds.getMaxX(), bounds.getMinY()));
+      corners.add(localToParent(bounds.getMaxX(), bounds.getMaxY()));
+      corners.add(localToParent(bounds.getMinX(), bounds.getMaxY()));
+    }
+    return corners;
   }
 
   /**
@@ -1,6 +1,6 @@
 package cellsociety.view.config;
 
-import cellsociety.utility.FileUtility;
+import cellsociety.config.RegistryConfig;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -11,16 +11,12 @@ import javafx.collections.ObservableList;
  */
 public class NeighborConfig {
 
-  //Had a little bit of ChatGPT help with the last few lines of this
-  private static final String NEIGHBOR_OPTION_DIRECTORY = "src/main/java/cellsociety/model/simulation/neighbors/";
-
   /**
-   * Scans the directory to find the various different neighbor types.
+   * Get the neighbor types listed in the registry index.
    *
    * @return - a list of the string names of the neighbor types
    */
   public static ObservableList<String> getAvailableNeighborTypes() {
-    return FXCollections.observableArrayList(
-        FileUtility.getFileNamesInDirectory(NEIGHBOR_OPTION_DIRECTORY, "Neighbors.java"));
+    return FXCollections.observableArrayList(RegistryConfig.NEIGHBOR_TYPES);
   }
 }
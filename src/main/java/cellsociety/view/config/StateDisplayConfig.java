@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.Random;
+import java.util.ResourceBundle;
 import javafx.scene.paint.Color;
 
 import static cellsociety.config.MainConfig.getCellColors;
@@ -15,6 +16,9 @@ import cellsociety.model.simulation.Simulation;
 /**
  * A config file to determine how to display a given state in the front end. This centralizes state
  * display configurations for different simulations.
+ * <p>
+ * The display information of a simulation is built into a state registry the first time one of its
+ * states is queried, and the registry of the most recent simulation is kept for later queries.
  *
  * @author Owen Jennings
  */
@@ -22,45 +26,81 @@ public class StateDisplayConfig {
 
   private static final Random RANDOM = new Random();
   private static final Map<String, Color> RANDOM_COLORS_MAP = new HashMap<>();
-  private static final Map<StateCacheKey, StateInfo> STATE_INFO_CACHE = new HashMap<>();
+  private static volatile StateRegistry myLatestRegistry;
 
   /**
-   * Get the state information for front-end display. Uses caching to avoid redundant computations.
+   * Get the state information for front-end display.
    *
    * @param simulation The simulation you are running.
    * @param state      The state you are querying for.
    * @return The state information of the provided state and simulation.
    */
   public static StateInfo getStateInfo(Simulation simulation, int state) {
-    StateCacheKey cacheKey = new StateCacheKey(simulation, state);
-
-    // ChatGPT assisted in creating a cache to store values instead of looking up everytime to improve efficiency
-    return STATE_INFO_CACHE.computeIfAbsent(cacheKey, key -> {
-      String simulationType = simulation.data().type().toUpperCase();
-      return getStateInfoFromSimulationTypeString(state, simulationType);
-    });
+    return getStateRegistry(simulation).getStateInfo(state);
   }
 
   /**
-   * Get the state info for the provide simulation, state, and language.
+   * Get the display information of every state of a simulation. The registry is built the first
+   * time a simulation is queried, so callers that draw or count many cells should keep it.
    *
    * @param simulation The simulation you are querying for
-   * @param state      The state you want to find.
-   * @param language   The language to return the state display name in
-   * @return A state info object for the queried state.
+   * @return The state registry of the simulation
    */
-  public static StateInfo getStateInfo(Simulation simulation, int state, String language) {
-    String currentLanguage = MainConfig.getLanguage();
-    MainConfig.setLanguage(language);
-    StateCacheKey cacheKey = new StateCacheKey(simulation, state);
-
-    // ChatGPT assisted in creating a cache to store values instead of looking up everytime to improve efficiency
-    StateInfo result = STATE_INFO_CACHE.computeIfAbsent(cacheKey, key -> {
-      String simulationType = simulation.data().type().toUpperCase();
-      return getStateInfoFromSimulationTypeString(state, simulationType);
-    });
-    MainConfig.setLanguage(currentLanguage); // reset to original language
-    return result;
+  public static StateRegistry getStateRegistry(Simulation simulation) {
+    StateRegistry registry = myLatestRegistry;
+    if (registry != null && registry.isFor(simulation)) {
+      return registry;
+    }
+    return buildStateRegistry(simulation);
+  }
+
+  static synchronized StateInfo createStateInfo(Simulation simulation, int state) {
+    return getStateInfoFromSimulationTypeString(state, getSimulationType(simulation));
+  }
+
+  private static synchronized StateRegistry buildStateRegistry(Simulation simulation) {
+    StateRegistry registry = myLatestRegistry;
+    if (registry != null && registry.isFor(simulation)) {
+      return registry;
+    }
+    String simulationType = getSimulationType(simulation);
+    StateInfo[] states = new StateInfo[simulation.rules().getNumberStates()];
+    Map<String, Integer> statesByName = new HashMap<>();
+    for (int state = 0; state < states.length; state++) {
+      states[state] = getStateInfoFromSimulationTypeString(state, simulationType);
+    }
+    // files may name states in any language, and earlier languages win when two share a name
+    for (String language : MainConfig.fetchLanguages()) {
+      addStatesByName(statesByName, language, simulationType, states.length);
+    }
+    for (StateInfo stateInfo : states) {
+      statesByName.putIfAbsent(StateRegistry.toNameKey(stateInfo.displayName()), stateInfo.value());
+    }
+    myLatestRegistry = new StateRegistry(simulation, states, statesByName);
+    return myLatestRegistry;
+  }
+
+  private static void addStatesByName(Map<String, Integer> statesByName, String language,
+      String simulationType, int numStates) {
+    ResourceBundle messages;
+    try {
+      messages = ResourceBundle.getBundle(MainConfig.LANGUAGE_FILE_PATH + language);
+    } catch (MissingResourceException e) {
+      MainConfig.LOGGER.warn("Could not load state names in language: {}", language);
+      return;
+    }
+    for (int state = 0; state < numStates; state++) {
+      String nameKey = "%s_NAME_%d".formatted(simulationType, state);
+      String stateName = messages.containsKey(nameKey) ? messages.getString(nameKey) : "UNKNOWN";
+      if (stateName.equals("UNKNOWN") && messages.containsKey("STATE")) {
+        stateName = String.format(messages.getString("STATE"), state);
+      }
+      statesByName.putIfAbsent(StateRegistry.toNameKey(stateName), state);
+    }
+  }
+
+  private static String getSimulationType(Simulation simulation) {
+    return simulation.data().type().toUpperCase();
   }
 
   private static StateInfo getStateInfoFromSimulationTypeString(int state, String simulationType) {
@@ -115,11 +155,4 @@ public class StateDisplayConfig {
   private static Color getRandomColor() {
     return Color.rgb(RANDOM.nextInt(256), RANDOM.nextInt(256), RANDOM.nextInt(256));
   }
-
-  /**
-   * A key for caching state information, using a record for simplicity.
-   */
-  private record StateCacheKey(Simulation simulation, int state) {
-
-  }
 }
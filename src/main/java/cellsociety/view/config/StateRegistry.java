@@ -0,0 +1,131 @@
+package cellsociety.view.config;
+
+import cellsociety.model.simulation.Simulation;
+import java.util.Locale;
+import java.util.Map;
+import javafx.scene.paint.Color;
+
+/**
+ * The display information of every state of one simulation, built once when the simulation is
+ * loaded so that coloring, counting and naming cells are array lookups. The registry holds the
+ * state info, the ARGB color of every state, and the state of every display name in every
+ * language.
+ * <p>
+ * A registry never changes after it is built. States past the number of states of the simulation
+ * are looked up from the display config each time they are queried.
+ *
+ * @author Owen Jennings
+ */
+public final class StateRegistry {
+
+  public static final int NO_STATE = -1;
+  private static final int MAX_CHANNEL = 0xff;
+  private final Simulation mySimulation;
+  private final StateInfo[] myStates;
+  private final int[] myArgbColors;
+  private final Map<String, Integer> myStatesByName;
+
+  StateRegistry(Simulation simulation, StateInfo[] states, Map<String, Integer> statesByName) {
+    mySimulation = simulation;
+    myStates = states.clone();
+    myArgbColors = new int[states.length];
+    for (int state = 0; state < states.length; state++) {
+      myArgbColors[state] = toArgb(states[state].color());
+    }
+    myStatesByName = Map.copyOf(statesByName);
+  }
+
+  /**
+   * Get the state info of a state.
+   *
+   * @param state The state you are querying for
+   * @return The state info of the state, in the current language
+   */
+  public StateInfo getStateInfo(int state) {
+    if (state >= 0 && state < myStates.length) {
+      return myStates[state];
+    }
+    return StateDisplayConfig.createStateInfo(mySimulation, state);
+  }
+
+  /**
+   * Get the color of a state.
+   *
+   * @param state The state you are querying for
+   * @return The color cells of the state are drawn with
+   */
+  public Color getColor(int state) {
+    return getStateInfo(state).color();
+  }
+
+  /**
+   * Get the color of a state as a packed integer.
+   *
+   * @param state The state you are querying for
+   * @return The color of the state, with alpha, red, green and blue from the highest byte down
+   */
+  public int getArgbColor(int state) {
+    if (state >= 0 && state < myArgbColors.length) {
+      return myArgbColors[state];
+    }
+    return toArgb(getColor(state));
+  }
+
+  /**
+   * Get the display name of a state.
+   *
+   * @param state The state you are querying for
+   * @return The display name of the state in the current language
+   */
+  public String getDisplayName(int state) {
+    return getStateInfo(state).displayName();
+  }
+
+  /**
+   * Get the state with a display name, in any language and ignoring case.
+   *
+   * @param displayName The display name of the state
+   * @return The state with the display name, or NO_STATE if no state has it
+   */
+  public int getState(String displayName) {
+    return myStatesByName.getOrDefault(toNameKey(displayName), NO_STATE);
+  }
+
+  /**
+   * Get the number of states held by this registry.
+   *
+   * @return The number of states of the simulation
+   */
+  public int getNumberStates() {
+    return myStates.length;
+  }
+
+  /**
+   * Check whether this registry was built for a simulation.
+   *
+   * @param simulation The simulation to check
+   * @return True if this registry holds the states of exactly that simulation
+   */
+  public boolean isFor(Simulation simulation) {
+    return mySimulation == simulation;
+  }
+
+  /**
+   * Pack a color into an integer.
+   *
+   * @param color The color to pack
+   * @return The color, with alpha, red, green and blue from the highest byte down
+   */
+  public static int toArgb(Color color) {
+    return (toChannel(color.getOpacity()) << 24) | (toChannel(color.getRed()) << 16)
+        | (toChannel(color.getGreen()) << 8) | toChannel(color.getBlue());
+  }
+
+  static String toNameKey(String displayName) {
+    return displayName.toLowerCase(Locale.ROOT);
+  }
+
+  private static int toChannel(double value) {
+    return (int) Math.round(value * MAX_CHANNEL);
+  }
+}
@@ -1,7 +1,7 @@
 package cellsociety.view.config;
 
+import cellsociety.config.RegistryConfig;
 import cellsociety.controller.PreferencesController;
-import cellsociety.utility.FileUtility;
 import java.util.List;
 
 /**
@@ -20,9 +20,7 @@ public class ThemeConfig {
   public static final String BOLD_FONT_PATH = "%sfonts.bold.ttf".formatted(DEFAULT_RESOURCE_FOLDER);
   public static final String THEMES_RESOURCES_FOLDER = "%sthemes/".formatted(
       DEFAULT_RESOURCE_FOLDER);
-  public static final String THEMES_RELATIVE_PATH = "src/main/resources/cellsociety/themes/";
-  public static final List<String> THEMES = FileUtility.getFileNamesInDirectory(
-      THEMES_RELATIVE_PATH, ".css");
+  public static final List<String> THEMES = RegistryConfig.THEMES;
 
   public static final String DEFAULT_THEME = "Light";
 
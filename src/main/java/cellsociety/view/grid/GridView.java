@@ -5,20 +5,25 @@ import static cellsociety.view.SidebarView.ELEMENT_SPACING;
 
 import cellsociety.controller.MainController;
 import cellsociety.model.Grid;
-import cellsociety.model.cell.Cell;
 import cellsociety.model.simulation.Simulation;
 import cellsociety.view.cell.CellView;
 import cellsociety.view.config.StateDisplayConfig;
-import cellsociety.view.config.StateInfo;
+import cellsociety.view.config.StateRegistry;
+import java.awt.geom.Point2D;
 import javafx.scene.Group;
 import javafx.scene.control.Tooltip;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.paint.Paint;
-import javafx.scene.shape.Shape;
+import javafx.scene.shape.SVGPath;
 
 /**
  * A view with all the cells in the grid and ability to update individual cells based on their
  * location
+ * <p>
+ * Clicks and tooltips are handled by one set of mouse handlers on the whole view, which find the
+ * cell under the mouse from its coordinates, so no cell needs handlers of its own. The tooltip is
+ * only created once the mouse first rests on a cell. Grid lines are one path drawn over every cell,
+ * so showing them or changing their theme color restyles a single node.
  *
  * @author Owen Jennings
  */
@@ -28,8 +33,12 @@ public abstract class GridView extends Group {
   private final int myNumColumns;
   private final int myWidth;
   private final int myHeight;
-  private final CellView[][] myGrid;
   private final MainController myMainController;
+  private final SVGPath myGridLines = new SVGPath();
+  private Grid myTooltipGrid;
+  private StateRegistry myTooltipStates;
+  private Tooltip myTooltip;
+  private Point2D myTooltipCell;
 
   /**
    * Create a grid view.
@@ -47,20 +56,25 @@ public abstract class GridView extends Group {
     myNumColumns = numColumns;
     myWidth = width;
     myHeight = height;
-    myGrid = initializeGrid();
     myMainController = mainController;
-    addGridElementsToGroupAndSetEventHandlers(mainController);
     this.setId("gridView");
+    this.setOnMouseClicked(this::handleClick);
+    this.setOnMouseMoved(this::displayToolTip);
+    this.setOnMouseExited(event -> hideToolTip());
+    myGridLines.setFill(null);
+    myGridLines.setStrokeWidth(CellView.BORDER_WIDTH);
+    myGridLines.setMouseTransparent(true);
+    myGridLines.setId("gridLines");
   }
 
   /**
-   * Initialize the grid's cells array. This method should handle the placement of cell views based
-   * on their shape. For example, this method for a triangular grid should stagger isometric
-   * triangles flipping every other column's triangle by 180 degrees.
+   * Get the cell drawn at a point of this view.
    *
-   * @return A 2D array of cell views representing the grid.
+   * @param x The x coordinate of the point, relative to this view
+   * @param y The y coordinate of the point, relative to this view
+   * @return The location of the cell as (row, column), or null if no cell is drawn at the point
    */
-  protected abstract CellView[][] initializeGrid();
+  protected abstract Point2D getCellAt(double x, double y);
 
   /**
    * For testing, get the cell view at the provided coordinate.
@@ -69,9 +83,7 @@ public abstract class GridView extends Group {
    * @param col The column you are querying
    * @return A cell view, if it exists
    */
-  public CellView getCell(int row, int col) {
-    return myGrid[row][col];
-  }
+  public abstract CellView getCell(int row, int col);
 
   /**
    * Set the color of a cell in the grid.
@@ -80,24 +92,62 @@ public abstract class GridView extends Group {
    * @param col   column of cell
    * @param color color you want to set
    */
-  public void setColor(int row, int col, Paint color) {
-    if (myGrid[row][col] != null && !myGrid[row][col].getFill()
-        .equals(color)) { // only update color if different
-      myGrid[row][col].setFill(color);
-    }
+  public abstract void setColor(int row, int col, Paint color);
+
+  /**
+   * Set the color of a cell to the color of a state.
+   *
+   * @param row      The row of the cell
+   * @param col      The column of the cell
+   * @param state    The state whose color the cell is drawn with
+   * @param registry The state registry of the simulation
+   */
+  public void setStateColor(int row, int col, int state, StateRegistry registry) {
+    setColor(row, col, registry.getColor(state));
   }
 
+  /**
+   * Set the opacity of provided cell.
+   *
+   * @param row         Row of cell
+   * @param col         Column of cell
+   * @param nextOpacity next opacity level for cell
+   */
+  public abstract void setOpacity(int row, int col, double nextOpacity);
+
+  /**
+   * Create the grid lines drawn over the cells of this grid.
+   *
+   * @return The grid lines as SVG path data, in the coordinates of this view
+   */
+  protected abstract String createGridLines();
+
   /**
    * Handle whether grid lines should be shown or not.
    *
    * @param selected Whether to show grid lines
    */
   public void setGridLines(boolean selected) {
-    for (int row = 0; row < myNumRows; row++) {
-      for (int col = 0; col < myNumColumns; col++) {
-        myGrid[row][col].setGridLines(selected);
-      }
-    }
+    myGridLines.setVisible(selected);
+  }
+
+  /**
+   * Reset the grid line colors on theme change.
+   */
+  public void updateGridLinesColor() {
+    myGridLines.setStyle("-fx-stroke: -fx-primary;");
+  }
+
+  /**
+   * Show the state of the cell under the mouse as a tooltip while the simulation is neither playing
+   * nor being edited.
+   *
+   * @param grid       The grid of the simulation
+   * @param simulation The simulation you are using
+   */
+  public void addCellTooltips(Grid grid, Simulation simulation) {
+    myTooltipGrid = grid;
+    myTooltipStates = StateDisplayConfig.getStateRegistry(simulation);
   }
 
   /**
@@ -137,69 +187,99 @@ public abstract class GridView extends Group {
   }
 
   /**
-   * Reset the grid line colors on theme change.
+   * Get the main controller that clicks and tooltips of this grid are reported to.
+   *
+   * @return The main controller of the program
    */
-  public void updateGridLinesColor() {
-    for (int row = 0; row < myNumRows; row++) {
-      for (int column = 0; column < myNumColumns; column++) {
-        myGrid[row][column].resetStrokeColor();
-      }
-    }
+  protected MainController getMainController() {
+    return myMainController;
   }
 
   /**
-   * Set the opacity of provided cell.
+   * Draw the grid lines over the cells. Call once all cells have been added to this view.
+   */
+  protected void addGridLines() {
+    myGridLines.setContent(createGridLines());
+    getChildren().add(myGridLines);
+  }
+
+  /**
+   * Create grid lines that divide this grid into rows and columns of equal cells.
    *
-   * @param row         Row of cell
-   * @param col         Column of cell
-   * @param nextOpacity next opacity level for cell
+   * @param cellWidth  The width of a cell
+   * @param cellHeight The height of a cell
+   * @return The grid lines as SVG path data
    */
-  public void setOpacity(int row, int col, double nextOpacity) {
-    if (myGrid[row][col] != null
-        && myGrid[row][col].getOpacity() != nextOpacity) { // only update opacity if changed
-      myGrid[row][col].setOpacity(nextOpacity);
+  protected String createRectangleGridLines(double cellWidth, double cellHeight) {
+    StringBuilder gridLines = new StringBuilder();
+    double gridWidth = cellWidth * myNumColumns;
+    double gridHeight = cellHeight * myNumRows;
+    for (int row = 0; row <= myNumRows; row++) {
+      gridLines.append("M0 ").append(round(row * cellHeight)).append(" H")
+          .append(round(gridWidth));
     }
+    for (int col = 0; col <= myNumColumns; col++) {
+      gridLines.append("M").append(round(col * cellWidth)).append(" 0 V")
+          .append(round(gridHeight));
+    }
+    return gridLines.toString();
   }
 
-  private void addGridElementsToGroupAndSetEventHandlers(MainController mainController) {
-    for (int row = 0; row < myNumRows; row++) {
-      for (int column = 0; column < myNumColumns; column++) {
-        CellView cell = myGrid[row][column];
-        this.getChildren().add(cell);
-        int cellRow = row; // create copy of local variables to ensure that they are passed properly to main controller
-        int cellColumn = column;
-        cell.setOnMouseClicked(e -> mainController.changeCellState(cellRow, cellColumn));
-      }
-    }
+  /**
+   * Round a coordinate of the grid lines, which keeps path data short and free of exponents.
+   *
+   * @param coordinate The coordinate to round
+   * @return The coordinate rounded to hundredths of a pixel
+   */
+  protected static double round(double coordinate) {
+    return Math.round(coordinate * 100) / 100.0;
   }
 
   /**
-   * Add the cell tool tip for a provided row, col in the grid.
+   * Get the location of a cell if it is within the grid.
    *
-   * @param row        The row of the cell
-   * @param col        The col of the cell
-   * @param grid       The grid of the simulation
-   * @param simulation The simulation you are using
+   * @param row The row of the cell
+   * @param col The column of the cell
+   * @return The location of the cell as (row, column), or null if it is outside the grid
    */
-  public void addCellTooltip(int row, int col, Grid grid, Simulation simulation) {
-    Shape cellShape = myGrid[row][col].getShape();
+  protected Point2D toCell(int row, int col) {
+    if (row < 0 || col < 0 || row >= myNumRows || col >= myNumColumns) {
+      return null;
+    }
+    return new Point2D.Double(row, col);
+  }
 
-    Tooltip tooltip = new Tooltip();
-    Tooltip.install(cellShape, tooltip);
+  private void handleClick(MouseEvent event) {
+    Point2D cell = getCellAt(event.getX(), event.getY());
+    if (cell != null) {
+      myMainController.changeCellState((int) cell.getX(), (int) cell.getY());
+    }
+  }
 
-    cellShape.setOnMouseEntered(
-        event -> displayToolTip(row, col, grid, simulation, event, tooltip, cellShape));
-    cellShape.setOnMouseExited(event -> tooltip.hide());
+  private void displayToolTip(MouseEvent event) {
+    Point2D cell = getCellAt(event.getX(), event.getY());
+    if (myTooltipGrid == null || cell == null || myMainController.isEditing()
+        || myMainController.isPlaying()) {
+      hideToolTip();
+      return;
+    }
+    if (!cell.equals(myTooltipCell)) { // only move the tooltip when the mouse enters a new cell
+      if (myTooltip == null) {
+        myTooltip = new Tooltip();
+        myTooltip.setStyle("-fx-background-color: -fx-light; -fx-text-fill: -fx-secondary;");
+      }
+      myTooltipCell = cell;
+      int state = myTooltipGrid.getState((int) cell.getX(), (int) cell.getY());
+      myTooltip.setText(String.format(getMessage("STATE_PREFIX"),
+          myTooltipStates.getDisplayName(state)));
+      myTooltip.show(this, event.getScreenX(), event.getScreenY() + ELEMENT_SPACING * 3);
+    }
   }
 
-  private void displayToolTip(int row, int col, Grid grid, Simulation simulation, MouseEvent event,
-      Tooltip tooltip, Shape cellShape) {
-    if (!myMainController.isEditing() && !myMainController.isPlaying()) {
-      Cell cell = grid.getCell(row, col);
-      StateInfo info = StateDisplayConfig.getStateInfo(simulation, cell.getState());
-      tooltip.setText(String.format(getMessage("STATE_PREFIX"), info.displayName()));
-      tooltip.setStyle("-fx-background-color: -fx-light; -fx-text-fill: -fx-secondary;");
-      tooltip.show(cellShape, event.getScreenX(), event.getScreenY() + ELEMENT_SPACING * 3);
+  private void hideToolTip() {
+    if (myTooltip != null) {
+      myTooltip.hide();
     }
+    myTooltipCell = null;
   }
 }
@@ -1,5 +1,7 @@
 package cellsociety.view.grid;
 
+import static cellsociety.config.MainConfig.MAX_SHAPE_GRID_CELLS;
+
 import cellsociety.controller.MainController;
 
 /**
@@ -31,7 +33,7 @@ public class GridViewFactory {
 
   /**
    * Factory method to create a GridView object based on the provided shape type and initialization
-   * information
+   * information. Rectangle grids with more cells than can be drawn as shapes are drawn as pixels.
    *
    * @param shapeType Type of cell shape (RECTANGLE, HEXAGON, TRIANGLE.)
    * @param width Width of the cell
@@ -42,7 +44,9 @@ public class GridViewFactory {
       int numColumns,
       MainController mainController) {
     return switch (shapeType) {
-      case RECTANGLE -> new RectangleGridView(width, height, numRows, numColumns, mainController);
+      case RECTANGLE -> (long) numRows * numColumns > MAX_SHAPE_GRID_CELLS
+          ? new PixelGridView(width, height, numRows, numColumns, mainController)
+          : new RectangleGridView(width, height, numRows, numColumns, mainController);
       case HEXAGON -> new HexagonGridView(width, height, numRows, numColumns, mainController);
       case TRIANGLE -> new TriangleGridView(width, height, numRows, numColumns, mainController);
     };
@@ -3,13 +3,14 @@ package cellsociety.view.grid;
 import cellsociety.controller.MainController;
 import cellsociety.view.cell.CellView;
 import cellsociety.view.cell.HexagonCellView;
+import java.awt.geom.Point2D;
 
 /**
  * A hexagon grid implementation.
  *
  * @author Owen Jennings
  */
-public class HexagonGridView extends GridView {
+public class HexagonGridView extends ShapeGridView {
   // I asked ChatGPT for assistance in writing this class
   // I modified multiple of the constants and applied math ceiling to ensure that grid fits within provided area on screen and does not overflow area
   // getRow and getColumn translate a point into our vertical and horizontal spacing to get correct row and column for provided point
@@ -39,6 +40,28 @@ public class HexagonGridView extends GridView {
     return grid;
   }
 
+  @Override
+  protected Point2D getCellAt(double x, double y) {
+    // measured in radii every hexagon is regular with radius one, with centers 1.5 apart across
+    // columns and sqrt(3) apart down a column, so only the nearest row of two columns can hold it
+    double pointX = x / (getHexagonWidth() / 2);
+    double pointY = y / (getHexagonHeight() / 2);
+    double rowSpacing = Math.sqrt(3);
+    int lastColumn = (int) Math.floor(pointX / 1.5);
+    for (int column = lastColumn - 1; column <= lastColumn; column++) {
+      double offsetY = isOdd(column) ? rowSpacing / 2 : 0;
+      int row = (int) Math.round((pointY - 1 - offsetY) / rowSpacing);
+      double fromCenterX = Math.abs(pointX - (column * 1.5 + 1));
+      double fromCenterY = Math.abs(pointY - (row * rowSpacing + offsetY + 1));
+      Point2D cell = toCell(row, column);
+      if (cell != null && fromCenterY <= rowSpacing / 2
+          && rowSpacing * fromCenterX + fromCenterY <= rowSpacing) {
+        return cell;
+      }
+    }
+    return null;
+  }
+
   private void initializeAllCellViews(double horizontalSpacing, double verticalSpacing,
       CellView[][] grid,
       double hexWidth, double hexHeight) {
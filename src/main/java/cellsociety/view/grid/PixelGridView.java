@@ -0,0 +1,222 @@
+package cellsociety.view.grid;
+
+import cellsociety.controller.MainController;
+import cellsociety.view.cell.CellView;
+import cellsociety.view.config.StateRegistry;
+import java.awt.geom.Point2D;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import javafx.application.Platform;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ * A rectangle grid view that draws every cell as one pixel of an image stretched over the view, so
+ * drawing a grid costs one node however many cells it has. Colors are converted once into an ARGB
+ * palette, and each repaint only writes the pixels of cells that changed since the last repaint and
+ * only uploads the region that holds them.
+ * <p>
+ * Cells changed during a pulse are repainted together once the current event has been handled.
+ * Grid lines are only drawn when cells are far enough apart that the lines do not hide them.
+ *
+ * @author Owen Jennings
+ */
+public class PixelGridView extends GridView {
+
+  private static final int MAX_CHANNEL = 0xff;
+  private static final int INITIAL_CHANGES = 1024;
+  private static final double MIN_GRID_LINE_SPACING = 3;
+  private final int[] myFills;
+  private final byte[] myOpacities;
+  private final IntBuffer myPixels;
+  private final PixelBuffer<IntBuffer> myPixelBuffer;
+  private final ImageView myImageView;
+  private final Map<Paint, Integer> myPalette = new HashMap<>();
+  private int[] myChangedCells = new int[INITIAL_CHANGES];
+  private int myNumberChanged;
+  private boolean isRepaintingAll;
+  private boolean isRepaintScheduled;
+
+  /**
+   * Create a grid view.
+   *
+   * @param width          Width of the view
+   * @param height         Height of the view
+   * @param numRows        Number of rows in the grid
+   * @param numColumns     Number of cells per row in the grid
+   * @param mainController The main controller of this grid
+   */
+  public PixelGridView(int width, int height, int numRows, int numColumns,
+      MainController mainController) {
+    super(width, height, numRows, numColumns, mainController);
+    int numCells = numRows * numColumns;
+    myFills = new int[numCells];
+    Arrays.fill(myFills, toArgb(CellView.DEFAULT_COLOR));
+    myOpacities = new byte[numCells];
+    Arrays.fill(myOpacities, (byte) MAX_CHANNEL);
+    myPixels = ByteBuffer.allocateDirect(numCells * Integer.BYTES).order(ByteOrder.nativeOrder())
+        .asIntBuffer();
+    for (int index = 0; index < numCells; index++) {
+      myPixels.put(index, toPixel(myFills[index], MAX_CHANNEL));
+    }
+    myPixelBuffer = new PixelBuffer<>(numColumns, numRows, myPixels,
+        PixelFormat.getIntArgbPreInstance());
+    myImageView = new ImageView(new WritableImage(myPixelBuffer));
+    myImageView.setFitWidth(width);
+    myImageView.setFitHeight(height);
+    myImageView.setSmooth(false);
+    getChildren().add(myImageView);
+    addGridLines();
+  }
+
+  /**
+   * Pixel grids have no cell views.
+   *
+   * @param row The row you are querying
+   * @param col The column you are querying
+   * @return null
+   */
+  @Override
+  public CellView getCell(int row, int col) {
+    return null;
+  }
+
+  @Override
+  public void setColor(int row, int col, Paint color) {
+    setFill(row * getNumColumns() + col, myPalette.computeIfAbsent(color, PixelGridView::toArgb));
+  }
+
+  /**
+   * Set the color of a cell to the packed color of a state, which needs no palette lookup.
+   *
+   * @param row      The row of the cell
+   * @param col      The column of the cell
+   * @param state    The state whose color the cell is drawn with
+   * @param registry The state registry of the simulation
+   */
+  @Override
+  public void setStateColor(int row, int col, int state, StateRegistry registry) {
+    setFill(row * getNumColumns() + col, registry.getArgbColor(state));
+  }
+
+  @Override
+  public void setOpacity(int row, int col, double nextOpacity) {
+    int index = row * getNumColumns() + col;
+    byte opacity = (byte) Math.round(nextOpacity * MAX_CHANNEL);
+    if (myOpacities[index] != opacity) { // only repaint if opacity changed
+      myOpacities[index] = opacity;
+      markChanged(index);
+    }
+  }
+
+  @Override
+  protected String createGridLines() {
+    double cellWidth = (double) getWidth() / getNumColumns();
+    double cellHeight = (double) getHeight() / getNumRows();
+    if (cellWidth < MIN_GRID_LINE_SPACING || cellHeight < MIN_GRID_LINE_SPACING) {
+      return "";
+    }
+    return createRectangleGridLines(cellWidth, cellHeight);
+  }
+
+  @Override
+  protected Point2D getCellAt(double x, double y) {
+    if (x < 0 || y < 0) {
+      return null;
+    }
+    return toCell((int) (y * getNumRows() / getHeight()), (int) (x * getNumColumns() / getWidth()));
+  }
+
+  private void setFill(int index, int fill) {
+    if (myFills[index] != fill) { // only repaint if color changed
+      myFills[index] = fill;
+      markChanged(index);
+    }
+  }
+
+  private void markChanged(int index) {
+    if (!isRepaintingAll) {
+      if (myNumberChanged == myChangedCells.length) {
+        if (myChangedCells.length >= myFills.length) {
+          isRepaintingAll = true; // more changes than cells, so repaint every cell instead
+        } else {
+          myChangedCells = Arrays.copyOf(myChangedCells,
+              Math.min(myChangedCells.length * 2, myFills.length));
+        }
+      }
+      if (!isRepaintingAll) {
+        myChangedCells[myNumberChanged++] = index;
+      }
+    }
+    if (!isRepaintScheduled) {
+      isRepaintScheduled = true;
+      Platform.runLater(this::repaintChangedCells);
+    }
+  }
+
+  private void repaintChangedCells() {
+    myPixelBuffer.updateBuffer(pixelBuffer -> isRepaintingAll ? repaintAll() : repaintChanges());
+    myNumberChanged = 0;
+    isRepaintingAll = false;
+    isRepaintScheduled = false;
+  }
+
+  // pixels may only be written while the pixel buffer is being updated
+  private Rectangle2D repaintChanges() {
+    int numColumns = getNumColumns();
+    int minRow = Integer.MAX_VALUE;
+    int minCol = Integer.MAX_VALUE;
+    int maxRow = -1;
+    int maxCol = -1;
+    for (int change = 0; change < myNumberChanged; change++) {
+      int index = myChangedCells[change];
+      repaint(index);
+      int row = index / numColumns;
+      int col = index % numColumns;
+      minRow = Math.min(minRow, row);
+      maxRow = Math.max(maxRow, row);
+      minCol = Math.min(minCol, col);
+      maxCol = Math.max(maxCol, col);
+    }
+    if (maxRow < 0) {
+      return Rectangle2D.EMPTY;
+    }
+    return new Rectangle2D(minCol, minRow, maxCol - minCol + 1, maxRow - minRow + 1);
+  }
+
+  private Rectangle2D repaintAll() {
+    for (int index = 0; index < myFills.length; index++) {
+      repaint(index);
+    }
+    return null; // the whole image changed
+  }
+
+  private void repaint(int index) {
+    myPixels.put(index, toPixel(myFills[index], myOpacities[index] & MAX_CHANNEL));
+  }
+
+  private static int toArgb(Paint paint) {
+    return StateRegistry.toArgb(
+        (paint instanceof Color) ? (Color) paint : (Color) CellView.DEFAULT_COLOR);
+  }
+
+  // the pixel format is premultiplied, so every channel is scaled by the combined alpha
+  private static int toPixel(int fill, int opacity) {
+    int alpha = ((fill >>> 24) * opacity + MAX_CHANNEL / 2) / MAX_CHANNEL;
+    return (alpha << 24) | (premultiply(fill >> 16, alpha) << 16)
+        | (premultiply(fill >> 8, alpha) << 8) | premultiply(fill, alpha);
+  }
+
+  private static int premultiply(int channel, int alpha) {
+    return ((channel & MAX_CHANNEL) * alpha + MAX_CHANNEL / 2) / MAX_CHANNEL;
+  }
+}
@@ -3,13 +3,14 @@ package cellsociety.view.grid;
 import cellsociety.controller.MainController;
 import cellsociety.view.cell.CellView;
 import cellsociety.view.cell.RectangleCellView;
+import java.awt.geom.Point2D;
 
 /**
  * A rectangle grid implementation.
  *
  * @author Owen Jennings
  */
-public class RectangleGridView extends GridView {
+public class RectangleGridView extends ShapeGridView {
 
   /**
    * Create a grid view.
@@ -27,8 +28,8 @@ public class RectangleGridView extends GridView {
 
   @Override
   protected CellView[][] initializeGrid() {
-    int cellWidth = getWidth() / getNumColumns();
-    int cellHeight = getHeight() / getNumRows();
+    int cellWidth = getCellWidth();
+    int cellHeight = getCellHeight();
     CellView[][] grid = new CellView[getNumRows()][getNumColumns()];
     for (int row = 0; row < getNumRows(); row++) {
       for (int column = 0; column < getNumColumns(); column++) {
@@ -39,4 +40,25 @@ public class RectangleGridView extends GridView {
     }
     return grid;
   }
+
+  @Override
+  protected String createGridLines() {
+    return createRectangleGridLines(getCellWidth(), getCellHeight());
+  }
+
+  @Override
+  protected Point2D getCellAt(double x, double y) {
+    if (x < 0 || y < 0 || getCellWidth() == 0 || getCellHeight() == 0) {
+      return null;
+    }
+    return toCell((int) (y / getCellHeight()), (int) (x / getCellWidth()));
+  }
+
+  private int getCellWidth() {
+    return getWidth() / getNumColumns();
+  }
+
+  private int getCellHeight() {
+    return getHeight() / getNumRows();
+  }
 }
@@ -0,0 +1,96 @@
+package cellsociety.view.grid;
+
+import cellsociety.controller.MainController;
+import cellsociety.view.cell.CellView;
+import java.util.List;
+import javafx.geometry.Point2D;
+import javafx.scene.paint.Paint;
+
+/**
+ * A grid view that draws every cell as its own cell view, so cells can take any shape.
+ *
+ * @author Owen Jennings
+ */
+public abstract class ShapeGridView extends GridView {
+
+  private final CellView[][] myGrid;
+
+  /**
+   * Create a grid view.
+   *
+   * @param width          Width of the view
+   * @param height         Height of the view
+   * @param numRows        Number of rows in the grid
+   * @param numColumns     Number of cells per row in the grid
+   * @param mainController : Main controller of the program
+   */
+  public ShapeGridView(int width, int height, int numRows, int numColumns,
+      MainController mainController) {
+    super(width, height, numRows, numColumns, mainController);
+    myGrid = initializeGrid();
+    addGridElementsToGroup();
+    addGridLines();
+  }
+
+  /**
+   * Initialize the grid's cells array. This method should handle the placement of cell views based
+   * on their shape. For example, this method for a triangular grid should stagger isometric
+   * triangles flipping every other column's triangle by 180 degrees.
+   *
+   * @return A 2D array of cell views representing the grid.
+   */
+  protected abstract CellView[][] initializeGrid();
+
+  @Override
+  public CellView getCell(int row, int col) {
+    return myGrid[row][col];
+  }
+
+  @Override
+  public void setColor(int row, int col, Paint color) {
+    if (myGrid[row][col] != null && !myGrid[row][col].getFill()
+        .equals(color)) { // only update color if different
+      myGrid[row][col].setFill(color);
+    }
+  }
+
+  /**
+   * Create grid lines that outline every cell.
+   *
+   * @return The outlines of all cells as SVG path data
+   */
+  @Override
+  protected String createGridLines() {
+    StringBuilder gridLines = new StringBuilder();
+    for (int row = 0; row < getNumRows(); row++) {
+      for (int col = 0; col < getNumColumns(); col++) {
+        if (myGrid[row][col] == null) {
+          continue;
+        }
+        List<Point2D> corners = myGrid[row][col].getCorners();
+        for (int corner = 0; corner < corners.size(); corner++) {
+          gridLines.append(corner == 0 ? "M" : "L").append(round(corners.get(corner).getX()))
+              .append(' ').append(round(corners.get(corner).getY()));
+        }
+        gridLines.append('Z');
+      }
+    }
+    return gridLines.toString();
+  }
+
+  @Override
+  public void setOpacity(int row, int col, double nextOpacity) {
+    if (myGrid[row][col] != null
+        && myGrid[row][col].getOpacity() != nextOpacity) { // only update opacity if changed
+      myGrid[row][col].setOpacity(nextOpacity);
+    }
+  }
+
+  private void addGridElementsToGroup() {
+    for (int row = 0; row < getNumRows(); row++) {
+      for (int column = 0; column < getNumColumns(); column++) {
+        this.getChildren().add(myGrid[row][column]);
+      }
+    }
+  }
+}
@@ -3,13 +3,14 @@ package cellsociety.view.grid;
 import cellsociety.controller.MainController;
 import cellsociety.view.cell.CellView;
 import cellsociety.view.cell.TriangleCellView;
+import java.awt.geom.Point2D;
 
 /**
  * An isometric triangle grid representation implementation.
  *
  * @author Owen Jennings
  */
-public class TriangleGridView extends GridView {
+public class TriangleGridView extends ShapeGridView {
 
   /**
    * Create a grid view.
@@ -33,6 +34,24 @@ public class TriangleGridView extends GridView {
     return grid;
   }
 
+  @Override
+  protected Point2D getCellAt(double x, double y) {
+    // each triangle spans two half-width columns, so a point is in one of two triangles of its row
+    double halfWidth = getCellWidth() / 2;
+    int row = (int) Math.floor(y / getCellHeight());
+    double depth = y / getCellHeight() - row; // 0 at the top of the row and 1 at its bottom
+    int lastColumn = (int) Math.floor(x / halfWidth);
+    for (int col = lastColumn - 1; col <= lastColumn; col++) {
+      double fromCenter = Math.abs(x / halfWidth - (col + 1)); // 0 at the apex and 1 at a corner
+      double widthAtDepth = sumIsOdd(col, row) ? 1 - depth : depth; // odd triangles point down
+      Point2D cell = toCell(row, col);
+      if (cell != null && fromCenter <= widthAtDepth) {
+        return cell;
+      }
+    }
+    return null;
+  }
+
   private void initializeAllCellViews(CellView[][] grid) {
     for (int row = 0; row < getNumRows(); row++) {
       for (int col = 0; col < getNumColumns(); col++) {
@@ -0,0 +1,62 @@
+package cellsociety.config;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import cellsociety.model.simulation.rules.RuleTableRules;
+import cellsociety.model.xml.XMLHandler;
+import cellsociety.utility.FileUtility;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RegistryConfigTest {
+
+  private static final String SOURCE_PATH = "src/main/java/cellsociety/model/simulation/";
+  private static final String RESOURCES_PATH = "src/main/resources/cellsociety/";
+  private static final String RULE_TABLES_PATH = "src/main/resources/simulations/Rule Tables/";
+
+  @Test
+  void simulations_SourceCheckout_ListsEveryRulesClass() {
+    assertEquals(FileUtility.getFileNamesInDirectory(SOURCE_PATH + "rules/", "Rules.java"),
+        sorted(RegistryConfig.SIMULATIONS));
+  }
+
+  @Test
+  void neighborTypes_SourceCheckout_ListsEveryNeighborsClass() {
+    assertEquals(FileUtility.getFileNamesInDirectory(SOURCE_PATH + "neighbors/", "Neighbors.java"),
+        sorted(RegistryConfig.NEIGHBOR_TYPES));
+  }
+
+  @Test
+  void languagesAndThemes_SourceCheckout_ListsEveryFile() {
+    assertEquals(FileUtility.getFileNamesInDirectory(RESOURCES_PATH + "languages/", ".properties"),
+        sorted(RegistryConfig.LANGUAGES));
+    assertEquals(FileUtility.getFileNamesInDirectory(RESOURCES_PATH + "themes/", ".css"),
+        sorted(RegistryConfig.THEMES));
+  }
+
+  @Test
+  void simulations_EveryName_HasRulesAndCellFactory() {
+    for (String simulation : RegistryConfig.SIMULATIONS) {
+      assertDoesNotThrow(() -> Class.forName(
+          "cellsociety.model.simulation.rules.%sRules".formatted(simulation)));
+      assertDoesNotThrow(() -> SimulationConfig.getCellFactory(simulation).createCell(0, 0, 0));
+    }
+  }
+
+  @Test
+  void ruleTableConfigurations_PackagedFiles_LoadRuleFilesFromClasspath() throws Exception {
+    List<String> configurations = FileUtility.getFileNamesInDirectory(RULE_TABLES_PATH, ".xml");
+    assertFalse(configurations.isEmpty());
+    for (String configuration : configurations) {
+      XMLHandler xmlHandler = new XMLHandler(RULE_TABLES_PATH + configuration + ".xml");
+      assertInstanceOf(RuleTableRules.class, xmlHandler.getSim().rules());
+    }
+  }
+
+  private List<String> sorted(List<String> names) {
+    return names.stream().sorted().toList();
+  }
+}
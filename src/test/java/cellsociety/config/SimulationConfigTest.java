@@ -2,10 +2,12 @@ package cellsociety.config;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import cellsociety.model.cell.Cell;
 import cellsociety.model.cell.DefaultCell;
 import cellsociety.model.cell.WaTorWorldCell;
 import cellsociety.model.simulation.Parameter;
 import cellsociety.model.simulation.SimulationMetaData;
+import java.awt.geom.Point2D;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +42,26 @@ class SimulationConfigTest {
         () -> SimulationConfig.getNewCell(0, 0, 0, simulationName));
   }
 
+  @Test
+  void getCellFactory_SameSimulation_ReturnsCachedFactory() {
+    assertSame(SimulationConfig.getCellFactory("GameOfLife"),
+        SimulationConfig.getCellFactory("GameOfLife"));
+  }
+
+  @Test
+  void getCellFactory_WaTorWorld_CreatesCellsAtLocation() {
+    Cell cell = SimulationConfig.getCellFactory("WaTorWorld").createCell(3, 4, 2);
+    assertInstanceOf(WaTorWorldCell.class, cell);
+    assertEquals(new Point2D.Double(3, 4), cell.getLocation());
+    assertEquals(2, cell.getState());
+  }
+
+  @Test
+  void getCellFactory_InvalidSimulation_Exception() {
+    assertThrows(IllegalArgumentException.class,
+        () -> SimulationConfig.getCellFactory("DummySimulation"));
+  }
+
   @Test
   void getNewSimulation_UnknownSimulation_Exception() {
     String simulationName = "UnknownSimulation";
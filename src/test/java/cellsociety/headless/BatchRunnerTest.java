@@ -0,0 +1,186 @@
+package cellsociety.headless;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cellsociety.model.Grid;
+import cellsociety.headless.BatchRunner.Engine;
+import cellsociety.model.edge.FixedEdgeStrategy;
+import cellsociety.model.edge.MirrorEdgeStrategy;
+import cellsociety.model.edge.ToroidalEdgeStrategy;
+import cellsociety.model.engine.CycleDetector;
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.SimulationMetaData;
+import cellsociety.model.simulation.neighbors.MooreNeighbors;
+import cellsociety.model.simulation.rules.GameOfLifeRules;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import util.TestUtils;
+
+class BatchRunnerTest {
+
+  private static final String GLIDER_GUN_XML =
+      "src/main/resources/simulations/Game of Life/GosperGliderGun.xml";
+
+  @Test
+  void run_Blinker_WritesStatisticsAndFinalStates()
+      throws InvalidParameterException, IOException {
+    Grid grid = new Grid(5, 5, new FixedEdgeStrategy());
+    TestUtils.initializeGrid(grid, (row, col) -> (row == 2 && col > 0 && col < 4) ? 1 : 0);
+    Simulation simulation = new Simulation(
+        new GameOfLifeRules(new HashMap<>(), new MooreNeighbors(1)),
+        new SimulationMetaData("GameOfLife", "", "", "", "Moore", 1));
+    Path outputDirectory = Files.createTempDirectory("batch");
+
+    BatchResult result = new BatchRunner(grid, simulation).run(3, outputDirectory);
+
+    assertEquals(3, result.steps());
+    assertEquals(75, result.cellUpdates());
+    assertEquals(12, result.changedCells());
+    List<String> statistics = Files.readAllLines(outputDirectory.resolve(
+        BatchRunner.STATISTICS_FILE));
+    assertEquals(5, statistics.size());
+    assertEquals("step,changedCells,nanos,state0,state1", statistics.get(0));
+    assertTrue(statistics.get(1).startsWith("0,0,0,"));
+    assertTrue(statistics.get(4).startsWith("3,4,"));
+    assertTrue(statistics.get(4).endsWith(",22,3"));
+    List<String> finalStates = Files.readAllLines(outputDirectory.resolve(
+        BatchRunner.FINAL_STATES_FILE));
+    assertEquals(List.of("0,0,0,0,0", "0,0,1,0,0", "0,0,1,0,0", "0,0,1,0,0", "0,0,0,0,0"),
+        finalStates);
+  }
+
+  @Test
+  void run_StopWhenRepeating_EndsAfterBlinkerPeriod()
+      throws InvalidParameterException, IOException {
+    Grid grid = new Grid(5, 5, new FixedEdgeStrategy());
+    TestUtils.initializeGrid(grid, (row, col) -> (row == 2 && col > 0 && col < 4) ? 1 : 0);
+    grid.setCycleDetection(CycleDetector.DEFAULT_HISTORY_SIZE);
+    Simulation simulation = new Simulation(
+        new GameOfLifeRules(new HashMap<>(), new MooreNeighbors(1)),
+        new SimulationMetaData("GameOfLife", "", "", "", "Moore", 1));
+    BatchRunner runner = new BatchRunner(grid, simulation);
+    runner.setStopCondition(StopCondition.whenRepeating());
+
+    BatchResult result = runner.run(100, Files.createTempDirectory("batch"));
+
+    assertEquals(2, result.steps());
+    assertEquals(2, grid.getRepeatPeriod());
+  }
+
+  @Test
+  void run_BitPackedEngineGliderGun_WritesSameStatisticsAndStatesAsGrid() throws Exception {
+    Path gridDirectory = Files.createTempDirectory("batch");
+    Path engineDirectory = Files.createTempDirectory("batch");
+    BatchResult gridResult = BatchRunner.fromXml(GLIDER_GUN_XML).run(40, gridDirectory);
+    BatchRunner engineRunner = BatchRunner.fromXml(GLIDER_GUN_XML);
+    engineRunner.setEngine(Engine.BIT_PACKED);
+
+    BatchResult engineResult = engineRunner.run(40, engineDirectory);
+
+    assertEquals(gridResult.changedCells(), engineResult.changedCells());
+    assertEquals(Files.readAllLines(gridDirectory.resolve(BatchRunner.FINAL_STATES_FILE)),
+        Files.readAllLines(engineDirectory.resolve(BatchRunner.FINAL_STATES_FILE)));
+    List<String> gridStatistics = Files.readAllLines(
+        gridDirectory.resolve(BatchRunner.STATISTICS_FILE));
+    List<String> engineStatistics = Files.readAllLines(
+        engineDirectory.resolve(BatchRunner.STATISTICS_FILE));
+    assertEquals(gridStatistics.size(), engineStatistics.size());
+    for (int row = 1; row < gridStatistics.size(); row++) {
+      assertEquals(withoutNanos(gridStatistics.get(row)), withoutNanos(engineStatistics.get(row)));
+    }
+  }
+
+  @Test
+  void run_HashLifeEngineGlider_WritesOneRowPerJumpAndSameFinalStates()
+      throws InvalidParameterException, IOException {
+    Simulation simulation = new Simulation(
+        new GameOfLifeRules(new HashMap<>(), new MooreNeighbors(1)),
+        new SimulationMetaData("GameOfLife", "", "", "", "Moore", 1));
+    Path gridDirectory = Files.createTempDirectory("batch");
+    Path engineDirectory = Files.createTempDirectory("batch");
+    new BatchRunner(createGliderGrid(), simulation).run(13, gridDirectory);
+    BatchRunner engineRunner = new BatchRunner(createGliderGrid(), simulation);
+    engineRunner.setEngine(Engine.HASH_LIFE);
+
+    BatchResult result = engineRunner.run(13, engineDirectory);
+
+    assertEquals(13, result.steps());
+    assertEquals(Files.readAllLines(gridDirectory.resolve(BatchRunner.FINAL_STATES_FILE)),
+        Files.readAllLines(engineDirectory.resolve(BatchRunner.FINAL_STATES_FILE)));
+    List<String> statistics = Files.readAllLines(
+        engineDirectory.resolve(BatchRunner.STATISTICS_FILE));
+    assertEquals(5, statistics.size());
+    assertTrue(statistics.get(2).startsWith("8,,"));
+    assertTrue(statistics.get(3).startsWith("12,,"));
+    assertTrue(statistics.get(4).startsWith("13,,"));
+    assertTrue(statistics.get(4).endsWith(",251,5"));
+  }
+
+  @Test
+  void run_HashLifeEngineGliderLeavesGrid_ThrowsException() throws InvalidParameterException {
+    Simulation simulation = new Simulation(
+        new GameOfLifeRules(new HashMap<>(), new MooreNeighbors(1)),
+        new SimulationMetaData("GameOfLife", "", "", "", "Moore", 1));
+    BatchRunner runner = new BatchRunner(createGliderGrid(), simulation);
+    runner.setEngine(Engine.HASH_LIFE);
+    // after 64 generations the glider has moved 16 cells down and to the right, off the grid
+    assertThrows(IllegalStateException.class,
+        () -> runner.run(64, Files.createTempDirectory("batch")));
+  }
+
+  @Test
+  void setEngine_HashLifeToroidalGrid_ThrowsException() throws InvalidParameterException {
+    Simulation simulation = new Simulation(
+        new GameOfLifeRules(new HashMap<>(), new MooreNeighbors(1)),
+        new SimulationMetaData("GameOfLife", "", "", "", "Moore", 1));
+    BatchRunner runner = new BatchRunner(new Grid(5, 5, new ToroidalEdgeStrategy()), simulation);
+    assertThrows(IllegalArgumentException.class, () -> runner.setEngine(Engine.HASH_LIFE));
+  }
+
+  @Test
+  void setEngine_BitPackedMirrorGrid_ThrowsException() throws InvalidParameterException {
+    Simulation simulation = new Simulation(
+        new GameOfLifeRules(new HashMap<>(), new MooreNeighbors(1)),
+        new SimulationMetaData("GameOfLife", "", "", "", "Moore", 1));
+    BatchRunner runner = new BatchRunner(new Grid(5, 5, new MirrorEdgeStrategy()), simulation);
+    assertThrows(IllegalArgumentException.class, () -> runner.setEngine(Engine.BIT_PACKED));
+  }
+
+  @Test
+  void run_BitPackedEngineWithStopCondition_ThrowsException() throws Exception {
+    BatchRunner runner = BatchRunner.fromXml(GLIDER_GUN_XML);
+    runner.setEngine(Engine.BIT_PACKED);
+    runner.setStopCondition(StopCondition.whenStable());
+    assertThrows(IllegalArgumentException.class,
+        () -> runner.run(10, Files.createTempDirectory("batch")));
+  }
+
+  @Test
+  void fromXml_GliderGun_StepsLikeTheLoadedGrid() throws Exception {
+    BatchRunner runner = BatchRunner.fromXml(GLIDER_GUN_XML);
+    BatchResult result = runner.run(30, Files.createTempDirectory("batch"));
+    Grid grid = runner.getGrid();
+    assertEquals(30L * grid.getRows() * grid.getCols(), result.cellUpdates());
+    assertTrue(result.getCellUpdatesPerSecond() > 0);
+  }
+
+  private Grid createGliderGrid() {
+    Grid grid = new Grid(16, 16, new FixedEdgeStrategy());
+    TestUtils.initializeEmptyGrid(grid);
+    TestUtils.setAliveCells(grid, new int[][]{{0, 1}, {1, 2}, {2, 0}, {2, 1}, {2, 2}});
+    return grid;
+  }
+
+  private String withoutNanos(String statisticsRow) {
+    String[] columns = statisticsRow.split(",");
+    columns[2] = "";
+    return String.join(",", columns);
+  }
+}
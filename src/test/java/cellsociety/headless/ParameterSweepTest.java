@@ -0,0 +1,156 @@
+package cellsociety.headless;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cellsociety.model.Grid;
+import cellsociety.model.edge.FixedEdgeStrategy;
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.Parameter;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.SimulationMetaData;
+import cellsociety.model.simulation.neighbors.MooreNeighbors;
+import cellsociety.model.simulation.neighbors.VonNeumannNeighbors;
+import cellsociety.model.simulation.rules.GameOfLifeRules;
+import cellsociety.model.simulation.rules.SpreadingOfFireRules;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import util.TestUtils;
+
+class ParameterSweepTest {
+
+  private ParameterSweep mySweep;
+
+  @BeforeEach
+  void setUp() throws InvalidParameterException {
+    Grid grid = new Grid(10, 10, new FixedEdgeStrategy());
+    TestUtils.initializeGrid(grid, (row, col) -> (row == 5 && col == 5) ? 2 : 1);
+    Map<String, Parameter<?>> parameters = new HashMap<>();
+    parameters.put(SpreadingOfFireRules.GROW_IN_EMPTY_CELL, new Parameter<>("0"));
+    parameters.put(SpreadingOfFireRules.IGNITION_WITHOUT_NEIGHBORS, new Parameter<>("0"));
+    Simulation simulation = new Simulation(
+        new SpreadingOfFireRules(parameters, new VonNeumannNeighbors(1)),
+        new SimulationMetaData("SpreadingOfFire", "", "", "", "VonNeumann", 1));
+    mySweep = new ParameterSweep(grid, simulation);
+  }
+
+  @Test
+  void addRange_DecimalIncrement_IncludesEndValue() {
+    mySweep.addRange(SpreadingOfFireRules.GROW_IN_EMPTY_CELL, 0, 1, 0.1);
+    assertEquals(11, mySweep.getNumberRuns());
+    mySweep.addValues(SpreadingOfFireRules.IGNITION_WITHOUT_NEIGHBORS, List.of("0", "0.5"));
+    assertEquals(22, mySweep.getNumberRuns());
+    assertThrows(IllegalArgumentException.class,
+        () -> mySweep.addRange(SpreadingOfFireRules.GROW_IN_EMPTY_CELL, 1, 0, 0.1));
+  }
+
+  @Test
+  void run_EveryCombination_ResultsOrderedByRun()
+      throws ExecutionException, InterruptedException {
+    mySweep.addValues(SpreadingOfFireRules.GROW_IN_EMPTY_CELL, List.of("0", "0.5"));
+    mySweep.addValues(SpreadingOfFireRules.IGNITION_WITHOUT_NEIGHBORS, List.of("0", "0.1", "2"));
+    mySweep.setSeed(7);
+
+    List<SweepResult> results = mySweep.run(20, 3);
+
+    assertEquals(6, results.size());
+    for (int run = 0; run < results.size(); run++) {
+      assertEquals(run, results.get(run).run());
+    }
+    assertEquals(Map.of(SpreadingOfFireRules.GROW_IN_EMPTY_CELL, "0.5",
+        SpreadingOfFireRules.IGNITION_WITHOUT_NEIGHBORS, "0.1"), results.get(3).parameters());
+    assertFalse(results.get(4).isSuccessful(), "An ignition probability of 2 is invalid");
+    assertFalse(results.get(5).isSuccessful());
+    assertTrue(results.get(0).isSuccessful());
+    assertEquals(20, results.get(0).steps());
+    int cells = results.get(0).stateCounts().stream().mapToInt(Integer::intValue).sum();
+    assertEquals(100, cells);
+  }
+
+  @Test
+  void run_SameSeed_SameResultsForAnyParallelism()
+      throws ExecutionException, InterruptedException {
+    mySweep.addValues(SpreadingOfFireRules.GROW_IN_EMPTY_CELL, List.of("0.1", "0.3"));
+    mySweep.addValues(SpreadingOfFireRules.IGNITION_WITHOUT_NEIGHBORS, List.of("0.01", "0.2"));
+    mySweep.setSeed(42);
+
+    List<SweepResult> sequential = mySweep.run(30, 1);
+    List<SweepResult> parallel = mySweep.run(30, 4);
+
+    for (int run = 0; run < sequential.size(); run++) {
+      assertEquals(sequential.get(run).stateCounts(), parallel.get(run).stateCounts());
+    }
+  }
+
+  @Test
+  void run_ParallelUpdate_SameResultsAsSequentialUpdate()
+      throws ExecutionException, InterruptedException {
+    mySweep.addValues(SpreadingOfFireRules.GROW_IN_EMPTY_CELL, List.of("0.1", "0.3"));
+    mySweep.addValues(SpreadingOfFireRules.IGNITION_WITHOUT_NEIGHBORS, List.of("0.01"));
+    mySweep.setSeed(42);
+    List<SweepResult> sequential = mySweep.run(30, 2);
+    ForkJoinPool pool = new ForkJoinPool(3);
+    mySweep.setParallelUpdate(pool);
+
+    List<SweepResult> parallel = mySweep.run(30, 2);
+
+    pool.shutdown();
+    for (int run = 0; run < sequential.size(); run++) {
+      assertEquals(sequential.get(run).stateCounts(), parallel.get(run).stateCounts());
+    }
+  }
+
+  @Test
+  void run_FrontierUpdate_SameResultsAsFullUpdate()
+      throws InvalidParameterException, ExecutionException, InterruptedException {
+    Grid grid = new Grid(12, 12, new FixedEdgeStrategy());
+    Random random = new Random(12);
+    TestUtils.initializeGrid(grid, (row, col) -> random.nextInt(2));
+    Simulation simulation = new Simulation(
+        new GameOfLifeRules(new HashMap<>(), new MooreNeighbors(1)),
+        new SimulationMetaData("GameOfLife", "", "", "", "Moore", 1));
+    ParameterSweep sweep = new ParameterSweep(grid, simulation);
+    sweep.addValues(GameOfLifeRules.RULE_STRING, List.of("B3/S23", "B36/S23", "B2/S"));
+
+    List<SweepResult> fullResults = sweep.run(25, 2);
+    sweep.setFrontierUpdate(true);
+    List<SweepResult> frontierResults = sweep.run(25, 2);
+
+    for (int run = 0; run < fullResults.size(); run++) {
+      assertTrue(frontierResults.get(run).isSuccessful());
+      assertEquals(fullResults.get(run).stateCounts(), frontierResults.get(run).stateCounts());
+      assertEquals(fullResults.get(run).repeatPeriod(), frontierResults.get(run).repeatPeriod());
+    }
+  }
+
+  @Test
+  void run_StableStopCondition_StopsWhenFireBurnsOut()
+      throws ExecutionException, InterruptedException, IOException {
+    mySweep.addValues(SpreadingOfFireRules.GROW_IN_EMPTY_CELL, List.of("0"));
+    mySweep.setStopCondition(StopCondition.whenStable());
+
+    List<SweepResult> results = mySweep.run(1000, 2);
+
+    assertTrue(results.get(0).stopped());
+    assertTrue(results.get(0).steps() < 1000);
+    assertEquals(0, (int) results.get(0).stateCounts().get(2));
+    assertEquals(1, results.get(0).repeatPeriod(), "A burned out forest is a still life");
+    Path output = Files.createTempFile("sweep", ".csv");
+    mySweep.writeResults(results, output);
+    List<String> lines = Files.readAllLines(output);
+    assertEquals("run,growInEmptyCell,steps,stopped,period,nanos,state0,state1,state2,error",
+        lines.get(0));
+    assertTrue(lines.get(1).startsWith("0,0," + results.get(0).steps() + ",true,1,"));
+  }
+}
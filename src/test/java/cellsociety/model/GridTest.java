@@ -8,6 +8,8 @@ import cellsociety.model.simulation.Simulation;
 import cellsociety.model.simulation.SimulationMetaData;
 import cellsociety.model.simulation.neighbors.MooreNeighbors;
 import cellsociety.model.simulation.rules.GameOfLifeRules;
+import cellsociety.model.storage.CellStorageFactory.CellStorageType;
+import cellsociety.model.storage.ChangedCellList;
 import java.awt.geom.Point2D;
 import java.awt.geom.Point2D.Double;
 
@@ -20,10 +22,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import cellsociety.model.cell.Cell;
+import cellsociety.model.cell.CellUpdate;
 import cellsociety.model.cell.DefaultCell;
 import util.TestUtils;
 
@@ -192,4 +197,108 @@ class GridTest {
     assertFalse(myGrid.isWall(-1, 0));
     assertFalse(myGrid.isWall(1, 1)); // valid point that isn't a wall
   }
-}
\ No newline at end of file
+
+  @Test
+  void updateGrid_DenseStorage_MatchesMapStorage() {
+    Grid denseGrid = new Grid(myNumRows, myNumCols, new ToroidalEdgeStrategy(),
+        CellStorageType.DENSE);
+    Grid mapGrid = new Grid(myNumRows, myNumCols, new ToroidalEdgeStrategy(),
+        CellStorageType.MAP);
+    TestUtils.initializeEmptyGrid(denseGrid);
+    TestUtils.initializeEmptyGrid(mapGrid);
+    for (Grid grid : new Grid[]{denseGrid, mapGrid}) {
+      grid.updateCell(new DefaultCell(1, new Double(1, 0)));
+      grid.updateCell(new DefaultCell(1, new Double(1, 1)));
+      grid.updateCell(new DefaultCell(1, new Double(1, 2)));
+      grid.updateGrid(myGameOfLifeSimulation);
+    }
+    for (int row = 0; row < myNumRows; row++) {
+      for (int col = 0; col < myNumCols; col++) {
+        assertEquals(mapGrid.getCell(row, col).getState(), denseGrid.getCell(row, col).getState());
+        assertEquals(mapGrid.getState(row, col), denseGrid.getState(row, col));
+      }
+    }
+    assertEquals(CellStorageType.DENSE, denseGrid.getStorageType());
+  }
+
+  @Test
+  void updateGrid_DenseStorageBlinker_ReturnsChangedCellsOfBufferedStep() {
+    Grid denseGrid = new Grid(5, 5, new FixedEdgeStrategy(), CellStorageType.DENSE);
+    Grid mapGrid = new Grid(5, 5, new FixedEdgeStrategy(), CellStorageType.MAP);
+    Map<Point2D, Integer> expectedChanges = new HashMap<>();
+    for (Grid grid : new Grid[]{denseGrid, mapGrid}) {
+      TestUtils.initializeEmptyGrid(grid);
+      grid.updateCell(new DefaultCell(1, new Double(2, 1)));
+      grid.updateCell(new DefaultCell(1, new Double(2, 2)));
+      grid.updateCell(new DefaultCell(1, new Double(2, 3)));
+    }
+    for (CellUpdate update : mapGrid.updateGrid(myGameOfLifeSimulation)) {
+      expectedChanges.put(new Double(update.getRow(), update.getCol()), update.getState());
+    }
+
+    List<CellUpdate> updates = denseGrid.updateGrid(myGameOfLifeSimulation);
+
+    assertInstanceOf(ChangedCellList.class, updates);
+    assertEquals(4, updates.size());
+    Map<Point2D, Integer> changes = new HashMap<>();
+    for (CellUpdate update : updates) {
+      changes.put(new Double(update.getRow(), update.getCol()), update.getState());
+      assertEquals(update.getState(), denseGrid.getCell(update.getRow(), update.getCol())
+          .getState());
+    }
+    assertEquals(expectedChanges, changes);
+    assertEquals(1, denseGrid.getState(1, 2));
+    assertEquals(0, denseGrid.getState(2, 1));
+  }
+
+  @Test
+  void addCell_DenseToroidalGridCellPastLastColumn_RejectedWithoutChangingGrid() {
+    Grid grid = new Grid(myNumRows, myNumCols, new ToroidalEdgeStrategy(), CellStorageType.DENSE);
+    TestUtils.initializeEmptyGrid(grid);
+    long stateHash = grid.getStateHash();
+
+    assertFalse(grid.addCell(new DefaultCell(1, new Double(0, myNumCols))));
+    grid.updateCell(new DefaultCell(1, new Double(0, myNumCols)));
+
+    assertEquals(0, grid.getState(1, 0));
+    assertEquals(0, grid.getState(0, 0));
+    assertEquals(myNumRows * myNumCols, grid.getStateCount(0));
+    assertEquals(0, grid.getStateCount(1));
+    assertEquals(stateHash, grid.getStateHash());
+  }
+
+  @Test
+  void getStateCount_CellsAddedAndStepped_CountsEveryState() {
+    for (CellStorageType storageType : CellStorageType.values()) {
+      Grid grid = new Grid(myNumRows, myNumCols, new ToroidalEdgeStrategy(), storageType);
+      assertEquals(0, grid.getStateCounts().length);
+      TestUtils.initializeEmptyGrid(grid);
+      grid.updateCell(new DefaultCell(1, new Double(1, 0)));
+      grid.updateCell(new DefaultCell(1, new Double(1, 1)));
+      grid.updateCell(new DefaultCell(1, new Double(1, 2)));
+      assertEquals(13, grid.getStateCount(0));
+      assertEquals(3, grid.getStateCount(1));
+
+      grid.updateGrid(myGameOfLifeSimulation);
+      int[] counts = new int[2];
+      for (int row = 0; row < myNumRows; row++) {
+        for (int col = 0; col < myNumCols; col++) {
+          counts[grid.getState(row, col)]++;
+        }
+      }
+      assertEquals(counts[0], grid.getStateCount(0), storageType.toString());
+      assertEquals(counts[1], grid.getStateCount(1), storageType.toString());
+      assertEquals(0, grid.getStateCount(5));
+      assertEquals(0, grid.getStateCount(-1));
+
+      grid.getStateCounts()[0] = 100;
+      assertEquals(counts[0], grid.getStateCount(0), "Returned counts are a copy");
+    }
+  }
+
+  @Test
+  void getState_OutOfBounds_ReturnsNegativeOne() {
+    assertEquals(-1, myGrid.getState(-1, 0));
+    assertEquals(0, myGrid.getState(1, 1));
+  }
+}
@@ -0,0 +1,104 @@
+package cellsociety.model.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cellsociety.model.Grid;
+import cellsociety.model.edge.EdgeStrategy;
+import cellsociety.model.edge.FixedEdgeStrategy;
+import cellsociety.model.edge.MirrorEdgeStrategy;
+import cellsociety.model.edge.ToroidalEdgeStrategy;
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.Parameter;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.SimulationMetaData;
+import cellsociety.model.simulation.neighbors.MooreNeighbors;
+import cellsociety.model.simulation.rules.GameOfLifeRules;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import util.TestUtils;
+
+class BitPackedLifeEngineTest {
+
+  @Test
+  void step_Blinker_OscillatesWithPeriodTwo() throws InvalidParameterException {
+    Grid grid = createGrid(5, 5, new FixedEdgeStrategy(), new int[][]{{2, 1}, {2, 2}, {2, 3}});
+    BitPackedLifeEngine engine = new BitPackedLifeEngine(grid, createRules("B3/S23"));
+    engine.step();
+    assertEquals(1, engine.getState(1, 2));
+    assertEquals(1, engine.getState(3, 2));
+    assertEquals(0, engine.getState(2, 1));
+    assertEquals(4, engine.getChangedCells());
+    engine.step();
+    assertEquals(1, engine.getState(2, 1));
+    assertEquals(3, engine.getPopulation());
+    assertEquals(2, engine.getGeneration());
+  }
+
+  @Test
+  void step_RandomGridsAcrossWordBoundaries_MatchesGridUpdate() throws InvalidParameterException {
+    for (String ruleString : new String[]{"B3/S23", "B1357/S2468", "B2/S9"}) {
+      for (EdgeStrategy edgeStrategy : new EdgeStrategy[]{new FixedEdgeStrategy(),
+          new ToroidalEdgeStrategy()}) {
+        assertMatchesGridUpdate(9, 130, edgeStrategy, ruleString);
+      }
+    }
+  }
+
+  @Test
+  void writeToGrid_AfterSteps_GridHoldsEngineStates() throws InvalidParameterException {
+    Grid grid = createGrid(6, 6, new ToroidalEdgeStrategy(),
+        new int[][]{{0, 1}, {1, 2}, {2, 0}, {2, 1}, {2, 2}});
+    BitPackedLifeEngine engine = new BitPackedLifeEngine(grid, createRules("B3/S23"));
+    engine.step(24); // a glider returns to its starting position on a 6x6 torus
+    assertTrue(engine.writeToGrid(grid).isEmpty());
+    engine.step();
+    assertFalse(engine.writeToGrid(grid).isEmpty());
+    assertEquals(engine.getState(3, 1), grid.getCell(3, 1).getState());
+  }
+
+  @Test
+  void constructor_MirrorEdge_ThrowsException() {
+    Grid grid = createGrid(5, 5, new MirrorEdgeStrategy(), new int[0][0]);
+    assertThrows(IllegalArgumentException.class,
+        () -> new BitPackedLifeEngine(grid, createRules("B3/S23")));
+  }
+
+  private void assertMatchesGridUpdate(int rows, int cols, EdgeStrategy edgeStrategy,
+      String ruleString) throws InvalidParameterException {
+    Grid grid = new Grid(rows, cols, edgeStrategy);
+    Random random = new Random(rows * cols);
+    TestUtils.initializeGrid(grid, (row, col) -> random.nextInt(2));
+    GameOfLifeRules rules = createRules(ruleString);
+    Simulation simulation = new Simulation(rules,
+        new SimulationMetaData("GameOfLife", "", "", "", "Moore", 1));
+    BitPackedLifeEngine engine = new BitPackedLifeEngine(grid, rules);
+    for (int step = 0; step < 4; step++) {
+      int changedCells = grid.updateGrid(simulation).size();
+      engine.step();
+      assertEquals(changedCells, engine.getChangedCells());
+    }
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        assertEquals(grid.getCell(row, col).getState(), engine.getState(row, col));
+      }
+    }
+  }
+
+  private Grid createGrid(int rows, int cols, EdgeStrategy edgeStrategy, int[][] aliveCells) {
+    Grid grid = new Grid(rows, cols, edgeStrategy);
+    TestUtils.initializeEmptyGrid(grid);
+    TestUtils.setAliveCells(grid, aliveCells);
+    return grid;
+  }
+
+  private GameOfLifeRules createRules(String ruleString) throws InvalidParameterException {
+    Map<String, Parameter<?>> parameters = new HashMap<>();
+    parameters.put(GameOfLifeRules.RULE_STRING, new Parameter<>(ruleString));
+    return new GameOfLifeRules(parameters, new MooreNeighbors(1));
+  }
+}
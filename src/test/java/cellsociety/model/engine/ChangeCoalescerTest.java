@@ -0,0 +1,52 @@
+package cellsociety.model.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import cellsociety.model.Grid;
+import cellsociety.model.edge.FixedEdgeStrategy;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import util.TestUtils;
+
+class ChangeCoalescerTest {
+
+  @Test
+  void takeFrame_CellChangedEveryStep_HoldsOneLatestChange() {
+    Grid grid = new Grid(3, 3, new FixedEdgeStrategy());
+    TestUtils.initializeEmptyGrid(grid);
+    ChangeCoalescer changes = new ChangeCoalescer(3, 3);
+    for (int step = 1; step <= 7; step++) {
+      changes.add(List.of(TestUtils.createUpdate(1, 1, step % 2),
+          TestUtils.createUpdate(2, step % 3, 1)));
+    }
+    assertEquals(4, changes.getNumberChanged());
+
+    SimulationFrame frame = changes.takeFrame(7, grid);
+
+    assertEquals(7, frame.getStep());
+    assertEquals(4, frame.getNumberChanges());
+    assertEquals(1, frame.getChangedRow(0), "Cells are kept in the order they first changed");
+    assertEquals(1, frame.getChangedCol(0));
+    assertEquals(1, frame.getChangedState(0));
+    assertEquals(2, frame.getChangedRow(1));
+    assertEquals(1, frame.getChangedCol(1));
+  }
+
+  @Test
+  void takeFrame_AfterFrameTaken_StartsWithNoChanges() {
+    Grid grid = new Grid(2, 2, new FixedEdgeStrategy());
+    TestUtils.initializeEmptyGrid(grid);
+    ChangeCoalescer changes = new ChangeCoalescer(2, 2);
+    changes.add(List.of(TestUtils.createUpdate(0, 0, 1)));
+    changes.takeFrame(1, grid);
+    assertEquals(0, changes.getNumberChanged());
+
+    changes.add(List.of(TestUtils.createUpdate(1, 1, 2), TestUtils.createUpdate(0, 0, 3)));
+    SimulationFrame frame = changes.takeFrame(2, grid);
+
+    assertEquals(2, frame.getNumberChanges());
+    assertEquals(1, frame.getChangedRow(0));
+    assertEquals(2, frame.getChangedState(0));
+    assertEquals(3, frame.getChangedState(1));
+  }
+}
@@ -0,0 +1,132 @@
+package cellsociety.model.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.Cell;
+import cellsociety.model.cell.DefaultCell;
+import cellsociety.model.edge.EdgeStrategy;
+import cellsociety.model.edge.FixedEdgeStrategy;
+import cellsociety.model.edge.MirrorEdgeStrategy;
+import cellsociety.model.edge.ToroidalEdgeStrategy;
+import cellsociety.model.simulation.GetNeighbors;
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.Parameter;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.SimulationMetaData;
+import cellsociety.model.simulation.neighbors.HexagonMooreNeighbors;
+import cellsociety.model.simulation.neighbors.MooreNeighbors;
+import cellsociety.model.simulation.rules.GameOfLifeRules;
+import cellsociety.model.simulation.rules.SegregationRules;
+import java.awt.geom.Point2D.Double;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import util.TestUtils;
+
+class ChangeFrontierTest {
+
+  @Test
+  void updateGrid_FrontierUpdate_MatchesFullUpdate() throws InvalidParameterException {
+    for (EdgeStrategy edgeStrategy : new EdgeStrategy[]{new FixedEdgeStrategy(),
+        new ToroidalEdgeStrategy(), new MirrorEdgeStrategy()}) {
+      for (GetNeighbors neighbors : new GetNeighbors[]{new MooreNeighbors(1),
+          new HexagonMooreNeighbors(1)}) {
+        Simulation simulation = createSimulation(new GameOfLifeRules(
+            Map.of(GameOfLifeRules.RULE_STRING, new Parameter<>("B2/S23")), neighbors));
+        Grid fullGrid = createRandomGrid(edgeStrategy);
+        Grid frontierGrid = createRandomGrid(edgeStrategy);
+        frontierGrid.setFrontierUpdate(true);
+        for (int step = 0; step < 30; step++) {
+          assertEquals(fullGrid.updateGrid(simulation).size(),
+              frontierGrid.updateGrid(simulation).size());
+          assertSameStates(fullGrid, frontierGrid);
+        }
+      }
+    }
+  }
+
+  @Test
+  void getNextStates_Blinker_OnlyEvaluatesChangedCellsAndDependents()
+      throws InvalidParameterException {
+    Grid grid = createEmptyGrid(20, 20);
+    for (int col = 5; col <= 7; col++) {
+      grid.updateCell(new DefaultCell(1, new Double(5, col)));
+    }
+    CountingLifeRules rules = new CountingLifeRules();
+    ChangeFrontier frontier = new ChangeFrontier(20, 20);
+    frontier.getNextStates(grid, rules);
+    assertEquals(400, rules.myEvaluations, "The first step evaluates every cell");
+    rules.myEvaluations = 0;
+    frontier.markChanged(4, 6);
+    frontier.getNextStates(grid, rules);
+    assertEquals(9, rules.myEvaluations, "Later steps evaluate the changed cell and neighbors");
+  }
+
+  @Test
+  void updateGrid_CellEditedBetweenSteps_EditIsEvaluated() throws InvalidParameterException {
+    Simulation simulation = createSimulation(new GameOfLifeRules(new HashMap<>(),
+        new MooreNeighbors(1)));
+    Grid grid = createEmptyGrid(10, 10);
+    grid.setFrontierUpdate(true);
+    assertTrue(grid.isFrontierUpdate());
+    assertEquals(0, grid.updateGrid(simulation).size());
+    grid.updateCell(new DefaultCell(1, new Double(4, 4)));
+    grid.updateCell(new DefaultCell(1, new Double(4, 5)));
+    grid.updateCell(new DefaultCell(1, new Double(5, 4)));
+    grid.updateGrid(simulation);
+    assertEquals(1, grid.getState(5, 5), "The edited cells give birth to a block");
+  }
+
+  @Test
+  void isSupported_RulesWithoutFrontierSupport_ReturnsFalse() throws InvalidParameterException {
+    assertTrue(ChangeFrontier.isSupported(new GameOfLifeRules(new HashMap<>(),
+        new MooreNeighbors(1))));
+    assertFalse(ChangeFrontier.isSupported(new SegregationRules(
+        Map.of("toleranceThreshold", new Parameter<>(0.3)), new MooreNeighbors(1))));
+  }
+
+  private static class CountingLifeRules extends GameOfLifeRules {
+
+    private int myEvaluations;
+
+    CountingLifeRules() throws InvalidParameterException {
+      super(new HashMap<>(), new MooreNeighbors(1));
+    }
+
+    @Override
+    public int getNextState(Cell cell, Grid grid) {
+      myEvaluations++;
+      return super.getNextState(cell, grid);
+    }
+  }
+
+  private Simulation createSimulation(GameOfLifeRules rules) {
+    return new Simulation(rules, new SimulationMetaData("GameOfLife", "", "", "", "Moore", 1));
+  }
+
+  private Grid createEmptyGrid(int numRows, int numCols) {
+    Grid grid = new Grid(numRows, numCols, new FixedEdgeStrategy());
+    TestUtils.initializeEmptyGrid(grid);
+    return grid;
+  }
+
+  private Grid createRandomGrid(EdgeStrategy edgeStrategy) {
+    Grid grid = new Grid(16, 24, edgeStrategy);
+    Random random = new Random(7);
+    TestUtils.initializeGrid(grid,
+        (row, col) -> (row > 4 && row < 11 && col > 6 && col < 16) ? random.nextInt(2) : 0);
+    return grid;
+  }
+
+  private void assertSameStates(Grid expected, Grid actual) {
+    for (int row = 0; row < expected.getRows(); row++) {
+      for (int col = 0; col < expected.getCols(); col++) {
+        assertEquals(expected.getState(row, col), actual.getState(row, col));
+      }
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package cellsociety.model.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import cellsociety.model.Grid;
+import cellsociety.model.edge.FixedEdgeStrategy;
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.SimulationMetaData;
+import cellsociety.model.simulation.neighbors.MooreNeighbors;
+import cellsociety.model.simulation.rules.GameOfLifeRules;
+import cellsociety.model.storage.CellStorageFactory.CellStorageType;
+import java.util.HashMap;
+import org.junit.jupiter.api.Test;
+import util.TestUtils;
+
+class CycleDetectorTest {
+
+  @Test
+  void record_RepeatedHashes_ReportsPeriod() {
+    CycleDetector detector = new CycleDetector(4);
+    assertEquals(0, detector.record(10));
+    assertEquals(0, detector.record(20));
+    assertEquals(2, detector.record(10));
+    assertEquals(1, detector.record(10));
+    assertEquals(0, detector.record(30));
+    assertThrows(IllegalArgumentException.class, () -> new CycleDetector(0));
+  }
+
+  @Test
+  void record_RepeatOlderThanHistory_NotReported() {
+    CycleDetector detector = new CycleDetector(3);
+    detector.record(1);
+    detector.record(2);
+    detector.record(3);
+    assertEquals(3, detector.record(1), "A repeat as old as the history is still remembered");
+    detector.record(5);
+    detector.record(6);
+    detector.record(7);
+    assertEquals(0, detector.record(1));
+  }
+
+  @Test
+  void getRepeatPeriod_BlinkerAndBlock_ReportsOscillatorAndStillLife()
+      throws InvalidParameterException {
+    for (CellStorageType storageType : CellStorageType.values()) {
+      Grid blinker = createGrid(storageType, new int[][]{{2, 1}, {2, 2}, {2, 3}});
+      Grid block = createGrid(storageType, new int[][]{{1, 1}, {1, 2}, {2, 1}, {2, 2}});
+      Simulation simulation = createSimulation();
+      blinker.setCycleDetection(CycleDetector.DEFAULT_HISTORY_SIZE);
+      block.setCycleDetection(CycleDetector.DEFAULT_HISTORY_SIZE);
+
+      blinker.updateGrid(simulation);
+      block.updateGrid(simulation);
+      assertEquals(0, blinker.getRepeatPeriod());
+      assertEquals(1, block.getRepeatPeriod());
+      blinker.updateGrid(simulation);
+      assertEquals(2, blinker.getRepeatPeriod(), storageType.toString());
+    }
+  }
+
+  @Test
+  void getStateHash_AfterSteps_EqualsHashOfSameStatesBuiltFromScratch()
+      throws InvalidParameterException {
+    for (CellStorageType storageType : CellStorageType.values()) {
+      Grid glider = createGrid(storageType, new int[][]{{0, 1}, {1, 2}, {2, 0}, {2, 1}, {2, 2}});
+      Simulation simulation = createSimulation();
+      for (int step = 0; step < 4; step++) {
+        glider.updateGrid(simulation);
+      }
+      Grid moved = createGrid(CellStorageType.MAP,
+          new int[][]{{1, 2}, {2, 3}, {3, 1}, {3, 2}, {3, 3}});
+      assertEquals(moved.getStateHash(), glider.getStateHash(), storageType.toString());
+    }
+  }
+
+  private Simulation createSimulation() throws InvalidParameterException {
+    return new Simulation(new GameOfLifeRules(new HashMap<>(), new MooreNeighbors(1)),
+        new SimulationMetaData("GameOfLife", "", "", "", "Moore", 1));
+  }
+
+  private Grid createGrid(CellStorageType storageType, int[][] aliveCells) {
+    Grid grid = new Grid(6, 6, new FixedEdgeStrategy(), storageType);
+    TestUtils.initializeEmptyGrid(grid);
+    TestUtils.setAliveCells(grid, aliveCells);
+    return grid;
+  }
+}
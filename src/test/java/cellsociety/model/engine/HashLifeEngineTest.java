@@ -0,0 +1,124 @@
+package cellsociety.model.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.DefaultCell;
+import cellsociety.model.edge.FixedEdgeStrategy;
+import cellsociety.model.edge.ToroidalEdgeStrategy;
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.Parameter;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.SimulationMetaData;
+import cellsociety.model.simulation.neighbors.MooreNeighbors;
+import cellsociety.model.simulation.rules.GameOfLifeRules;
+import java.awt.geom.Point2D.Double;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import util.TestUtils;
+
+class HashLifeEngineTest {
+
+  private static final int[][] GLIDER = {{0, 1}, {1, 2}, {2, 0}, {2, 1}, {2, 2}};
+
+  @Test
+  void step_Glider_TravelsOneCellEveryFourGenerations() throws InvalidParameterException {
+    Grid grid = createGrid(8, 8);
+    TestUtils.setAliveCells(grid, GLIDER);
+    HashLifeEngine engine = new HashLifeEngine(grid, createRules("B3/S23"));
+    engine.step(10);
+    assertEquals(1024, engine.getGeneration());
+    assertEquals(5, engine.getPopulation());
+    for (int[] cell : GLIDER) {
+      assertEquals(1, engine.getState(cell[0] + 256L, cell[1] + 256L));
+    }
+    assertEquals(0, engine.getGridPopulation());
+  }
+
+  @Test
+  void getGridPopulation_GliderInsideGrid_CountsOnlyCellsOfGrid()
+      throws InvalidParameterException {
+    Grid grid = createGrid(8, 8);
+    TestUtils.setAliveCells(grid, GLIDER);
+    HashLifeEngine engine = new HashLifeEngine(grid, createRules("B3/S23"));
+    engine.step(2);
+    assertEquals(5, engine.getGridPopulation());
+    engine.step(5); // after 36 generations the glider has moved 9 cells and left the grid
+    assertEquals(5, engine.getPopulation());
+    assertEquals(0, engine.getGridPopulation());
+  }
+
+  @Test
+  void isSupported_ToroidalGrid_ReturnsFalse() throws InvalidParameterException {
+    Simulation simulation = new Simulation(createRules("B3/S23"),
+        new SimulationMetaData("GameOfLife", "", "", "", "Moore", 1));
+    assertTrue(HashLifeEngine.isSupported(createGrid(8, 8), simulation));
+    assertFalse(HashLifeEngine.isSupported(new Grid(8, 8, new ToroidalEdgeStrategy()),
+        simulation));
+  }
+
+  @Test
+  void constructor_ToroidalGrid_ThrowsException() {
+    Grid grid = new Grid(8, 8, new ToroidalEdgeStrategy());
+    assertThrows(IllegalArgumentException.class,
+        () -> new HashLifeEngine(grid, createRules("B3/S23")));
+  }
+
+  @Test
+  void step_MixedStepSizes_MatchesBitPackedEngine() throws InvalidParameterException {
+    for (String ruleString : new String[]{"B3/S23", "B36/S23", "B2/S9"}) {
+      Grid grid = createGrid(192, 192);
+      Random random = new Random(ruleString.hashCode());
+      for (int row = 80; row < 112; row++) {
+        for (int col = 80; col < 112; col++) {
+          grid.updateCell(new DefaultCell(random.nextInt(2), new Double(row, col)));
+        }
+      }
+      GameOfLifeRules rules = createRules(ruleString);
+      HashLifeEngine hashLife = new HashLifeEngine(grid, rules);
+      BitPackedLifeEngine bitPacked = new BitPackedLifeEngine(grid, rules);
+      // 1 + 2 + 8 + 32 = 43 generations, so no pattern can reach the edge of the grid
+      for (int stepLog : new int[]{0, 1, 3, 5}) {
+        hashLife.step(stepLog);
+        bitPacked.step(1 << stepLog);
+      }
+      assertEquals(bitPacked.getPopulation(), hashLife.getPopulation());
+      hashLife.writeToGrid(grid);
+      for (int row = 0; row < grid.getRows(); row++) {
+        for (int col = 0; col < grid.getCols(); col++) {
+          assertEquals(bitPacked.getState(row, col), grid.getCell(row, col).getState());
+        }
+      }
+    }
+  }
+
+  @Test
+  void constructor_BirthWithZeroNeighbors_ThrowsException() {
+    Grid grid = createGrid(8, 8);
+    assertThrows(IllegalArgumentException.class,
+        () -> new HashLifeEngine(grid, createRules("B0/S23")));
+  }
+
+  @Test
+  void step_NegativeStepLog_ThrowsException() throws InvalidParameterException {
+    HashLifeEngine engine = new HashLifeEngine(createGrid(8, 8), createRules("B3/S23"));
+    assertThrows(IllegalArgumentException.class, () -> engine.step(-1));
+  }
+
+  private Grid createGrid(int rows, int cols) {
+    Grid grid = new Grid(rows, cols, new FixedEdgeStrategy());
+    TestUtils.initializeEmptyGrid(grid);
+    return grid;
+  }
+
+  private GameOfLifeRules createRules(String ruleString) throws InvalidParameterException {
+    Map<String, Parameter<?>> parameters = new HashMap<>();
+    parameters.put(GameOfLifeRules.RULE_STRING, new Parameter<>(ruleString));
+    return new GameOfLifeRules(parameters, new MooreNeighbors(1));
+  }
+}
@@ -0,0 +1,118 @@
+package cellsociety.model.engine;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cellsociety.model.Grid;
+import cellsociety.model.edge.ToroidalEdgeStrategy;
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.Parameter;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.SimulationMetaData;
+import cellsociety.model.simulation.SimulationRules;
+import cellsociety.model.simulation.neighbors.MooreNeighbors;
+import cellsociety.model.simulation.rules.GameOfLifeRules;
+import cellsociety.model.simulation.rules.SegregationRules;
+import cellsociety.model.simulation.rules.WaTorWorldRules;
+import cellsociety.model.storage.CellStorageFactory.CellStorageType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import util.TestUtils;
+
+class ParallelStripeStepperTest {
+
+  @Test
+  void writeNextStates_AnyStripeSize_MatchesSequentialEvaluation()
+      throws InvalidParameterException {
+    Grid grid = createRandomGrid(37, 23, 2, CellStorageType.MAP);
+    SimulationRules rules = new GameOfLifeRules(new HashMap<>(), new MooreNeighbors(1));
+    int[] expected = new int[37 * 23];
+    rules.writeNextStates(grid, expected);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    for (int stripeRows : new int[]{1, 3, 16, 100}) {
+      int[] actual = new int[37 * 23];
+      new ParallelStripeStepper(pool, stripeRows).writeNextStates(grid, rules, actual);
+      assertArrayEquals(expected, actual);
+    }
+    pool.shutdown();
+  }
+
+  @Test
+  void updateGrid_ParallelUpdate_MatchesSequentialUpdate() throws InvalidParameterException {
+    Simulation simulation = new Simulation(
+        new GameOfLifeRules(new HashMap<>(), new MooreNeighbors(1)),
+        new SimulationMetaData("GameOfLife", "", "", "", "Moore", 1));
+    ForkJoinPool pool = new ForkJoinPool(4);
+    for (CellStorageType storageType : CellStorageType.values()) {
+      Grid sequentialGrid = createRandomGrid(40, 30, 2, storageType);
+      Grid parallelGrid = createRandomGrid(40, 30, 2, storageType);
+      parallelGrid.setParallelUpdate(pool);
+      assertTrue(parallelGrid.isParallelUpdate());
+      for (int step = 0; step < 20; step++) {
+        assertEquals(sequentialGrid.updateGrid(simulation).size(),
+            parallelGrid.updateGrid(simulation).size());
+        for (int row = 0; row < 40; row++) {
+          for (int col = 0; col < 30; col++) {
+            assertEquals(sequentialGrid.getState(row, col), parallelGrid.getState(row, col));
+          }
+        }
+      }
+    }
+    pool.shutdown();
+  }
+
+  @Test
+  void updateGrid_SegregationParallelUpdate_KeepsPopulationOfEachState()
+      throws InvalidParameterException {
+    Simulation simulation = new Simulation(new SegregationRules(
+        Map.of(SegregationRules.TOLERANCE_THRESHOLD, new Parameter<>(0.5)),
+        new MooreNeighbors(1)),
+        new SimulationMetaData("Segregation", "", "", "", "Moore", 1));
+    Grid grid = createRandomGrid(20, 20, 3, CellStorageType.MAP);
+    int[] expectedCounts = countStates(grid, 3);
+    grid.setParallelUpdate(new ForkJoinPool(2));
+    for (int step = 0; step < 5; step++) {
+      grid.updateGrid(simulation);
+      assertArrayEquals(expectedCounts, countStates(grid, 3));
+    }
+  }
+
+  @Test
+  void isSupported_RulesWithoutParallelSupport_ReturnsFalse() throws InvalidParameterException {
+    assertTrue(ParallelStripeStepper.isSupported(
+        new GameOfLifeRules(new HashMap<>(), new MooreNeighbors(1))));
+    assertFalse(ParallelStripeStepper.isSupported(
+        new WaTorWorldRules(new HashMap<>(), new MooreNeighbors(1))));
+  }
+
+  @Test
+  void constructor_InvalidStripeRows_ThrowsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new ParallelStripeStepper(ForkJoinPool.commonPool(), 0));
+    assertThrows(IllegalArgumentException.class, () -> new ParallelStripeStepper(null));
+  }
+
+  private Grid createRandomGrid(int numRows, int numCols, int numStates,
+      CellStorageType storageType) {
+    Grid grid = new Grid(numRows, numCols, new ToroidalEdgeStrategy(), storageType);
+    Random random = new Random(11);
+    TestUtils.initializeGrid(grid, (row, col) -> random.nextInt(numStates));
+    return grid;
+  }
+
+  private int[] countStates(Grid grid, int numStates) {
+    int[] counts = new int[numStates];
+    for (int row = 0; row < grid.getRows(); row++) {
+      for (int col = 0; col < grid.getCols(); col++) {
+        counts[grid.getState(row, col)]++;
+      }
+    }
+    return counts;
+  }
+}
@@ -0,0 +1,75 @@
+package cellsociety.model.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.DefaultCell;
+import cellsociety.model.edge.FixedEdgeStrategy;
+import java.awt.geom.Point2D.Double;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import util.TestUtils;
+
+class SimulationFrameTest {
+
+  @Test
+  void capture_GridAndUpdates_HoldsCountsAndChanges() {
+    Grid grid = new Grid(3, 4, new FixedEdgeStrategy());
+    TestUtils.initializeEmptyGrid(grid);
+    grid.updateCell(new DefaultCell(1, new Double(1, 2)));
+    grid.updateCell(new DefaultCell(2, new Double(2, 3)));
+    SimulationFrame frame = SimulationFrame.capture(5, grid,
+        List.of(TestUtils.createUpdate(1, 2, 1), TestUtils.createUpdate(2, 3, 2)));
+
+    assertEquals(5, frame.getStep());
+    assertEquals(3, frame.getRows());
+    assertEquals(4, frame.getCols());
+    assertEquals(Map.of(0, 10, 1, 1, 2, 1), frame.getStateCounts());
+    assertEquals(2, frame.getNumberChanges());
+    assertEquals(2, frame.getChangedRow(1));
+    assertEquals(3, frame.getChangedCol(1));
+    assertEquals(2, frame.getChangedState(1));
+    assertEquals(1.0, frame.getChangedOpacity(1));
+  }
+
+  @Test
+  void followedBy_SkippedFrame_KeepsChangesOfBothInOrder() {
+    Grid grid = new Grid(3, 3, new FixedEdgeStrategy());
+    TestUtils.initializeEmptyGrid(grid);
+    SimulationFrame first = SimulationFrame.capture(1, grid,
+        List.of(TestUtils.createUpdate(0, 0, 1), TestUtils.createUpdate(1, 1, 1)));
+    grid.updateCell(new DefaultCell(1, new Double(2, 2)));
+    SimulationFrame second = SimulationFrame.capture(2, grid,
+        List.of(TestUtils.createUpdate(0, 0, 0)));
+
+    SimulationFrame combined = first.followedBy(second);
+
+    assertEquals(2, combined.getStep());
+    assertEquals(Map.of(0, 8, 1, 1), combined.getStateCounts());
+    assertEquals(3, combined.getNumberChanges());
+    assertEquals(1, combined.getChangedState(0));
+    assertEquals(0, combined.getChangedState(2), "The later change to a cell comes last");
+  }
+
+  @Test
+  void followedBy_ManySkippedFrames_KeepsOnlyLatestChangePerCell() {
+    Grid grid = new Grid(2, 2, new FixedEdgeStrategy());
+    TestUtils.initializeEmptyGrid(grid);
+    SimulationFrame combined = SimulationFrame.capture(0, grid, List.of());
+    for (int step = 1; step <= 10; step++) {
+      combined = combined.followedBy(SimulationFrame.capture(step, grid,
+          List.of(TestUtils.createUpdate(0, 1, step % 2), TestUtils.createUpdate(1, 0, step))));
+    }
+    assertEquals(10, combined.getStep());
+    assertTrue(combined.getNumberChanges() <= 4, "Changes are bounded by the size of the grid");
+    int[][] displayed = new int[2][2];
+    for (int change = 0; change < combined.getNumberChanges(); change++) {
+      displayed[combined.getChangedRow(change)][combined.getChangedCol(change)] =
+          combined.getChangedState(change);
+    }
+    assertEquals(0, displayed[0][1]);
+    assertEquals(10, displayed[1][0]);
+  }
+}
@@ -0,0 +1,165 @@
+package cellsociety.model.engine;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cellsociety.model.Grid;
+import cellsociety.model.edge.ToroidalEdgeStrategy;
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.SimulationMetaData;
+import cellsociety.model.simulation.neighbors.MooreNeighbors;
+import cellsociety.model.simulation.rules.GameOfLifeRules;
+import java.util.HashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import util.TestUtils;
+
+class SimulationWorkerTest {
+
+  private Grid myGrid;
+  private Simulation mySimulation;
+  private FrameSlot mySlot;
+
+  @BeforeEach
+  void setUp() throws InvalidParameterException {
+    myGrid = new Grid(8, 8, new ToroidalEdgeStrategy());
+    TestUtils.initializeEmptyGrid(myGrid);
+    TestUtils.setAliveCells(myGrid, new int[][]{{0, 1}, {1, 2}, {2, 0}, {2, 1}, {2, 2}});
+    mySimulation = new Simulation(new GameOfLifeRules(new HashMap<>(), new MooreNeighbors(1)),
+        new SimulationMetaData("GameOfLife", "", "", "", "Moore", 1));
+    mySlot = new FrameSlot();
+  }
+
+  @Test
+  void step_Stopped_PublishesFrameOfStep() {
+    SimulationWorker worker = new SimulationWorker(myGrid, mySimulation, mySlot, 3);
+    SimulationFrame frame = worker.step();
+    assertEquals(4, frame.getStep());
+    assertEquals(4, worker.getStep());
+    assertEquals(frame, mySlot.take());
+    assertNull(mySlot.take());
+    assertEquals(5, (int) frame.getStateCounts().get(1));
+    worker.shutdown();
+  }
+
+  @Test
+  void step_SeveralGenerations_PublishesOneFrameWithLatestChanges() {
+    SimulationWorker worker = new SimulationWorker(myGrid, mySimulation, mySlot, 0);
+    SimulationFrame frame = worker.step(4);
+    assertEquals(4, frame.getStep());
+    assertEquals(frame, mySlot.take());
+    assertEquals(0, mySlot.getNumberSkipped());
+    assertTrue(frame.getNumberChanges() <= 64);
+    // after four generations the glider has moved one cell down and to the right
+    int[] displayed = readStates(frame, createGliderStates());
+    assertEquals(1, displayed[1 * 8 + 2]);
+    assertEquals(1, displayed[3 * 8 + 3]);
+    assertEquals(0, displayed[0 * 8 + 1]);
+    assertEquals(5, (int) frame.getStateCounts().get(1));
+    worker.shutdown();
+  }
+
+  @Test
+  void setGenerationsPerFrame_LessThanOne_ThrowsException() {
+    SimulationWorker worker = new SimulationWorker(myGrid, mySimulation, mySlot, 0);
+    assertThrows(IllegalArgumentException.class, () -> worker.setGenerationsPerFrame(0));
+    worker.setGenerationsPerFrame(8);
+    assertEquals(8, worker.getGenerationsPerFrame());
+    worker.shutdown();
+  }
+
+  @Test
+  void start_PauseOnRepeat_StopsOnceGridStartsRepeating() throws InterruptedException {
+    myGrid.setCycleDetection(CycleDetector.DEFAULT_HISTORY_SIZE);
+    SimulationWorker worker = new SimulationWorker(myGrid, mySimulation, mySlot, 0);
+    worker.setPauseOnRepeat(true);
+    worker.setGenerationsPerFrame(64);
+    worker.start(0.001);
+    while (worker.isRunning()) {
+      Thread.sleep(1);
+    }
+    // a glider on an 8 by 8 torus returns to its initial state after 32 generations
+    assertEquals(32, worker.getStep());
+    assertEquals(32, worker.takeRepeatPausePeriod());
+    assertEquals(0, worker.takeRepeatPausePeriod());
+    assertEquals(32, mySlot.take().getRepeatPeriod());
+    worker.shutdown();
+  }
+
+  @Test
+  void moveTo_EarlierStep_SteppingAgainRepeatsSameFrames() {
+    SimulationWorker worker = new SimulationWorker(myGrid, mySimulation, mySlot, 0);
+    worker.setHistory(new StepHistory(8, 8, 4, StepHistory.DEFAULT_MAX_BYTES));
+    int[][] statesAtStep = new int[11][];
+    int[] displayed = createGliderStates();
+    for (int step = 1; step <= 10; step++) {
+      displayed = readStates(worker.step(), displayed);
+      statesAtStep[step] = displayed;
+    }
+    assertEquals(0, worker.getFirstRetainedStep());
+    assertEquals(10, worker.getLastRetainedStep());
+
+    mySlot.take();
+    SimulationFrame restored = worker.moveTo(5);
+
+    assertEquals(5, restored.getStep());
+    assertEquals(5, worker.getStep());
+    displayed = readStates(restored, displayed);
+    assertArrayEquals(statesAtStep[5], displayed);
+    assertEquals(mySlot.take(), restored);
+    assertArrayEquals(statesAtStep[6], readStates(worker.step(), displayed));
+    assertEquals(6, worker.getLastRetainedStep());
+    worker.shutdown();
+  }
+
+  @Test
+  void start_FramesNotTaken_LatestFrameHoldsAllChanges() throws InterruptedException {
+    SimulationWorker worker = new SimulationWorker(myGrid, mySimulation, mySlot, 0);
+    worker.start(0.001);
+    assertTrue(worker.isRunning());
+    while (worker.getStep() < 32) {
+      Thread.sleep(1);
+    }
+    worker.stop();
+    assertFalse(worker.isRunning());
+    long steps = worker.getStep();
+    Thread.sleep(20);
+    assertEquals(steps, worker.getStep(), "No step runs after the worker is stopped");
+
+    SimulationFrame frame = mySlot.take();
+    assertEquals(steps, frame.getStep());
+    assertEquals(steps - 1, mySlot.getNumberSkipped());
+    int[] displayed = readStates(frame, createGliderStates());
+    for (int row = 0; row < 8; row++) {
+      for (int col = 0; col < 8; col++) {
+        assertEquals(myGrid.getState(row, col), displayed[row * 8 + col]);
+      }
+    }
+    worker.shutdown();
+  }
+
+  // apply the changes of a frame to the states displayed before it, as the view does
+  private int[] readStates(SimulationFrame frame, int[] previousStates) {
+    int[] states = previousStates.clone();
+    for (int change = 0; change < frame.getNumberChanges(); change++) {
+      states[frame.getChangedRow(change) * 8 + frame.getChangedCol(change)] =
+          frame.getChangedState(change);
+    }
+    return states;
+  }
+
+  private int[] createGliderStates() {
+    int[] states = new int[64];
+    states[0 * 8 + 1] = 1;
+    states[1 * 8 + 2] = 1;
+    states[2 * 8 + 0] = 1;
+    states[2 * 8 + 1] = 1;
+    states[2 * 8 + 2] = 1;
+    return states;
+  }
+}
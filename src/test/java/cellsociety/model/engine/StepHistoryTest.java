@@ -0,0 +1,117 @@
+package cellsociety.model.engine;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.DefaultCell;
+import cellsociety.model.edge.ToroidalEdgeStrategy;
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.SimulationMetaData;
+import cellsociety.model.simulation.neighbors.MooreNeighbors;
+import cellsociety.model.simulation.rules.GameOfLifeRules;
+import java.awt.geom.Point2D.Double;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import util.TestUtils;
+
+class StepHistoryTest {
+
+  private static final int SIZE = 20;
+  private Grid myGrid;
+  private Simulation mySimulation;
+
+  @BeforeEach
+  void setUp() throws InvalidParameterException {
+    myGrid = new Grid(SIZE, SIZE, new ToroidalEdgeStrategy());
+    SplittableRandom random = new SplittableRandom(3);
+    TestUtils.initializeGrid(myGrid, (row, col) -> random.nextInt(3) == 0 ? 1 : 0);
+    mySimulation = new Simulation(new GameOfLifeRules(new HashMap<>(), new MooreNeighbors(1)),
+        new SimulationMetaData("GameOfLife", "", "", "", "Moore", 1));
+  }
+
+  @Test
+  void getStates_EveryRecordedStep_MatchesGridAtThatStep() {
+    StepHistory history = new StepHistory(SIZE, SIZE, 8, StepHistory.DEFAULT_MAX_BYTES);
+    history.reset(0, myGrid);
+    List<int[]> expected = new ArrayList<>();
+    expected.add(readStates());
+    for (int step = 1; step <= 50; step++) {
+      history.record(myGrid.updateGrid(mySimulation), myGrid);
+      expected.add(readStates());
+    }
+    assertEquals(0, history.getFirstStep());
+    assertEquals(50, history.getLastStep());
+    for (int step = 0; step <= 50; step++) {
+      assertArrayEquals(expected.get(step), history.getStates(step), "Step " + step);
+    }
+  }
+
+  @Test
+  void moveTo_BackAndForward_RestoresGridStates() {
+    StepHistory history = new StepHistory(SIZE, SIZE, 8, StepHistory.DEFAULT_MAX_BYTES);
+    history.reset(0, myGrid);
+    List<int[]> expected = new ArrayList<>();
+    expected.add(readStates());
+    for (int step = 1; step <= 30; step++) {
+      history.record(myGrid.updateGrid(mySimulation), myGrid);
+      expected.add(readStates());
+    }
+
+    history.moveTo(3, myGrid, mySimulation);
+    assertArrayEquals(expected.get(3), readStates());
+    history.moveTo(27, myGrid, mySimulation);
+    assertArrayEquals(expected.get(27), readStates());
+    assertEquals(27, history.getCurrentStep());
+    assertEquals(30, history.getLastStep(), "Moving back keeps the later steps");
+
+    history.record(myGrid.updateGrid(mySimulation), myGrid);
+    assertEquals(28, history.getLastStep(), "Stepping after moving back drops the later steps");
+    assertArrayEquals(expected.get(28), readStates());
+    assertThrows(IllegalArgumentException.class, () -> history.moveTo(29, myGrid, mySimulation));
+  }
+
+  @Test
+  void record_PastMemoryLimit_DropsOldestKeyframes() {
+    StepHistory history = new StepHistory(SIZE, SIZE, 4, 2000);
+    history.reset(0, myGrid);
+    for (int step = 1; step <= 100; step++) {
+      history.record(myGrid.updateGrid(mySimulation), myGrid);
+    }
+    assertTrue(history.getFirstStep() > 0);
+    assertEquals(0, history.getFirstStep() % 4);
+    assertEquals(100, history.getLastStep());
+    assertTrue(history.getBytes() <= 2000);
+    assertThrows(IllegalArgumentException.class, () -> history.getStates(0));
+  }
+
+  @Test
+  void record_GridEditedBetweenSteps_RecordsEditedStates() {
+    StepHistory history = new StepHistory(SIZE, SIZE, 8, StepHistory.DEFAULT_MAX_BYTES);
+    history.reset(0, myGrid);
+    for (int step = 1; step <= 3; step++) {
+      history.record(myGrid.updateGrid(mySimulation), myGrid);
+      // the edit is not part of any recorded update, so only the hash can reveal it
+      myGrid.updateCell(new DefaultCell(1, new Double(2 * step, 2 * step)));
+      history.record(myGrid.updateGrid(mySimulation), myGrid);
+      assertArrayEquals(readStates(), history.getStates(history.getLastStep()));
+    }
+  }
+
+  private int[] readStates() {
+    int[] states = new int[SIZE * SIZE];
+    for (int row = 0; row < SIZE; row++) {
+      for (int col = 0; col < SIZE; col++) {
+        states[row * SIZE + col] = myGrid.getState(row, col);
+      }
+    }
+    return states;
+  }
+}
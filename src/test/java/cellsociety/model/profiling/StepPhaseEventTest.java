@@ -0,0 +1,64 @@
+package cellsociety.model.profiling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cellsociety.model.Grid;
+import cellsociety.model.edge.ToroidalEdgeStrategy;
+import cellsociety.model.engine.FrameSlot;
+import cellsociety.model.engine.SimulationWorker;
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.SimulationMetaData;
+import cellsociety.model.simulation.neighbors.MooreNeighbors;
+import cellsociety.model.simulation.rules.GameOfLifeRules;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import util.TestUtils;
+
+class StepPhaseEventTest {
+
+  @Test
+  void step_RecordingRunning_RecordsEveryPhaseOfStep()
+      throws InvalidParameterException, IOException {
+    Grid grid = new Grid(6, 7, new ToroidalEdgeStrategy());
+    TestUtils.initializeGrid(grid, (row, col) -> row == 2 && col < 3 ? 1 : 0);
+    Simulation simulation = new Simulation(
+        new GameOfLifeRules(new HashMap<>(), new MooreNeighbors(1)),
+        new SimulationMetaData("GameOfLife", "", "", "", "Moore", 1));
+    SimulationWorker worker = new SimulationWorker(grid, simulation, new FrameSlot(), 0);
+    Path file = Files.createTempFile("steps", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("cellsociety.EvaluateStates");
+      recording.enable("cellsociety.ApplyUpdates");
+      recording.enable("cellsociety.CaptureFrame");
+      recording.start();
+      worker.step();
+      recording.stop();
+      recording.dump(file);
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+      for (String name : List.of("cellsociety.EvaluateStates", "cellsociety.ApplyUpdates",
+          "cellsociety.CaptureFrame")) {
+        RecordedEvent event = events.stream()
+            .filter(recorded -> recorded.getEventType().getName().equals(name))
+            .findFirst().orElseThrow();
+        assertEquals("GameOfLife", event.getString("simulationType"));
+        assertEquals(6, event.getInt("rows"));
+        assertEquals(7, event.getInt("cols"));
+        assertEquals(1, event.getLong("step"));
+        assertTrue(event.getDuration().toNanos() >= 0);
+      }
+    } finally {
+      worker.shutdown();
+      Files.deleteIfExists(file);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package cellsociety.model.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import cellsociety.model.Grid;
+import cellsociety.model.edge.ToroidalEdgeStrategy;
+import cellsociety.model.simulation.neighbors.MooreNeighbors;
+import cellsociety.model.simulation.rules.SpreadingOfFireRules;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import util.TestUtils;
+
+class SimulationRandomTest {
+
+  @Test
+  void getStream_SameSeedStepAndKey_ProducesSameValues() {
+    SimulationRandom first = new SimulationRandom(42);
+    SimulationRandom second = new SimulationRandom(42);
+    for (long key = -1; key < 100; key++) {
+      assertEquals(first.getStream(key).nextLong(), second.getStream(key).nextLong());
+    }
+  }
+
+  @Test
+  void getStream_DifferentStepOrKey_ProducesDifferentValues() {
+    SimulationRandom random = new SimulationRandom(42);
+    long value = random.getStream(7).nextLong();
+    assertNotEquals(value, random.getStream(8).nextLong());
+    assertNotEquals(value, new SimulationRandom(43).getStream(7).nextLong());
+    random.advanceStep();
+    assertEquals(1, random.getStep());
+    assertNotEquals(value, random.getStream(7).nextLong());
+    assertEquals(value, random.getStream(0, 7).nextLong());
+  }
+
+  @Test
+  void setSeed_AfterSteps_RestartsAtStepZero() {
+    SimulationRandom random = new SimulationRandom(1);
+    random.advanceStep();
+    random.setSeed(5);
+    assertEquals(0, random.getStep());
+    assertEquals(5, random.getSeed());
+  }
+
+  @Test
+  void constructor_ProvidedRandom_IsSharedWithRules() throws InvalidParameterException {
+    SimulationRandom random = new SimulationRandom(3);
+    Simulation simulation = createFireSimulation(random);
+    assertSame(random, simulation.rules().getRandom());
+    Simulation defaultSimulation = new Simulation(simulation.rules(), simulation.data());
+    assertSame(random, defaultSimulation.random());
+  }
+
+  @Test
+  void updateGrid_SameSeed_ProducesSameRunWhateverTheThreadCount()
+      throws InvalidParameterException {
+    Grid sequentialGrid = createFireGrid();
+    Grid parallelGrid = createFireGrid();
+    parallelGrid.setParallelUpdate(new ForkJoinPool(4));
+    Simulation sequentialSimulation = createFireSimulation(new SimulationRandom(99));
+    Simulation parallelSimulation = createFireSimulation(new SimulationRandom(99));
+    for (int step = 0; step < 25; step++) {
+      sequentialGrid.updateGrid(sequentialSimulation);
+      parallelGrid.updateGrid(parallelSimulation);
+      for (int row = 0; row < sequentialGrid.getRows(); row++) {
+        for (int col = 0; col < sequentialGrid.getCols(); col++) {
+          assertEquals(sequentialGrid.getState(row, col), parallelGrid.getState(row, col));
+        }
+      }
+    }
+    assertEquals(25, parallelSimulation.random().getStep());
+  }
+
+  private Simulation createFireSimulation(SimulationRandom random)
+      throws InvalidParameterException {
+    SpreadingOfFireRules rules = new SpreadingOfFireRules(Map.of(
+        SpreadingOfFireRules.GROW_IN_EMPTY_CELL, new Parameter<>(0.2),
+        SpreadingOfFireRules.IGNITION_WITHOUT_NEIGHBORS, new Parameter<>(0.01)),
+        new MooreNeighbors(1));
+    return new Simulation(rules,
+        new SimulationMetaData("SpreadingOfFire", "", "", "", "Moore", 1), random);
+  }
+
+  private Grid createFireGrid() {
+    Grid grid = new Grid(30, 30, new ToroidalEdgeStrategy());
+    Random random = new Random(8);
+    TestUtils.initializeGrid(grid, (row, col) -> random.nextInt(3));
+    return grid;
+  }
+}
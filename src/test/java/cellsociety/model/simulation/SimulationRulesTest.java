@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import cellsociety.model.Grid;
 import cellsociety.model.cell.Cell;
+import cellsociety.model.cell.CellUpdate;
 import cellsociety.model.cell.DefaultCell;
 import cellsociety.model.edge.FixedEdgeStrategy;
 import cellsociety.model.simulation.neighbors.MooreNeighbors;
@@ -191,4 +192,27 @@ class SimulationRulesTest {
     Cell cell = new DefaultCell(2, new Double(2, 2));
     assertEquals(2, testSimulationRules.getNextState(cell, grid));
   }
-}
\ No newline at end of file
+
+  @Test
+  void supportsBufferedUpdate_DefaultNextStates_ReturnsTrue() {
+    assertTrue(testSimulationRules.supportsBufferedUpdate());
+  }
+
+  @Test
+  void supportsBufferedUpdate_OverriddenNextStates_ReturnsFalse()
+      throws InvalidParameterException {
+    SimulationRules customRules = new SimulationRules(new HashMap<>(),
+        new VonNeumannNeighbors(1)) {
+      @Override
+      public List<CellUpdate> getNextStatesForAllCells(Grid grid) {
+        return List.of();
+      }
+
+      @Override
+      public int getNumberStates() {
+        return 0;
+      }
+    };
+    assertFalse(customRules.supportsBufferedUpdate());
+  }
+}
@@ -2,6 +2,7 @@ package cellsociety.model.simulation.rules;
 
 import cellsociety.model.edge.FixedEdgeStrategy;
 import cellsociety.model.simulation.neighbors.MooreNeighbors;
+import cellsociety.model.simulation.neighbors.VonNeumannNeighbors;
 import java.awt.geom.Point2D.Double;
 import java.util.HashMap;
 import java.util.Map;
@@ -45,6 +46,42 @@ class GameOfLifeGeneralRulesTest {
         "A dead cell with 4 neighbors should become alive");
   }
 
+  @Test
+  void GameOfLifeGeneral_rulestringSeeds_aliveCellDies() throws InvalidParameterException {
+    grid = new Grid(5, 5, new FixedEdgeStrategy());
+
+    gameOfLifeRules = new GameOfLifeRules(Map.of("ruleString", new Parameter<>("B2/S")),
+        new MooreNeighbors(1));
+    Cell cell = new DefaultCell(1, new Double(2, 2));
+    Cell deadCell = new DefaultCell(0, new Double(1, 3));
+
+    grid.addCell(cell);
+    grid.addCell(new DefaultCell(1, new Double(1, 2)));
+    grid.addCell(new DefaultCell(1, new Double(3, 2)));
+
+    assertEquals(0, gameOfLifeRules.getNextState(cell, grid),
+        "An alive cell should never survive with an empty survive list");
+    assertEquals(1, gameOfLifeRules.getNextState(deadCell, grid),
+        "A dead cell with 2 neighbors should become alive");
+  }
+
+  @Test
+  void GameOfLifeGeneral_rulestringEmptyBirth_deadCellStaysDead()
+      throws InvalidParameterException {
+    grid = new Grid(5, 5, new FixedEdgeStrategy());
+
+    gameOfLifeRules = new GameOfLifeRules(Map.of("ruleString", new Parameter<>("B/S012345678")),
+        new MooreNeighbors(1));
+    Cell cell = new DefaultCell(0, new Double(2, 2));
+
+    grid.addCell(new DefaultCell(1, new Double(1, 2)));
+    grid.addCell(new DefaultCell(1, new Double(3, 2)));
+    grid.addCell(new DefaultCell(1, new Double(2, 1)));
+
+    assertEquals(0, gameOfLifeRules.getNextState(cell, grid),
+        "A dead cell should never be born with an empty birth list");
+  }
+
   @Test
   void GameOfLifeGeneral_rulestringB5S2_cellShouldeNotBeBorn() throws InvalidParameterException{
     grid = new Grid(5, 5, new FixedEdgeStrategy());
@@ -96,5 +133,31 @@ class GameOfLifeGeneralRulesTest {
     assertEquals(0, gameOfLifeRules.getNextState(cell, grid),
         "Cell should not remain alive");
   }
+
+  @Test
+  void GameOfLifeGeneral_nonTotalisticRuleString_usesNeighborArrangement()
+      throws InvalidParameterException {
+    grid = new Grid(5, 5, new FixedEdgeStrategy());
+
+    gameOfLifeRules = new GameOfLifeRules(Map.of("ruleString", new Parameter<>("B2-a/S23")),
+        new MooreNeighbors(1));
+    Cell cell = new DefaultCell(0, new Double(2, 2));
+
+    grid.addCell(new DefaultCell(1, new Double(1, 1)));
+    grid.addCell(new DefaultCell(1, new Double(1, 2)));
+    assertEquals(0, gameOfLifeRules.getNextState(cell, grid),
+        "A dead cell with 2 adjacent neighbors should remain dead");
+
+    grid.updateCell(new DefaultCell(0, new Double(1, 2)));
+    grid.addCell(new DefaultCell(1, new Double(1, 3)));
+    assertEquals(1, gameOfLifeRules.getNextState(cell, grid),
+        "A dead cell with 2 corner neighbors should become alive");
+  }
+
+  @Test
+  void GameOfLifeGeneral_nonTotalisticRuleStringWithVonNeumann_throwsException() {
+    assertThrows(InvalidParameterException.class,
+        () -> new GameOfLifeRules(Map.of("ruleString", new Parameter<>("B2-a/S23")),
+            new VonNeumannNeighbors(1)));
+  }
 }
-  
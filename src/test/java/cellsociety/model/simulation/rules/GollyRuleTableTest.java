@@ -0,0 +1,124 @@
+package cellsociety.model.simulation.rules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.rules.GollyRuleTable.Neighborhood;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GollyRuleTableTest {
+
+  private static final List<String> VON_NEUMANN_HEADER = List.of("n_states:3",
+      "neighborhood:vonNeumann");
+
+  @Test
+  void parseTable_noSymmetries_onlyListedTransitionUsed() throws InvalidParameterException {
+    GollyRuleTable table = parseVonNeumann("symmetries:none", "0,1,0,0,0,2");
+    assertEquals(Neighborhood.VON_NEUMANN, table.getNeighborhood());
+    assertEquals(3, table.getNumberStates());
+    assertEquals(2, getNextState(table, 0, 1, 0, 0, 0));
+    assertEquals(0, getNextState(table, 0, 0, 1, 0, 0), "Unmatched cells keep their state");
+  }
+
+  @Test
+  void parseTable_rotate4_allRotationsUsed() throws InvalidParameterException {
+    GollyRuleTable table = parseVonNeumann("symmetries:rotate4", "0,1,2,0,0,2");
+    assertEquals(2, getNextState(table, 0, 1, 2, 0, 0));
+    assertEquals(2, getNextState(table, 0, 0, 1, 2, 0));
+    assertEquals(2, getNextState(table, 0, 0, 0, 1, 2));
+    assertEquals(2, getNextState(table, 0, 2, 0, 0, 1));
+    assertEquals(0, getNextState(table, 0, 2, 1, 0, 0), "Reflections are not included");
+  }
+
+  @Test
+  void parseTable_reflectHorizontal_eastAndWestSwapped() throws InvalidParameterException {
+    GollyRuleTable table = parseVonNeumann("symmetries:reflect_horizontal", "0,0,1,0,0,2");
+    assertEquals(2, getNextState(table, 0, 0, 1, 0, 0));
+    assertEquals(2, getNextState(table, 0, 0, 0, 0, 1));
+    assertEquals(0, getNextState(table, 0, 1, 0, 0, 0));
+  }
+
+  @Test
+  void parseTable_repeatedVariable_boundToSameValue() throws InvalidParameterException {
+    GollyRuleTable table = parseVonNeumann("symmetries:none", "var a={1,2}", "0,a,a,0,0,a");
+    assertEquals(1, getNextState(table, 0, 1, 1, 0, 0));
+    assertEquals(2, getNextState(table, 0, 2, 2, 0, 0));
+    assertEquals(0, getNextState(table, 0, 1, 2, 0, 0));
+  }
+
+  @Test
+  void parseTable_overlappingTransitions_firstTransitionUsed() throws InvalidParameterException {
+    GollyRuleTable table = parseVonNeumann("symmetries:none", "var a={0,1,2}", "0,1,0,0,0,2",
+        "0,a,0,0,0,1");
+    assertEquals(2, getNextState(table, 0, 1, 0, 0, 0));
+    assertEquals(1, getNextState(table, 0, 2, 0, 0, 0));
+  }
+
+  @Test
+  void parseTable_permute_anyOrderOfNeighborsUsed() throws InvalidParameterException {
+    GollyRuleTable table = GollyRuleTable.parseTable(List.of("n_states:2", "neighborhood:Moore",
+        "symmetries:permute", "0,1,1,1,0,0,0,0,0,1"));
+    assertEquals(Neighborhood.MOORE, table.getNeighborhood());
+    assertEquals(1, getNextState(table, 0, 1, 1, 1, 0, 0, 0, 0, 0));
+    assertEquals(1, getNextState(table, 0, 0, 1, 0, 0, 1, 0, 0, 1));
+    assertEquals(0, getNextState(table, 0, 0, 1, 0, 0, 1, 0, 0, 0));
+  }
+
+  @Test
+  void parseTree_southNeighborTree_treeOrderUsed() throws InvalidParameterException {
+    // the tree reads n, w, e, s and then c: an alive south neighbor gives 1, or c is kept
+    GollyRuleTable table = GollyRuleTable.parseTree(List.of("num_states=2", "num_neighbors=4",
+        "num_nodes=6", "1 0 1", "1 1 1", "2 0 1", "3 2 2", "4 3 3", "5 4 4"));
+    assertEquals(0, getNextState(table, 0, 1, 1, 0, 1));
+    assertEquals(1, getNextState(table, 0, 0, 0, 1, 0), "The south neighbor selects node 1");
+    assertEquals(1, getNextState(table, 1, 0, 0, 0, 0));
+  }
+
+  @Test
+  void parseTable_invalidRuleFiles_throwException() {
+    assertThrows(InvalidParameterException.class,
+        () -> parseVonNeumann("symmetries:none", "0,b,0,0,0,1"));
+    assertThrows(InvalidParameterException.class,
+        () -> parseVonNeumann("symmetries:none", "0,3,0,0,0,1"));
+    assertThrows(InvalidParameterException.class,
+        () -> parseVonNeumann("symmetries:rotate8", "0,1,0,0,0,1"));
+    assertThrows(InvalidParameterException.class,
+        () -> parseVonNeumann("symmetries:none", "0,1,0,0,1"));
+    assertThrows(InvalidParameterException.class,
+        () -> GollyRuleTable.parseTable(List.of("n_states:2", "neighborhood:hexagonal")));
+  }
+
+  @Test
+  void loadResource_packagedRuleFiles_compiledByExtension() throws InvalidParameterException {
+    GollyRuleTable table = GollyRuleTable.loadResource(
+        RuleTableRules.RULE_TABLES_RESOURCE_PATH + "Langtons-Loops.table");
+    assertEquals(Neighborhood.VON_NEUMANN, table.getNeighborhood());
+    assertEquals(8, table.getNumberStates());
+    GollyRuleTable tree = GollyRuleTable.loadResource(
+        RuleTableRules.RULE_TABLES_RESOURCE_PATH + "Life.tree");
+    assertEquals(Neighborhood.MOORE, tree.getNeighborhood());
+    assertEquals(2, tree.getNumberStates());
+  }
+
+  @Test
+  void loadResource_missingResource_throwsException() {
+    assertThrows(InvalidParameterException.class, () -> GollyRuleTable.loadResource(
+        RuleTableRules.RULE_TABLES_RESOURCE_PATH + "Missing.table"));
+  }
+
+  private GollyRuleTable parseVonNeumann(String... lines) throws InvalidParameterException {
+    List<String> table = new java.util.ArrayList<>(VON_NEUMANN_HEADER);
+    table.addAll(List.of(lines));
+    return GollyRuleTable.parseTable(table);
+  }
+
+  private int getNextState(GollyRuleTable table, int... states) {
+    int index = 0;
+    for (int state : states) {
+      index = index * table.getNumberStates() + state;
+    }
+    return table.getNextState(index, states[0]);
+  }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import cellsociety.model.Grid;
 import cellsociety.model.cell.DefaultCell;
 import cellsociety.model.edge.FixedEdgeStrategy;
+import cellsociety.model.edge.ToroidalEdgeStrategy;
 import cellsociety.model.simulation.InvalidParameterException;
 import cellsociety.model.simulation.Parameter;
 import cellsociety.model.simulation.Simulation;
@@ -119,5 +120,24 @@ class LangtonsLoopsRulesTest {
     assertEquals(expected, sim.rules().getNextState(grid.getCell(1, 1), grid));
   }
 
+  @Test
+  void validateRuleString_RotatedRuleString_SameNewState() throws InvalidParameterException {
+    validateRuleString("00001", 2);
+    validateRuleString("01000", 2);
+    validateRuleString("00100", 2);
+    validateRuleString("00010", 2);
+  }
 
-}
\ No newline at end of file
+  @Test
+  void getNextState_ToroidalGrid_WrappedNeighborUsed() throws InvalidParameterException {
+    Simulation sim = createSimulation();
+    Grid toroidalGrid = new Grid(3, 3, new ToroidalEdgeStrategy());
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 3; col++) {
+        toroidalGrid.addCell(new DefaultCell(0, new Double(row, col)));
+      }
+    }
+    toroidalGrid.updateCell(new DefaultCell(1, new Double(2, 1))); // Top of (0, 1) after wrapping
+    assertEquals(2, sim.rules().getNextState(toroidalGrid.getCell(0, 1), toroidalGrid));
+  }
+}
@@ -0,0 +1,112 @@
+package cellsociety.model.simulation.rules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cellsociety.model.simulation.InvalidParameterException;
+import org.junit.jupiter.api.Test;
+
+class LifeRuleTableTest {
+
+  private static final String[] LETTERS = {"", "ce", "ceaikn", "ceaiknjqry", "ceaiknjqrytwz",
+      "ceaiknjqry", "ceaikn", "ce", ""};
+
+  @Test
+  void LifeRuleTable_totalisticRuleString_matchesNeighborCounts()
+      throws InvalidParameterException {
+    LifeRuleTable table = new LifeRuleTable("B36/S23");
+    for (int neighborhood = 0; neighborhood < LifeRuleTable.NEIGHBORHOOD_SIZE; neighborhood++) {
+      boolean alive = (neighborhood & LifeRuleTable.CENTER_BIT) != 0;
+      int count = Integer.bitCount(neighborhood & ~LifeRuleTable.CENTER_BIT);
+      boolean expected = alive ? (count == 2 || count == 3) : (count == 3 || count == 6);
+      assertEquals(expected ? 1 : 0, table.getNextState(neighborhood));
+    }
+    assertTrue(table.isTotalistic());
+    assertEquals((1 << 3) | (1 << 6), table.getBirthMask());
+    assertEquals((1 << 2) | (1 << 3), table.getSurviveMask());
+  }
+
+  @Test
+  void LifeRuleTable_everyLetter_partitionsNeighborConfigurations()
+      throws InvalidParameterException {
+    for (int count = 1; count < LETTERS.length - 1; count++) {
+      int[] matches = new int[LifeRuleTable.NEIGHBORHOOD_SIZE];
+      for (char letter : LETTERS[count].toCharArray()) {
+        LifeRuleTable table = new LifeRuleTable("B" + count + letter + "/S9");
+        for (int neighborhood = 0; neighborhood < matches.length; neighborhood++) {
+          matches[neighborhood] += table.getNextState(neighborhood);
+        }
+      }
+      for (int neighborhood = 0; neighborhood < matches.length; neighborhood++) {
+        boolean hasCount = (neighborhood & LifeRuleTable.CENTER_BIT) == 0
+            && Integer.bitCount(neighborhood) == count;
+        assertEquals(hasCount ? 1 : 0, matches[neighborhood],
+            "Each configuration with " + count + " neighbors should have exactly one letter");
+      }
+    }
+  }
+
+  @Test
+  void LifeRuleTable_allLettersOfCount_equalsTotalisticRuleString()
+      throws InvalidParameterException {
+    LifeRuleTable letters = new LifeRuleTable("B3ceaiknjqry/S2ceaikn3ceaiknjqry");
+    LifeRuleTable digits = new LifeRuleTable("B3/S23");
+    for (int neighborhood = 0; neighborhood < LifeRuleTable.NEIGHBORHOOD_SIZE; neighborhood++) {
+      assertEquals(digits.getNextState(neighborhood), letters.getNextState(neighborhood));
+    }
+    assertTrue(letters.isTotalistic());
+  }
+
+  @Test
+  void LifeRuleTable_excludedLetter_onlyExcludesThatConfiguration()
+      throws InvalidParameterException {
+    LifeRuleTable table = new LifeRuleTable("B2-a/S12");
+    assertEquals(0, table.getNextState(0b000_000_011), "Adjacent neighbors (2a) are excluded");
+    assertEquals(1, table.getNextState(0b000_000_101), "Corner neighbors (2c) give birth");
+    assertEquals(1, table.getNextState(0b000_001_010), "Edge neighbors (2e) give birth");
+    assertFalse(table.isTotalistic());
+  }
+
+  @Test
+  void LifeRuleTable_rotatedConfiguration_hasSameNextState() throws InvalidParameterException {
+    LifeRuleTable table = new LifeRuleTable("B3i/S23");
+    assertEquals(1, table.getNextState(0b000_000_111), "Top row (3i) gives birth");
+    assertEquals(1, table.getNextState(0b001_001_001), "Left column gives birth");
+    assertEquals(0, table.getNextState(0b000_001_011), "3a does not give birth");
+  }
+
+  @Test
+  void LifeRuleTable_emptySurviveConditions_noCellSurvives() throws InvalidParameterException {
+    LifeRuleTable table = new LifeRuleTable("B2/S");
+    for (int neighborhood = 0; neighborhood < LifeRuleTable.NEIGHBORHOOD_SIZE; neighborhood++) {
+      boolean alive = (neighborhood & LifeRuleTable.CENTER_BIT) != 0;
+      boolean born = !alive && Integer.bitCount(neighborhood) == 2;
+      assertEquals(born ? 1 : 0, table.getNextState(neighborhood));
+    }
+    assertEquals(1 << 2, table.getBirthMask());
+    assertEquals(0, table.getSurviveMask());
+  }
+
+  @Test
+  void LifeRuleTable_emptyBirthConditions_noCellIsBorn() throws InvalidParameterException {
+    LifeRuleTable table = new LifeRuleTable("B/S012345678");
+    for (int neighborhood = 0; neighborhood < LifeRuleTable.NEIGHBORHOOD_SIZE; neighborhood++) {
+      boolean alive = (neighborhood & LifeRuleTable.CENTER_BIT) != 0;
+      assertEquals(alive ? 1 : 0, table.getNextState(neighborhood));
+    }
+    assertEquals(0, table.getBirthMask());
+    assertEquals((1 << 9) - 1, table.getSurviveMask());
+    assertTrue(table.isTotalistic());
+  }
+
+  @Test
+  void LifeRuleTable_malformedRuleString_throwsException() {
+    for (String ruleString : new String[]{"B/S", "B3x/S23", "B3-/S23", "B0c/S23", "S23/B3",
+        "B3/S23/C2"}) {
+      assertThrows(InvalidParameterException.class, () -> new LifeRuleTable(ruleString),
+          ruleString + " should not be a valid rule string");
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package cellsociety.model.simulation.rules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import cellsociety.model.Grid;
+import cellsociety.model.cell.Cell;
+import cellsociety.model.edge.FixedEdgeStrategy;
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.Parameter;
+import cellsociety.model.simulation.neighbors.MooreNeighbors;
+import cellsociety.model.simulation.neighbors.VonNeumannNeighbors;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import util.TestUtils;
+
+class RuleTableRulesTest {
+
+  @Test
+  void getNextState_langtonsLoopsTable_matchesLangtonsLoopsRules()
+      throws InvalidParameterException {
+    RuleTableRules tableRules = createRules("Langtons-Loops.table");
+    LangtonsLoopsRules langtonsRules = new LangtonsLoopsRules(new HashMap<>(),
+        new VonNeumannNeighbors(1));
+    Grid grid = createRandomGrid(8);
+    assertEquals(8, tableRules.getNumberStates());
+    for (int row = 0; row < grid.getRows(); row++) {
+      for (int col = 0; col < grid.getCols(); col++) {
+        Cell cell = grid.getCell(row, col);
+        assertEquals(langtonsRules.getNextState(cell, grid), tableRules.getNextState(cell, grid));
+      }
+    }
+  }
+
+  @Test
+  void getNextState_lifeTree_matchesGameOfLifeRules() throws InvalidParameterException {
+    RuleTableRules treeRules = createRules("Life.tree");
+    GameOfLifeRules lifeRules = new GameOfLifeRules(new HashMap<>(), new MooreNeighbors(1));
+    Grid grid = createRandomGrid(2);
+    assertEquals(2, treeRules.getNumberStates());
+    for (int row = 0; row < grid.getRows(); row++) {
+      for (int col = 0; col < grid.getCols(); col++) {
+        Cell cell = grid.getCell(row, col);
+        assertEquals(lifeRules.getNextState(cell, grid), treeRules.getNextState(cell, grid));
+      }
+    }
+  }
+
+  @Test
+  void createRules_missingRuleFile_throwsException() {
+    assertThrows(InvalidParameterException.class, () -> createRules("Missing.table"));
+    assertThrows(InvalidParameterException.class,
+        () -> new RuleTableRules(new HashMap<>(), new MooreNeighbors(1)));
+  }
+
+  private RuleTableRules createRules(String ruleFile) throws InvalidParameterException {
+    return new RuleTableRules(Map.of(RuleTableRules.RULE_FILE, new Parameter<>(ruleFile)),
+        new MooreNeighbors(1));
+  }
+
+  private Grid createRandomGrid(int numStates) {
+    Grid grid = new Grid(20, 20, new FixedEdgeStrategy());
+    Random random = new Random(numStates);
+    TestUtils.initializeGrid(grid, (row, col) -> random.nextInt(numStates));
+    return grid;
+  }
+}
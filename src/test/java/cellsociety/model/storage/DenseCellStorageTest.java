@@ -0,0 +1,72 @@
+package cellsociety.model.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cellsociety.model.cell.Cell;
+import cellsociety.model.cell.DefaultCell;
+import java.awt.geom.Point2D.Double;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DenseCellStorageTest {
+
+  private DenseCellStorage myStorage;
+
+  @BeforeEach
+  void setUp() {
+    myStorage = new DenseCellStorage(3, 4);
+  }
+
+  @Test
+  void get_EmptyLocation_ReturnsNull() {
+    assertNull(myStorage.get(1, 1));
+    assertEquals(-1, myStorage.getState(1, 1));
+    assertFalse(myStorage.contains(1, 1));
+  }
+
+  @Test
+  void put_NewCell_StoredAtLocation() {
+    Cell cell = new DefaultCell(2, new Double(2, 3));
+    myStorage.put(cell);
+    assertEquals(cell, myStorage.get(2, 3));
+    assertEquals(2, myStorage.getState(2, 3));
+    assertTrue(myStorage.contains(2, 3));
+  }
+
+  @Test
+  void put_ExistingLocation_ReplacesCell() {
+    myStorage.put(new DefaultCell(0, new Double(1, 2)));
+    myStorage.put(new DefaultCell(1, new Double(1, 2)));
+    assertEquals(1, myStorage.getState(1, 2));
+    assertEquals(1, myStorage.getCells().size());
+  }
+
+  @Test
+  void getCells_MutateReturnedList_StorageUnchanged() {
+    myStorage.put(new DefaultCell(0, new Double(0, 0)));
+    myStorage.put(new DefaultCell(1, new Double(2, 1)));
+    List<Cell> cells = myStorage.getCells();
+    assertEquals(2, cells.size());
+    cells.clear();
+    assertEquals(2, myStorage.getCells().size());
+  }
+
+  @Test
+  void swapBuffers_WrittenBackBuffer_BecomesCurrentState() {
+    myStorage.put(new DefaultCell(0, new Double(1, 1)));
+    Cell original = myStorage.get(1, 1);
+    int[] backBuffer = myStorage.getBackBuffer();
+    Arrays.fill(backBuffer, -1);
+    backBuffer[4 + 1] = 1;
+    myStorage.swapBuffers();
+    assertEquals(1, myStorage.getState(1, 1));
+    assertEquals(0, myStorage.getPreviousState(1, 1));
+    assertEquals(1, myStorage.get(1, 1).getState());
+    assertEquals(original.getLocation(), myStorage.get(1, 1).getLocation());
+  }
+}
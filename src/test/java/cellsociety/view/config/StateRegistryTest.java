@@ -0,0 +1,64 @@
+package cellsociety.view.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import cellsociety.model.simulation.InvalidParameterException;
+import cellsociety.model.simulation.Simulation;
+import cellsociety.model.simulation.SimulationMetaData;
+import cellsociety.model.simulation.neighbors.MooreNeighbors;
+import cellsociety.model.simulation.rules.GameOfLifeRules;
+import java.util.HashMap;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StateRegistryTest {
+
+  private Simulation mySimulation;
+  private StateRegistry myRegistry;
+
+  @BeforeEach
+  void setUp() throws InvalidParameterException {
+    mySimulation = createSimulation();
+    myRegistry = StateDisplayConfig.getStateRegistry(mySimulation);
+  }
+
+  @Test
+  void getStateRegistry_SameSimulation_ReturnsSameRegistry() {
+    assertSame(myRegistry, StateDisplayConfig.getStateRegistry(mySimulation));
+    assertTrue(myRegistry.isFor(mySimulation));
+    assertEquals(2, myRegistry.getNumberStates());
+  }
+
+  @Test
+  void getStateRegistry_NewSimulation_BuildsNewRegistry() throws InvalidParameterException {
+    Simulation other = createSimulation();
+    StateRegistry otherRegistry = StateDisplayConfig.getStateRegistry(other);
+    assertTrue(otherRegistry.isFor(other));
+    assertFalse(otherRegistry.isFor(mySimulation));
+  }
+
+  @Test
+  void getArgbColor_GameOfLifeStates_MatchesColors() {
+    assertEquals(Color.WHITE, myRegistry.getColor(0));
+    assertEquals(0xffffffff, myRegistry.getArgbColor(0));
+    assertEquals(0xff000000, myRegistry.getArgbColor(1));
+    assertSame(myRegistry.getStateInfo(1), StateDisplayConfig.getStateInfo(mySimulation, 1));
+  }
+
+  @Test
+  void getState_NamesInAnyLanguage_FindsState() {
+    assertEquals(1, myRegistry.getState("Alive"));
+    assertEquals(0, myRegistry.getState("muerto"));
+    assertEquals(1, myRegistry.getState("ALIVEWAY"));
+    assertEquals(StateRegistry.NO_STATE, myRegistry.getState("Sleeping"));
+  }
+
+  private Simulation createSimulation() throws InvalidParameterException {
+    return new Simulation(new GameOfLifeRules(new HashMap<>(), new MooreNeighbors(1)),
+        new SimulationMetaData("GameOfLife", "Tester", "Author", "Registry test", "Moore", 1));
+  }
+}
@@ -0,0 +1,78 @@
+package cellsociety.view.grid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verify;
+
+import cellsociety.controller.MainController;
+import cellsociety.view.grid.GridViewFactory.CellShapeType;
+import javafx.geometry.Point2D;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelReader;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import util.DukeApplicationTest;
+
+class PixelGridViewTest extends DukeApplicationTest {
+
+  private static final int NUM_CELLS = 200;
+  private static final int CELL_SIZE = 2;
+  private MainController myMainController;
+  private PixelGridView myGridView;
+
+  @Override
+  public void start(Stage stage) {
+    myMainController = Mockito.mock(MainController.class);
+    myGridView = new PixelGridView(NUM_CELLS * CELL_SIZE, NUM_CELLS * CELL_SIZE, NUM_CELLS,
+        NUM_CELLS, myMainController);
+    stage.setScene(new Scene(new Group(myGridView)));
+    stage.show();
+  }
+
+  @Test
+  void setColor_OneCell_RepaintsOnlyItsPixel() {
+    runAsJFXAction(() -> myGridView.setColor(3, 5, Color.RED));
+    PixelReader pixels = getPixels();
+    assertEquals(0xffff0000, pixels.getArgb(5, 3));
+    assertEquals(0xffffffff, pixels.getArgb(5, 4));
+    assertEquals(0xffffffff, pixels.getArgb(3, 5));
+  }
+
+  @Test
+  void setOpacity_HalfOpacity_BlendsAlphaOfPixel() {
+    runAsJFXAction(() -> {
+      myGridView.setColor(0, 0, Color.BLACK);
+      myGridView.setOpacity(0, 0, 0.5);
+    });
+    assertEquals(0x80000000, getPixels().getArgb(0, 0));
+  }
+
+  @Test
+  void click_PointInsideCell_ChangesStateOfCell() {
+    Point2D point = myGridView.localToScreen(5 * CELL_SIZE + 1, 3 * CELL_SIZE + 1);
+    clickOn(point);
+    verify(myMainController).changeCellState(3, 5);
+  }
+
+  @Test
+  void getCell_PixelGrid_HasNoCellViews() {
+    assertNull(myGridView.getCell(0, 0));
+  }
+
+  @Test
+  void createCellView_LargeRectangleGrid_DrawsPixels() {
+    assertInstanceOf(PixelGridView.class, GridViewFactory.createCellView(CellShapeType.RECTANGLE,
+        NUM_CELLS, NUM_CELLS, NUM_CELLS, NUM_CELLS, myMainController));
+    assertInstanceOf(RectangleGridView.class, GridViewFactory.createCellView(
+        CellShapeType.RECTANGLE, NUM_CELLS, NUM_CELLS, 10, 10, myMainController));
+  }
+
+  private PixelReader getPixels() {
+    return ((ImageView) myGridView.getChildren().getFirst()).getImage().getPixelReader();
+  }
+}
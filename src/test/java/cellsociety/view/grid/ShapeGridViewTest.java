@@ -0,0 +1,83 @@
+package cellsociety.view.grid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import cellsociety.controller.MainController;
+import cellsociety.view.grid.GridViewFactory.CellShapeType;
+import java.awt.geom.Point2D;
+import javafx.geometry.Bounds;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.shape.SVGPath;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import util.DukeApplicationTest;
+
+class ShapeGridViewTest extends DukeApplicationTest {
+
+  private static final int NUM_ROWS = 7;
+  private static final int NUM_COLUMNS = 9;
+  private MainController myMainController;
+  private GridView myTriangleGridView;
+
+  @Override
+  public void start(Stage stage) {
+    myMainController = Mockito.mock(MainController.class);
+    myTriangleGridView = createGridView(CellShapeType.TRIANGLE);
+    stage.setScene(new Scene(new Group(myTriangleGridView)));
+    stage.show();
+  }
+
+  @Test
+  void getCellAt_CenterOfEveryCell_FindsThatCell() {
+    for (CellShapeType shapeType : CellShapeType.values()) {
+      GridView gridView = createGridView(shapeType);
+      for (int row = 0; row < NUM_ROWS; row++) {
+        for (int col = 0; col < NUM_COLUMNS; col++) {
+          Bounds bounds = gridView.getCell(row, col).getBoundsInParent();
+          assertEquals(new Point2D.Double(row, col),
+              gridView.getCellAt(bounds.getCenterX(), bounds.getCenterY()),
+              String.format("%s cell (%d, %d)", shapeType, row, col));
+        }
+      }
+    }
+  }
+
+  @Test
+  void getCellAt_OutsideEveryCell_FindsNoCell() {
+    GridView hexagonGridView = createGridView(CellShapeType.HEXAGON);
+    Bounds firstHexagon = hexagonGridView.getCell(0, 0).getBoundsInParent();
+    assertNull(hexagonGridView.getCellAt(firstHexagon.getMinX() + 1, firstHexagon.getMinY() + 1));
+    assertNull(myTriangleGridView.getCellAt(1, 1)); // left of the first upright triangle
+    assertNull(myTriangleGridView.getCellAt(-5, 10));
+  }
+
+  @Test
+  void click_CellOfTriangleGrid_ChangesStateOfCell() {
+    Bounds bounds = myTriangleGridView.getCell(2, 3).getBoundsInParent();
+    clickOn(myTriangleGridView.localToScreen(bounds.getCenterX(), bounds.getCenterY()));
+    verify(myMainController).changeCellState(2, 3);
+  }
+
+  @Test
+  void setGridLines_TriangleGrid_TogglesOneOutlinePerCell() {
+    SVGPath gridLines = (SVGPath) myTriangleGridView.lookup("#gridLines");
+    assertEquals(NUM_ROWS * NUM_COLUMNS, gridLines.getContent().chars().filter(c -> c == 'Z')
+        .count());
+    assertTrue(gridLines.isMouseTransparent());
+    myTriangleGridView.setGridLines(false);
+    assertFalse(gridLines.isVisible());
+    myTriangleGridView.setGridLines(true);
+    assertTrue(gridLines.isVisible());
+  }
+
+  private GridView createGridView(CellShapeType shapeType) {
+    return GridViewFactory.createCellView(shapeType, 600, 500, NUM_ROWS, NUM_COLUMNS,
+        myMainController);
+  }
+}
@@ -5,9 +5,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import cellsociety.model.Grid;
+import cellsociety.model.cell.CellUpdate;
 import cellsociety.model.cell.DefaultCell;
 import cellsociety.view.components.AlertField;
 import java.awt.geom.Point2D.Double;
+import java.util.function.IntBinaryOperator;
 import javafx.scene.control.Button;
 import javafx.scene.text.Text;
 
@@ -61,4 +63,43 @@ public class TestUtils extends DukeApplicationTest {
     }
   }
 
+  /**
+   * Initialize a grid with cells whose states are a function of their location. Cells are added
+   * row by row, so a function drawing from a seeded generator always fills the grid the same way
+   *
+   * @param grid    The grid you want to initialize
+   * @param stateAt The state of the cell at a row and column
+   */
+  public static void initializeGrid(Grid grid, IntBinaryOperator stateAt) {
+    for (int i = 0; i < grid.getRows(); i++) {
+      for (int j = 0; j < grid.getCols(); j++) {
+        grid.addCell(new DefaultCell(stateAt.applyAsInt(i, j), new Double(i, j)));
+      }
+    }
+  }
+
+  /**
+   * Set the cells at the provided locations to state 1
+   *
+   * @param grid  The grid holding the cells
+   * @param cells The row and column of every cell to set
+   */
+  public static void setAliveCells(Grid grid, int[][] cells) {
+    for (int[] cell : cells) {
+      grid.updateCell(new DefaultCell(1, new Double(cell[0], cell[1])));
+    }
+  }
+
+  /**
+   * Create the update of a cell to a new default cell
+   *
+   * @param row   The row of the cell
+   * @param col   The column of the cell
+   * @param state The new state of the cell
+   * @return An update holding a default cell of the state at the location
+   */
+  public static CellUpdate createUpdate(int row, int col, int state) {
+    return new CellUpdate(new Double(row, col), new DefaultCell(state, new Double(row, col)));
+  }
+
 }